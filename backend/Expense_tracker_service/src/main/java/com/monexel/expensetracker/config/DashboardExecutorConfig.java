@@ -0,0 +1,42 @@
+package com.monexel.expensetracker.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configures the bounded thread pool used to run the dashboard sub-queries
+ * concurrently.
+ *
+ * <p>
+ * When the pool and its queue are full, the calling request thread runs the
+ * sub-query itself, so overload degrades to sequential execution instead of
+ * failing requests.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Configuration
+public class DashboardExecutorConfig {
+
+	@Bean(name = "dashboardExecutor")
+	public ThreadPoolTaskExecutor dashboardExecutor(@Value("${app.dashboard.executor.core-size:8}") int coreSize,
+			@Value("${app.dashboard.executor.max-size:16}") int maxSize,
+			@Value("${app.dashboard.executor.queue-capacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("dashboard-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.monexel.expensetracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configures the bounded thread pool that runs statement imports in the
+ * background.
+ *
+ * <p>
+ * An upload is answered as soon as its job is saved, and the statement is
+ * then written chunk by chunk here. The pool size caps how many imports write
+ * at once; when the pool and its queue are full the upload is rejected with
+ * 429, and its job can be resumed later.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Configuration
+public class ImportExecutorConfig {
+
+	@Bean(name = "importExecutor")
+	public ThreadPoolTaskExecutor importExecutor(@Value("${app.import.executor.pool-size:2}") int poolSize,
+			@Value("${app.import.executor.queue-capacity:8}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("statement-import-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+}
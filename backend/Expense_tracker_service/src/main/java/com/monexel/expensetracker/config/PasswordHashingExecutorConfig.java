@@ -0,0 +1,41 @@
+package com.monexel.expensetracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configures the bounded thread pool that runs all BCrypt password hashing
+ * and verification.
+ *
+ * <p>
+ * BCrypt is deliberately slow, so a burst of sign-ins hashed on request
+ * threads can occupy every worker and starve unrelated traffic. Running it
+ * here caps the CPU it can take at the pool size, and when the pool and its
+ * queue are full the task is rejected at once and the request answered with
+ * 429 instead of waiting.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Configuration
+public class PasswordHashingExecutorConfig {
+
+	@Bean(name = "passwordHashingExecutor")
+	public ThreadPoolTaskExecutor passwordHashingExecutor(
+			@Value("${app.security.password-hashing.pool-size:4}") int poolSize,
+			@Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hashing-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
+
+}
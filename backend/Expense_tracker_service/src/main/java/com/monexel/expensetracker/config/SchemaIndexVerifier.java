@@ -0,0 +1,98 @@
+package com.monexel.expensetracker.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when an index the repository queries rely on is missing or
+ * invalid.
+ *
+ * <p>
+ * The indexes are created by the Flyway migrations in
+ * {@code db/migration/postgresql}. An index built concurrently is left behind
+ * as invalid when its build fails, and the planner then ignores it; since
+ * either way the queries silently fall back to scanning whole tables, the
+ * application refuses to start instead. The check runs once all singletons,
+ * including the Flyway migration, are initialized and before the web server
+ * accepts requests. It only applies to PostgreSQL and can be turned off with
+ * {@code app.schema.verify-indexes}.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+	/** Indexes created by the migrations, keep in sync with them. */
+	public static final List<String> EXPECTED_INDEXES = List.of("idx_expenses_user_date", "idx_expenses_category",
+			"idx_income_user_date", "idx_borrowed_money_user_date", "idx_categories_created_by",
+			"idx_monthly_rollup_user_kind_month", "idx_expenses_title_fts", "idx_income_text_fts",
+			"idx_borrowed_money_from_fts");
+
+	private static final String VALID_INDEXES_QUERY = "SELECT c.relname FROM pg_index i "
+			+ "JOIN pg_class c ON c.oid = i.indexrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+			+ "WHERE n.nspname = current_schema() AND i.indisvalid AND i.indisready";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final boolean enabled;
+
+	public SchemaIndexVerifier(JdbcTemplate jdbcTemplate,
+			@Value("${app.schema.verify-indexes:true}") boolean enabled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		if (!enabled) {
+			return;
+		}
+		String product = jdbcTemplate
+				.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+		if (!"PostgreSQL".equalsIgnoreCase(product)) {
+			LOGGER.debug("Skipping the index check on {}", product);
+			return;
+		}
+		List<String> missing = missingIndexes();
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("Missing or invalid database indexes: " + String.join(", ", missing)
+					+ ". Run the migrations, or drop invalid indexes and run them again.");
+		}
+		LOGGER.info("All {} expected database indexes are present", EXPECTED_INDEXES.size());
+	}
+
+	/**
+	 * Returns the expected indexes that do not exist in the current schema or
+	 * are not valid.
+	 *
+	 * @return the names of the missing indexes, in the order of
+	 *         {@link #EXPECTED_INDEXES}
+	 */
+
+	public List<String> missingIndexes() {
+		Set<String> present = new HashSet<>(jdbcTemplate.queryForList(VALID_INDEXES_QUERY, String.class));
+		List<String> missing = new ArrayList<>();
+		for (String index : EXPECTED_INDEXES) {
+			if (!present.contains(index)) {
+				missing.add(index);
+			}
+		}
+		return missing;
+	}
+
+}
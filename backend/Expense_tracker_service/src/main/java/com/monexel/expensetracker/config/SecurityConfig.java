@@ -2,8 +2,12 @@
 package com.monexel.expensetracker.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -20,7 +24,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
 import com.monexel.expensetracker.jwtutils.AuthEntryPointJwt;
+import com.monexel.expensetracker.jwtutils.BoundedPasswordEncoder;
 import com.monexel.expensetracker.jwtutils.JwtAuthEntryPointJwt;
+import com.monexel.expensetracker.jwtutils.RateLimitFilter;
 
 @EnableWebSecurity
 @Configuration
@@ -33,6 +39,9 @@ public class SecurityConfig {
 	@Autowired
 	private AuthEntryPointJwt authEntryPointJwt2;
 
+	@Autowired
+	private RateLimitFilter rateLimitFilter;
+
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
 
@@ -43,10 +52,24 @@ public class SecurityConfig {
 								.permitAll().requestMatchers("/api/users/**").permitAll()
 								.anyRequest().authenticated())
 				.exceptionHandling(exception -> exception.authenticationEntryPoint(authEntryPointJwt2))
-				.addFilterBefore(authEntryPointJwt, UsernamePasswordAuthenticationFilter.class);
+				.addFilterBefore(authEntryPointJwt, UsernamePasswordAuthenticationFilter.class)
+				.addFilterAfter(rateLimitFilter, UsernamePasswordAuthenticationFilter.class);
 		return httpSecurity.build();
 	}
 
+	/**
+	 * Keeps the rate limit filter out of the servlet filter chain. As a
+	 * component it would otherwise also be registered there and run before the
+	 * security chain, where no user is authenticated yet.
+	 */
+
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+		registration.setEnabled(false);
+		return registration;
+	}
+
 	@Bean
 	public CorsFilter corsFilter() {
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -60,8 +83,9 @@ public class SecurityConfig {
 	}
 
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength,
+			@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor passwordHashingExecutor) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), passwordHashingExecutor);
 	}
 
 	@Bean
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.monexel.expensetracker.request.BorrowedMoneyRequest;
 import com.monexel.expensetracker.response.BorrowedMoneyResponse;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.service.BorrowedMoneyService;
 
 import jakarta.validation.Valid;
@@ -108,4 +110,31 @@ public class BorrowedMoneyController {
 		return ResponseEntity.ok(borrowedMoneyService.getAllBorrowedMoneyByUser(userId, startDate, endDate));
 	}
 
+	/**
+	 * Retrieves one page of borrowed money records for a user, newest first, optionally
+	 * filtered by date range. Pass the returned {@code nextCursor} to fetch the
+	 * next page; it is {@code null} on the last page.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate   optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @param cursor    optional cursor returned by the previous page
+	 * @param size      optional page size (default 20, at most 100)
+	 * @return ResponseEntity containing a {@link CursorPage} of {@link BorrowedMoneyResponse}
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/borrowed-money/getBorrowedMoneyPageByUser/1?size=50&cursor=MjAyNS0xMS0xNDo0Mg
+	 *         </pre>
+	 */
+
+	@GetMapping("/getBorrowedMoneyPageByUser/{userId}")
+	public ResponseEntity<CursorPage<BorrowedMoneyResponse>> getBorrowedMoneyPageByUser(@PathVariable Long userId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(borrowedMoneyService.getBorrowedMoneyPageByUser(userId, startDate, endDate, cursor, size));
+	}
+
 }
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.monexel.expensetracker.request.CategoryRequest;
@@ -115,4 +116,29 @@ public class CategoryController {
 		return ResponseEntity.ok(categoryService.getCustomCategoriesByUser(userId));
 	}
 
+	/**
+	 * Searches the categories a user may use, shared and custom, by name
+	 * prefix, for autocomplete.
+	 *
+	 * <p>
+	 * Example:
+	 * </p>
+	 *
+	 * <pre>
+	 * GET /api/categories/searchCategories/1?prefix=fo&amp;limit=5
+	 * </pre>
+	 *
+	 * @param userId the ID of the user
+	 * @param prefix the case-insensitive name prefix (optional)
+	 * @param limit  the maximum number of results (default 10, at most 50)
+	 * @return ResponseEntity containing the matching {@link CategoryResponse}
+	 *         list, ordered by name
+	 */
+
+	@GetMapping("/searchCategories/{userId}")
+	public ResponseEntity<List<CategoryResponse>> searchCategories(@PathVariable Long userId,
+			@RequestParam(required = false) String prefix, @RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(categoryService.searchCategories(userId, prefix, limit));
+	}
+
 }
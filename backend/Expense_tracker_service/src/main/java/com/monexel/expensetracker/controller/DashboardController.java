@@ -1,6 +1,7 @@
 package com.monexel.expensetracker.controller;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -11,7 +12,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.monexel.expensetracker.request.SeriesGranularity;
+import com.monexel.expensetracker.response.CategoryBreakdownResponse;
 import com.monexel.expensetracker.response.DashboardResponse;
+import com.monexel.expensetracker.response.SeriesResponse;
 import com.monexel.expensetracker.service.DashboardService;
 
 /**
@@ -60,4 +64,90 @@ public class DashboardController {
 		return ResponseEntity.ok(dashboardService.getDashboardSummary(userId, startDate, endDate));
 	}
 
+	/**
+	 * Retrieves the all-time dashboard summary for a specific user, served from
+	 * the user's balance ledger.
+	 *
+	 * @param userId the ID of the user whose summary is requested
+	 * @return ResponseEntity containing the {@link DashboardResponse} with the
+	 *         running totals
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/dashboard/getAllTimeSummary/1
+	 *         </pre>
+	 */
+
+	@GetMapping("/getAllTimeSummary/{userId}")
+	public ResponseEntity<DashboardResponse> getAllTimeSummary(@PathVariable Long userId) {
+		return ResponseEntity.ok(dashboardService.getAllTimeSummary(userId));
+	}
+
+	/**
+	 * Retrieves income, expense and borrowed money totals for a specific user
+	 * bucketed by day, week or month. If no start and end dates are provided,
+	 * defaults to the current month.
+	 *
+	 * @param userId      the ID of the user whose series is requested
+	 * @param startDate   optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate     optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @param granularity bucket size: DAILY (default), WEEKLY or MONTHLY
+	 * @return ResponseEntity containing the {@link SeriesResponse} with one point
+	 *         per bucket
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/dashboard/getSeries/1?startDate=2025-01-01&endDate=2025-12-31&granularity=MONTHLY
+	 *         </pre>
+	 */
+
+	@GetMapping("/getSeries/{userId}")
+	public ResponseEntity<SeriesResponse> getSeries(@PathVariable Long userId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(defaultValue = "DAILY") SeriesGranularity granularity) {
+
+		if (startDate == null || endDate == null) {
+			LocalDate now = LocalDate.now();
+			startDate = now.withDayOfMonth(1);
+			endDate = now.withDayOfMonth(now.lengthOfMonth());
+		}
+
+		return ResponseEntity.ok(dashboardService.getSeries(userId, startDate, endDate, granularity));
+	}
+
+	/**
+	 * Retrieves the total amount and number of expenses per category for a
+	 * specific user. If no start and end dates are provided, defaults to the
+	 * current month.
+	 *
+	 * @param userId    the ID of the user whose breakdown is requested
+	 * @param startDate optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate   optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @return ResponseEntity containing a list of {@link CategoryBreakdownResponse},
+	 *         largest total first
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/dashboard/getCategoryBreakdown/1?startDate=2025-11-01&endDate=2025-11-30
+	 *         </pre>
+	 */
+
+	@GetMapping("/getCategoryBreakdown/{userId}")
+	public ResponseEntity<List<CategoryBreakdownResponse>> getCategoryBreakdown(@PathVariable Long userId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+		if (startDate == null || endDate == null) {
+			LocalDate now = LocalDate.now();
+			startDate = now.withDayOfMonth(1);
+			endDate = now.withDayOfMonth(now.lengthOfMonth());
+		}
+
+		return ResponseEntity.ok(dashboardService.getCategoryBreakdown(userId, startDate, endDate));
+	}
+
 }
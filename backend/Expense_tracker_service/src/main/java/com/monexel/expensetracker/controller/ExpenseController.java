@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,7 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.monexel.expensetracker.request.ExpenseBatchRequest;
 import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.response.CategorySuggestionResponse;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.ExpenseResponse;
 import com.monexel.expensetracker.service.ExpenseService;
 
@@ -56,6 +60,27 @@ public class ExpenseController {
 		return new ResponseEntity<>(expenseService.addExpense(request), HttpStatus.CREATED);
 	}
 
+	/**
+	 * Adds a batch of expenses for one user. The batch is validated and funded as
+	 * a whole: either every expense is created or none is.
+	 *
+	 * @param request the {@link ExpenseBatchRequest} containing the user and up
+	 *                to 10,000 expenses
+	 * @return ResponseEntity containing the created {@link ExpenseResponse}
+	 *         records and HTTP status 201 (Created)
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 *         POST / api / expenses / addExpenses
+	 *         </pre>
+	 */
+
+	@PostMapping("/addExpenses")
+	public ResponseEntity<List<ExpenseResponse>> addExpenses(@RequestBody @Valid ExpenseBatchRequest request) {
+		return new ResponseEntity<>(expenseService.addExpenses(request), HttpStatus.CREATED);
+	}
+
 	/**
 	 * Updates an existing expense by ID.
 	 *
@@ -138,4 +163,54 @@ public class ExpenseController {
 		return ResponseEntity.ok(expenseService.getAllExpensesByUser(userId, startDate, endDate));
 	}
 
+	/**
+	 * Retrieves one page of expenses for a user, newest first, optionally
+	 * filtered by date range. Pass the returned {@code nextCursor} to fetch the
+	 * next page; it is {@code null} on the last page.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate   optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @param cursor    optional cursor returned by the previous page
+	 * @param size      optional page size (default 20, at most 100)
+	 * @return ResponseEntity containing a {@link CursorPage} of {@link ExpenseResponse}
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/expenses/getExpensesPageByUser/1?size=50&cursor=MjAyNS0xMS0xNDo0Mg
+	 *         </pre>
+	 */
+
+	@GetMapping("/getExpensesPageByUser/{userId}")
+	public ResponseEntity<CursorPage<ExpenseResponse>> getExpensesPageByUser(@PathVariable Long userId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(expenseService.getExpensesPageByUser(userId, startDate, endDate, cursor, size));
+	}
+
+	/**
+	 * Suggests categories for an expense title, from the categories the user
+	 * and everyone else filed similar titles under.
+	 *
+	 * @param userId the ID of the user
+	 * @param title  the title of the expense being entered
+	 * @param limit  optional number of suggestions (default 3, at most 10)
+	 * @return ResponseEntity containing the {@link CategorySuggestionResponse}
+	 *         list, best first; empty when nothing is known about the title
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/expenses/suggestCategories/1?title=Uber%20to%20office
+	 *         </pre>
+	 */
+
+	@GetMapping("/suggestCategories/{userId}")
+	public ResponseEntity<List<CategorySuggestionResponse>> suggestCategories(@PathVariable Long userId,
+			@RequestParam String title, @RequestParam(required = false) Integer limit) {
+		return ResponseEntity.ok(expenseService.suggestCategories(userId, title, limit));
+	}
+
 }
@@ -0,0 +1,58 @@
+package com.monexel.expensetracker.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.monexel.expensetracker.request.ExportFormat;
+import com.monexel.expensetracker.service.ExportService;
+
+/**
+ * REST controller for exporting a user's full transaction history. The export
+ * is streamed to the client while it is read from the database, so it works
+ * for histories of any size.
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+	@Autowired
+	private ExportService exportService;
+
+	/**
+	 * Exports all expenses, income and borrowed money of a user as a file
+	 * download.
+	 *
+	 * @param userId the ID of the user whose transactions are exported
+	 * @param format output format: NDJSON (default) or CSV
+	 * @return ResponseEntity streaming the export
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/export/getTransactions/1?format=CSV
+	 *         </pre>
+	 */
+
+	@GetMapping("/getTransactions/{userId}")
+	public ResponseEntity<StreamingResponseBody> getTransactions(@PathVariable Long userId,
+			@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+		StreamingResponseBody body = exportService.exportTransactions(userId, format);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"transactions-" + userId + "." + format.getExtension() + "\"")
+				.body(body);
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.monexel.expensetracker.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.monexel.expensetracker.request.StatementFormat;
+import com.monexel.expensetracker.response.ImportJobResponse;
+import com.monexel.expensetracker.service.ImportService;
+
+/**
+ * REST controller for importing bank statements into expenses and incomes.
+ * Uploads are accepted at once and imported in the background, parsed while
+ * they are read and committed in chunks, so statements with hundreds of
+ * thousands of lines can be imported, their progress followed through
+ * {@code getImportJob}, and an import that fails part way resumed.
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+	@Autowired
+	private ImportService importService;
+
+	/**
+	 * Imports a statement for a user. Negative amounts become expenses and
+	 * positive amounts incomes, unless the CSV has a {@code type} column.
+	 *
+	 * @param userId            the ID of the user the statement belongs to
+	 * @param file              the statement file
+	 * @param format            statement format: CSV (default) or OFX
+	 * @param defaultCategoryId category for expenses without one (optional)
+	 * @return ResponseEntity containing the running import job with HTTP 202
+	 *         status
+	 * @throws IOException if the upload cannot be read
+	 *
+	 *                     Example:
+	 * 
+	 *                     <pre>
+	 * POST /api/import/importStatement/1?format=OFX&defaultCategoryId=3
+	 * Content-Type: multipart/form-data (part "file")
+	 *                     </pre>
+	 */
+
+	@PostMapping(value = "/importStatement/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ImportJobResponse> importStatement(@PathVariable Long userId,
+			@RequestParam("file") MultipartFile file, @RequestParam(defaultValue = "CSV") StatementFormat format,
+			@RequestParam(required = false) Long defaultCategoryId) throws IOException {
+		try (InputStream statement = file.getInputStream()) {
+			ImportJobResponse response = importService.importStatement(userId, format, defaultCategoryId,
+					file.getOriginalFilename(), statement);
+			return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
+		}
+	}
+
+	/**
+	 * Resumes a failed import from its checkpoint. The same statement must be
+	 * uploaded again.
+	 *
+	 * @param jobId the ID of the import job
+	 * @param file  the statement file the job was started with
+	 * @return ResponseEntity containing the running import job with HTTP 202
+	 *         status
+	 * @throws IOException if the upload cannot be read
+	 */
+
+	@PostMapping(value = "/resumeStatement/{jobId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ImportJobResponse> resumeStatement(@PathVariable Long jobId,
+			@RequestParam("file") MultipartFile file) throws IOException {
+		try (InputStream statement = file.getInputStream()) {
+			return new ResponseEntity<>(importService.resumeImport(jobId, statement), HttpStatus.ACCEPTED);
+		}
+	}
+
+	/**
+	 * Retrieves the progress of an import job, as of its last committed chunk.
+	 *
+	 * @param jobId the ID of the import job
+	 * @return ResponseEntity containing the import job
+	 */
+
+	@GetMapping("/getImportJob/{jobId}")
+	public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable Long jobId) {
+		return ResponseEntity.ok(importService.getImportJob(jobId));
+	}
+
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.monexel.expensetracker.request.IncomeRequest;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.IncomeResponse;
 import com.monexel.expensetracker.service.IncomeService;
 
@@ -140,4 +142,31 @@ public class IncomeController {
 		return ResponseEntity.ok(incomeService.getAllIncomesByUser(userId, startDate, endDate));
 	}
 
+	/**
+	 * Retrieves one page of income records for a user, newest first, optionally
+	 * filtered by date range. Pass the returned {@code nextCursor} to fetch the
+	 * next page; it is {@code null} on the last page.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate   optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @param cursor    optional cursor returned by the previous page
+	 * @param size      optional page size (default 20, at most 100)
+	 * @return ResponseEntity containing a {@link CursorPage} of {@link IncomeResponse}
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/income/getIncomesPageByUser/1?size=50&cursor=MjAyNS0xMS0xNDo0Mg
+	 *         </pre>
+	 */
+
+	@GetMapping("/getIncomesPageByUser/{userId}")
+	public ResponseEntity<CursorPage<IncomeResponse>> getIncomesPageByUser(@PathVariable Long userId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(incomeService.getIncomesPageByUser(userId, startDate, endDate, cursor, size));
+	}
+
 }
@@ -0,0 +1,67 @@
+package com.monexel.expensetracker.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.monexel.expensetracker.response.CursorPage;
+import com.monexel.expensetracker.response.SearchResultResponse;
+import com.monexel.expensetracker.service.SearchService;
+
+/**
+ * REST controller for searching a user's expenses, income and borrowed money
+ * by text.
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+	@Autowired
+	private SearchService searchService;
+
+	/**
+	 * Searches the expense titles, income sources and descriptions, and lender
+	 * names of a user, best match first. Every word of the query must match the
+	 * start of a word in the text. Pass the returned {@code nextCursor} to fetch
+	 * the next page; it is {@code null} on the last page.
+	 *
+	 * @param userId    the ID of the user
+	 * @param q         the words to search for
+	 * @param startDate optional start date for filtering (ISO format: yyyy-MM-dd)
+	 * @param endDate   optional end date for filtering (ISO format: yyyy-MM-dd)
+	 * @param minAmount optional minimum amount
+	 * @param maxAmount optional maximum amount
+	 * @param cursor    optional cursor returned by the previous page
+	 * @param size      optional page size (default 20, at most 100)
+	 * @return ResponseEntity containing a {@link CursorPage} of {@link SearchResultResponse}
+	 *
+	 *         Example:
+	 * 
+	 *         <pre>
+	 * GET /api/search/searchTransactions/1?q=coffee&startDate=2025-11-01&maxAmount=500
+	 *         </pre>
+	 */
+
+	@GetMapping("/searchTransactions/{userId}")
+	public ResponseEntity<CursorPage<SearchResultResponse>> searchTransactions(@PathVariable Long userId,
+			@RequestParam String q,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+			@RequestParam(required = false) BigDecimal minAmount, @RequestParam(required = false) BigDecimal maxAmount,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size) {
+		return ResponseEntity.ok(searchService.searchTransactions(userId, q, startDate, endDate, minAmount,
+				maxAmount, cursor, size));
+	}
+
+}
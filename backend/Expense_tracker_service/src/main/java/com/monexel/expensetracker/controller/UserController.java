@@ -9,8 +9,7 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,6 +19,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.monexel.expensetracker.exception.PasswordHashingRejectedException;
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
 import com.monexel.expensetracker.jwtutils.JwtUtils;
 import com.monexel.expensetracker.request.ForgotPasswordRequest;
 import com.monexel.expensetracker.request.LoginRequest;
@@ -48,9 +49,6 @@ public class UserController {
 	@Autowired
 	private AuthenticationManager authenticationManager;
 
-	@Autowired
-	private UserDetailsService userDetailsService;
-
 	@Autowired
 	private JwtUtils jwtUtils;
 
@@ -175,6 +173,8 @@ public class UserController {
 	 * @return ResponseEntity containing {@link LoginResponse} with JWT token and
 	 *         user details, or HTTP status 401 (Unauthorized) if authentication
 	 *         fails
+	 * @throws PasswordHashingRejectedException if the password hashing pool is
+	 *                                          saturated (HTTP 429)
 	 *
 	 *         Example:
 	 * 
@@ -187,11 +187,13 @@ public class UserController {
 	public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
 
 		try {
-			authenticationManager.authenticate(
+			// The authenticated principal already carries the ID and role, so the
+			// user is read once, by the authentication itself
+			Authentication authentication = authenticationManager.authenticate(
 					new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-			UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getEmail());
-			String jwt = jwtUtils.generateTokenFromUsername(userDetails.getUsername());
-			UserResponse user = userService.getUserByEmail(loginRequest.getEmail());
+			AuthenticatedUser userDetails = (AuthenticatedUser) authentication.getPrincipal();
+			String jwt = jwtUtils.generateTokenFromUsername(userDetails.getUsername(), userDetails.getId(),
+					userDetails.getRole(), userDetails.getTokenVersion());
 			ResponseCookie cookie = ResponseCookie.from("jwt", jwt).httpOnly(true).secure(true).path("/").maxAge(3600)
 					.sameSite("Strict").build();
 			HttpHeaders headers = new HttpHeaders();
@@ -199,8 +201,10 @@ public class UserController {
 			LoginResponse loginResponse = new LoginResponse();
 			loginResponse.setEmail(userDetails.getUsername());
 			loginResponse.setJwt(jwt);
-			loginResponse.setId(user.getId());
+			loginResponse.setId(userDetails.getId());
 			return new ResponseEntity<>(loginResponse, headers, HttpStatus.OK);
+		} catch (PasswordHashingRejectedException e) {
+			throw e;
 		} catch (Exception e) {
 			return new ResponseEntity<String>("Invalid username or password", HttpStatus.UNAUTHORIZED);
 		}
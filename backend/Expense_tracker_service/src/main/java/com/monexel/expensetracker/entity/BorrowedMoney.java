@@ -5,11 +5,13 @@ import java.time.LocalDate;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,7 +26,9 @@ import jakarta.validation.constraints.NotNull;
  *
  * Fields:
  * <ul>
- *   <li><b>id</b> - Unique identifier for the borrowed money record.</li>
+ *   <li><b>id</b> - Unique identifier for the borrowed money record, drawn from the pooled
+ *   sequence <b>borrowed_money_seq</b> (50 values per round trip) so that inserts can be
+ *   batched.</li>
  *   <li><b>amount</b> - The amount borrowed (cannot be null).</li>
  *   <li><b>borrowedFrom</b> - The source from which money was borrowed (e.g., Friend, Bank).</li>
  *   <li><b>borrowedDate</b> - The date when the money was borrowed.</li>
@@ -48,7 +52,8 @@ import jakarta.validation.constraints.NotNull;
 public class BorrowedMoney {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "borrowed_money_seq")
+	@SequenceGenerator(name = "borrowed_money_seq", sequenceName = "borrowed_money_seq", allocationSize = 50)
 	private Long id;
 
 	@NotNull(message = "Amount cannot be null")
@@ -70,7 +75,7 @@ public class BorrowedMoney {
 
 
 	// Relationship with User
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
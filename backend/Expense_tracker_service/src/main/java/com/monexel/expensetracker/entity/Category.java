@@ -2,6 +2,7 @@ package com.monexel.expensetracker.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -34,7 +35,8 @@ import jakarta.validation.constraints.Size;
  *
  * Relationships:
  * <ul>
- *   <li>Each category is associated with a user who created it.</li>
+ *   <li>Each category is associated with a user who created it, loaded
+ *   lazily.</li>
  * </ul>
  *
  * @author Surya Narayanan G
@@ -58,7 +60,7 @@ public class Category {
 	private String description;
 	
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "created_by_user_id", nullable = true)
     private User createdByUser;
 
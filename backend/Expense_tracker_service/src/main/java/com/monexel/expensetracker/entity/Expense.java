@@ -5,11 +5,15 @@ import java.time.LocalDate;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,7 +28,9 @@ import jakarta.validation.constraints.NotNull;
  *
  * Fields:
  * <ul>
- *   <li><b>id</b> - Unique identifier for the expense.</li>
+ *   <li><b>id</b> - Unique identifier for the expense, drawn from the pooled
+ *   sequence <b>expenses_seq</b> (50 values per round trip) so that inserts can be
+ *   batched.</li>
  *   <li><b>title</b> - Title or description of the expense (cannot be blank).</li>
  *   <li><b>amount</b> - Monetary value of the expense (cannot be null).</li>
  *   <li><b>date</b> - Date when the expense occurred (cannot be null).</li>
@@ -42,6 +48,8 @@ import jakarta.validation.constraints.NotNull;
  * <ul>
  *   <li>Each expense belongs to one category.</li>
  *   <li>Each expense is linked to one user.</li>
+ *   <li>Both associations are loaded lazily. The {@code Expense.category} entity
+ *   graph fetches the category in the same statement for callers that read it.</li>
  * </ul>
  *
  * @author Surya Narayanan G
@@ -50,11 +58,15 @@ import jakarta.validation.constraints.NotNull;
 
 @Entity
 @Table(name = "expenses")
+@NamedEntityGraph(name = Expense.WITH_CATEGORY, attributeNodes = @NamedAttributeNode("category"))
 public class Expense {
-	
+
+	/** Entity graph that fetches the category together with the expense. */
+	public static final String WITH_CATEGORY = "Expense.category";
 
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expenses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title cannot be blank")
@@ -70,12 +82,12 @@ public class Expense {
     private LocalDate date;
 
     // Relationship with Category
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
     // Relationship with User
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,210 @@
+package com.monexel.expensetracker.entity;
+
+import java.time.LocalDateTime;
+
+import com.monexel.expensetracker.request.StatementFormat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Represents a bank statement import in the expense tracker system. The row is
+ * the checkpoint of the import: it is updated in the same transaction as each
+ * chunk of imported expenses and incomes, so its counters always match what
+ * has been committed and an interrupted import can resume after the last
+ * committed record.
+ *
+ * <p>Mapped to the database table <b>import_jobs</b>.</p>
+ *
+ * Fields:
+ * <ul>
+ *   <li><b>id</b> - Unique identifier for the import job.</li>
+ *   <li><b>user</b> - The user whose statement is imported, loaded lazily.</li>
+ *   <li><b>format</b> - The statement format, CSV or OFX.</li>
+ *   <li><b>fileName</b> - Name of the uploaded file, for display only.</li>
+ *   <li><b>defaultCategoryId</b> - Category for expenses without a category of their own (optional).</li>
+ *   <li><b>status</b> - Current state of the import.</li>
+ *   <li><b>recordsProcessed</b> - Number of statement records committed, imported or rejected; the resume checkpoint.</li>
+ *   <li><b>expensesImported</b> - Number of expenses created.</li>
+ *   <li><b>incomesImported</b> - Number of incomes created.</li>
+ *   <li><b>recordsRejected</b> - Number of records skipped because they could not be mapped.</li>
+ *   <li><b>lastError</b> - The most recent rejection or failure message.</li>
+ *   <li><b>createdAt</b>, <b>updatedAt</b> - When the job started and when it last committed.</li>
+ *   <li><b>version</b> - Optimistic locking version, so two uploads cannot resume the same job at once.</li>
+ * </ul>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Entity
+@Table(name = "import_jobs")
+public class ImportJob {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 8)
+	private StatementFormat format;
+
+	private String fileName;
+
+	private Long defaultCategoryId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private ImportStatus status;
+
+	@Column(nullable = false)
+	private long recordsProcessed;
+
+	@Column(nullable = false)
+	private long expensesImported;
+
+	@Column(nullable = false)
+	private long incomesImported;
+
+	@Column(nullable = false)
+	private long recordsRejected;
+
+	@Column(length = 500)
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Version
+	private Long version;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public User getUser() {
+		return user;
+	}
+
+	public void setUser(User user) {
+		this.user = user;
+	}
+
+	public StatementFormat getFormat() {
+		return format;
+	}
+
+	public void setFormat(StatementFormat format) {
+		this.format = format;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public Long getDefaultCategoryId() {
+		return defaultCategoryId;
+	}
+
+	public void setDefaultCategoryId(Long defaultCategoryId) {
+		this.defaultCategoryId = defaultCategoryId;
+	}
+
+	public ImportStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(ImportStatus status) {
+		this.status = status;
+	}
+
+	public long getRecordsProcessed() {
+		return recordsProcessed;
+	}
+
+	public void setRecordsProcessed(long recordsProcessed) {
+		this.recordsProcessed = recordsProcessed;
+	}
+
+	public long getExpensesImported() {
+		return expensesImported;
+	}
+
+	public void setExpensesImported(long expensesImported) {
+		this.expensesImported = expensesImported;
+	}
+
+	public long getIncomesImported() {
+		return incomesImported;
+	}
+
+	public void setIncomesImported(long incomesImported) {
+		this.incomesImported = incomesImported;
+	}
+
+	public long getRecordsRejected() {
+		return recordsRejected;
+	}
+
+	public void setRecordsRejected(long recordsRejected) {
+		this.recordsRejected = recordsRejected;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+}
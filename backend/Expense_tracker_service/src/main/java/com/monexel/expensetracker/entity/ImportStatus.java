@@ -0,0 +1,14 @@
+package com.monexel.expensetracker.entity;
+
+/**
+ * Lifecycle states of a statement import job.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum ImportStatus {
+
+	RUNNING, COMPLETED, FAILED
+
+}
@@ -5,11 +5,13 @@ import java.time.LocalDate;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,7 +26,9 @@ import jakarta.validation.constraints.NotNull;
  *
  * Fields:
  * <ul>
- *   <li><b>id</b> - Unique identifier for the income record.</li>
+ *   <li><b>id</b> - Unique identifier for the income record, drawn from the pooled
+ *   sequence <b>income_seq</b> (50 values per round trip) so that inserts can be
+ *   batched.</li>
  *   <li><b>source</b> - The source of income (e.g., Salary, Business) (cannot be blank).</li>
  *   <li><b>amount</b> - The monetary value of the income (cannot be null).</li>
  *   <li><b>date</b> - The date when the income was received (cannot be null).</li>
@@ -40,7 +44,7 @@ import jakarta.validation.constraints.NotNull;
  *
  * Relationships:
  * <ul>
- *   <li>Each income record is linked to one user.</li>
+ *   <li>Each income record is linked to one user, loaded lazily.</li>
  * </ul>
  *
  * @author Surya Narayanan G
@@ -52,7 +56,8 @@ import jakarta.validation.constraints.NotNull;
 public class Income {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "income_seq")
+	@SequenceGenerator(name = "income_seq", sequenceName = "income_seq", allocationSize = 50)
 	private Long id;
 
 	@NotBlank(message = "Source cannot be blank")
@@ -90,7 +95,7 @@ public class Income {
 		this.description = description;
 	}
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
@@ -0,0 +1,15 @@
+package com.monexel.expensetracker.entity;
+
+/**
+ * Kinds of money movement tracked by the balance ledger and the monthly
+ * rollups.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum LedgerKind {
+
+	INCOME, EXPENSE, BORROWED
+
+}
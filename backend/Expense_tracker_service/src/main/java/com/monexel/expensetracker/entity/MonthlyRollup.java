@@ -0,0 +1,87 @@
+package com.monexel.expensetracker.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Represents the monthly total of one kind of money movement for a user, and
+ * for expenses, per category. Rollups are maintained incrementally on every
+ * income, expense and borrowed money write, so dashboard queries covering
+ * whole months read a handful of rollup rows instead of every transaction.
+ *
+ * <p>Mapped to the database table <b>monthly_rollup</b>.</p>
+ *
+ * Fields:
+ * <ul>
+ *   <li><b>id</b> - Composite key of user, month, kind and category ({@link MonthlyRollupId}).</li>
+ *   <li><b>totalAmount</b> - Sum of all amounts in the month.</li>
+ *   <li><b>entryCount</b> - Number of records in the month.</li>
+ *   <li><b>version</b> - Optimistic locking version.</li>
+ * </ul>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Entity
+@Table(name = "monthly_rollup")
+public class MonthlyRollup {
+
+	@EmbeddedId
+	private MonthlyRollupId id;
+
+	@Column(nullable = false)
+	private BigDecimal totalAmount = BigDecimal.ZERO;
+
+	@Column(nullable = false)
+	private long entryCount;
+
+	@Version
+	private Long version;
+
+	public MonthlyRollup() {
+		super();
+	}
+
+	public MonthlyRollup(MonthlyRollupId id) {
+		this.id = id;
+	}
+
+	public MonthlyRollupId getId() {
+		return id;
+	}
+
+	public void setId(MonthlyRollupId id) {
+		this.id = id;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public long getEntryCount() {
+		return entryCount;
+	}
+
+	public void setEntryCount(long entryCount) {
+		this.entryCount = entryCount;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.monexel.expensetracker.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Composite key of a {@link MonthlyRollup} row.
+ *
+ * Fields:
+ * <ul>
+ *   <li><b>userId</b> - The user owning the rollup.</li>
+ *   <li><b>yearMonth</b> - The calendar month encoded as {@code yyyyMM} (e.g. 202511).</li>
+ *   <li><b>kind</b> - Whether the rollup aggregates income, expenses or borrowed money.</li>
+ *   <li><b>categoryId</b> - The expense category, or {@code 0} for income and borrowed money.</li>
+ * </ul>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Embeddable
+public class MonthlyRollupId implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Category ID used for kinds that are not categorised. */
+	public static final Long NO_CATEGORY = 0L;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "year_month", nullable = false)
+	private Integer yearMonth;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private LedgerKind kind;
+
+	@Column(name = "category_id", nullable = false)
+	private Long categoryId;
+
+	public MonthlyRollupId() {
+		super();
+	}
+
+	public MonthlyRollupId(Long userId, Integer yearMonth, LedgerKind kind, Long categoryId) {
+		this.userId = userId;
+		this.yearMonth = yearMonth;
+		this.kind = kind;
+		this.categoryId = categoryId != null ? categoryId : NO_CATEGORY;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public Integer getYearMonth() {
+		return yearMonth;
+	}
+
+	public void setYearMonth(Integer yearMonth) {
+		this.yearMonth = yearMonth;
+	}
+
+	public LedgerKind getKind() {
+		return kind;
+	}
+
+	public void setKind(LedgerKind kind) {
+		this.kind = kind;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof MonthlyRollupId)) {
+			return false;
+		}
+		MonthlyRollupId other = (MonthlyRollupId) o;
+		return Objects.equals(userId, other.userId) && Objects.equals(yearMonth, other.yearMonth)
+				&& kind == other.kind && Objects.equals(categoryId, other.categoryId);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(userId, yearMonth, kind, categoryId);
+	}
+
+}
@@ -27,6 +27,8 @@ import jakarta.validation.constraints.Size;
  *   <li><b>password</b> - Password for authentication (minimum 6 characters).</li>
  *   <li><b>phoneNumber</b> - User's phone number (must be 10 digits and unique).</li>
  *   <li><b>role</b> - Role assigned to the user (e.g., ADMIN, USER).</li>
+ *   <li><b>tokenVersion</b> - Version of the user's tokens, raised to revoke them all; only changed by
+ *   {@code UserRepository#incrementTokenVersion(Long)}.</li>
  * </ul>
  *
  * Validation:
@@ -77,6 +79,9 @@ public class User{
     
     
     private String role;
+
+    @Column(nullable = false, updatable = false)
+    private long tokenVersion;
     
 	public User() {
 		super();
@@ -93,6 +98,9 @@ public class User{
 	public void setRole(String role) {
 		this.role = role;
 	}
+	public long getTokenVersion() {
+		return tokenVersion;
+	}
 
 
 	public Long getId() {
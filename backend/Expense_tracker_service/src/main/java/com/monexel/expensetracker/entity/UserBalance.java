@@ -0,0 +1,100 @@
+package com.monexel.expensetracker.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Represents the running balance ledger of a user in the expense tracker
+ * system. One row is kept per user and updated in the same transaction as
+ * every income, expense and borrowed money write, so balance checks and the
+ * all-time dashboard are answered by a single primary-key read.
+ *
+ * <p>Mapped to the database table <b>user_balance</b>.</p>
+ *
+ * Fields:
+ * <ul>
+ *   <li><b>userId</b> - Identifier of the user owning the ledger (primary key).</li>
+ *   <li><b>totalIncome</b> - Running total of all income amounts.</li>
+ *   <li><b>totalExpense</b> - Running total of all expense amounts.</li>
+ *   <li><b>totalBorrowed</b> - Running total of all borrowed amounts.</li>
+ *   <li><b>version</b> - Optimistic locking version, incremented on every update.</li>
+ * </ul>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Entity
+@Table(name = "user_balance")
+public class UserBalance {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(nullable = false)
+	private BigDecimal totalIncome = BigDecimal.ZERO;
+
+	@Column(nullable = false)
+	private BigDecimal totalExpense = BigDecimal.ZERO;
+
+	@Column(nullable = false)
+	private BigDecimal totalBorrowed = BigDecimal.ZERO;
+
+	@Version
+	private Long version;
+
+	public UserBalance() {
+		super();
+	}
+
+	public UserBalance(Long userId) {
+		this.userId = userId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public BigDecimal getTotalIncome() {
+		return totalIncome;
+	}
+
+	public void setTotalIncome(BigDecimal totalIncome) {
+		this.totalIncome = totalIncome;
+	}
+
+	public BigDecimal getTotalExpense() {
+		return totalExpense;
+	}
+
+	public void setTotalExpense(BigDecimal totalExpense) {
+		this.totalExpense = totalExpense;
+	}
+
+	public BigDecimal getTotalBorrowed() {
+		return totalBorrowed;
+	}
+
+	public void setTotalBorrowed(BigDecimal totalBorrowed) {
+		this.totalBorrowed = totalBorrowed;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+}
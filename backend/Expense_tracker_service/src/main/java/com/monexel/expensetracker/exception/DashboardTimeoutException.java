@@ -0,0 +1,26 @@
+package com.monexel.expensetracker.exception;
+
+
+/**
+ * Custom exception to indicate that a dashboard sub-query did not complete
+ * within the configured timeout.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * throw new DashboardTimeoutException("expense");
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+
+public class DashboardTimeoutException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public DashboardTimeoutException(String query) {
+		super("Dashboard is taking too long to load (" + query + " query timed out). Please try again.");
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.monexel.expensetracker.exception;
+
+
+/**
+ * Custom exception to indicate that a statement import could not be started
+ * because the import pool and its queue are full. The job is kept as
+ * {@code FAILED}, so the same statement can be uploaded again to resume it.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * throw new ImportRejectedException(jobId);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+
+public class ImportRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ImportRejectedException(Long jobId) {
+		super("Too many statements are being imported. Please resume import job " + jobId + " shortly.");
+	}
+
+}
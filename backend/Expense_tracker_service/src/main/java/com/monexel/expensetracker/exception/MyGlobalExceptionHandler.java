@@ -3,6 +3,7 @@ package com.monexel.expensetracker.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +30,10 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * system.</li>
  * <li>{@link InsufficientFundsException} - When a transaction fails due to
  * insufficient funds.</li>
+ * <li>{@link DashboardTimeoutException} - When a dashboard sub-query times
+ * out.</li>
+ * <li>{@link ImportRejectedException} - When too many statement imports are
+ * running.</li>
  * <li>{@link MethodArgumentNotValidException} - For validation errors on
  * request payloads.</li>
  * </ul>
@@ -127,6 +132,52 @@ public class MyGlobalExceptionHandler {
 		return new ResponseEntity<>(apiResponse, HttpStatus.BAD_REQUEST);
 	}
 
+	/**
+	 * Handles {@link DashboardTimeoutException}.
+	 *
+	 * @param ex the exception instance
+	 * @return ResponseEntity containing APIResponse with SERVICE_UNAVAILABLE status
+	 */
+
+	@ExceptionHandler(DashboardTimeoutException.class)
+	public ResponseEntity<APIResponse> myDashboardTimeoutException(DashboardTimeoutException ex) {
+		String message = ex.getMessage();
+		APIResponse apiResponse = new APIResponse(message, false);
+		return new ResponseEntity<>(apiResponse, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	/**
+	 * Handles {@link PasswordHashingRejectedException}.
+	 *
+	 * @param ex the exception instance
+	 * @return ResponseEntity containing APIResponse with TOO_MANY_REQUESTS status
+	 *         and a Retry-After header
+	 */
+
+	@ExceptionHandler(PasswordHashingRejectedException.class)
+	public ResponseEntity<APIResponse> myPasswordHashingRejectedException(PasswordHashingRejectedException ex) {
+		String message = ex.getMessage();
+		APIResponse apiResponse = new APIResponse(message, false);
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1")
+				.body(apiResponse);
+	}
+
+	/**
+	 * Handles {@link ImportRejectedException}.
+	 *
+	 * @param ex the exception instance
+	 * @return ResponseEntity containing APIResponse with TOO_MANY_REQUESTS status
+	 *         and a Retry-After header
+	 */
+
+	@ExceptionHandler(ImportRejectedException.class)
+	public ResponseEntity<APIResponse> myImportRejectedException(ImportRejectedException ex) {
+		String message = ex.getMessage();
+		APIResponse apiResponse = new APIResponse(message, false);
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "30")
+				.body(apiResponse);
+	}
+
 	/**
 	 * Handles validation errors thrown by {@link MethodArgumentNotValidException}.
 	 *
@@ -0,0 +1,26 @@
+package com.monexel.expensetracker.exception;
+
+
+/**
+ * Custom exception to indicate that a password could not be hashed or checked
+ * because the password hashing pool and its queue are full.
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * throw new PasswordHashingRejectedException();
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PasswordHashingRejectedException() {
+		super("Too many sign-in attempts are being processed. Please try again shortly.");
+	}
+
+}
@@ -1,26 +1,43 @@
 package com.monexel.expensetracker.jwtutils;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Answers unauthenticated requests with 401 and a JSON body of the form
+ * {@code {"status":401,"error":"Unauthorized","path":"/api/..."}}.
+ *
+ * <p>
+ * Every request with an expired token ends up here, so the body is written
+ * without building a map or an {@code ObjectMapper}: the constant parts are
+ * encoded once and only the path is escaped per call.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
 @Component
 public class AuthEntryPointJwt implements AuthenticationEntryPoint {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(AuthEntryPointJwt.class);	
+	private static final byte[] BODY_PREFIX = ("{\"status\":" + HttpServletResponse.SC_UNAUTHORIZED
+			+ ",\"error\":\"Unauthorized\",\"path\":").getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] BODY_SUFFIX = "}".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] NULL_PATH = "null".getBytes(StandardCharsets.UTF_8);
 
 	@Override
 	public void commence(HttpServletRequest request, HttpServletResponse response,
@@ -29,13 +46,20 @@ public class AuthEntryPointJwt implements AuthenticationEntryPoint {
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
-		final Map<String, Object> body = new HashMap<>();
-		body.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-		body.put("error", "Unauthorized");
-		body.put("path", request.getServletPath());
-
-		final ObjectMapper mapper = new ObjectMapper();
-		mapper.writeValue(response.getOutputStream(), body);
+		String path = request.getServletPath();
+		byte[] escapedPath = path == null ? null : JsonStringEncoder.getInstance().quoteAsUTF8(path);
+		int pathLength = escapedPath == null ? NULL_PATH.length : escapedPath.length + 2;
+		response.setContentLength(BODY_PREFIX.length + pathLength + BODY_SUFFIX.length);
 
+		ServletOutputStream out = response.getOutputStream();
+		out.write(BODY_PREFIX);
+		if (escapedPath == null) {
+			out.write(NULL_PATH);
+		} else {
+			out.write('"');
+			out.write(escapedPath);
+			out.write('"');
+		}
+		out.write(BODY_SUFFIX);
 	}
 }
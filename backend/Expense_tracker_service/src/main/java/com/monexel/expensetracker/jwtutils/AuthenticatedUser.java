@@ -0,0 +1,74 @@
+package com.monexel.expensetracker.jwtutils;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * The authenticated principal of a request. It is built either from a user
+ * row, at sign-in, or from the claims of a verified JWT, so that the user ID
+ * and role are available to the application without loading the user.
+ *
+ * <p>
+ * The password is only present when the principal was loaded for sign-in;
+ * principals built from a token carry none. The class deliberately does not
+ * implement {@code CredentialsContainer}: the principal returned by sign-in
+ * is the instance held by the user details cache, and erasing its password
+ * after authentication would break the next sign-in served from the cache.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public class AuthenticatedUser implements UserDetails {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Long id;
+	private final String email;
+	private final String password;
+	private final String role;
+	private final long tokenVersion;
+	private final Collection<? extends GrantedAuthority> authorities;
+
+	public AuthenticatedUser(Long id, String email, String password, String role, long tokenVersion) {
+		this.id = id;
+		this.email = email;
+		this.password = password;
+		this.role = role;
+		this.tokenVersion = tokenVersion;
+		this.authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_" + role));
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getRole() {
+		return role;
+	}
+
+	public long getTokenVersion() {
+		return tokenVersion;
+	}
+
+	@Override
+	public String getUsername() {
+		return email;
+	}
+
+	@Override
+	public String getPassword() {
+		return password;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.monexel.expensetracker.jwtutils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.monexel.expensetracker.exception.PasswordHashingRejectedException;
+
+/**
+ * Password encoder that runs the hashing and verification of its delegate on
+ * a dedicated, bounded executor. The calling thread waits for the result, but
+ * at most as many hashes run at once as the executor has threads, and a call
+ * that finds the executor saturated fails fast with
+ * {@link PasswordHashingRejectedException}.
+ *
+ * <p>
+ * {@link #upgradeEncoding(String)} is answered by the delegate, so a stored
+ * hash with a lower cost than configured is re-hashed on the next successful
+ * sign-in.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final AsyncTaskExecutor executor;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, AsyncTaskExecutor executor) {
+		this.delegate = delegate;
+		this.executor = executor;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T run(Callable<T> task) {
+		try {
+			return executor.submit(task).get();
+		} catch (TaskRejectedException e) {
+			throw new PasswordHashingRejectedException();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingRejectedException();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
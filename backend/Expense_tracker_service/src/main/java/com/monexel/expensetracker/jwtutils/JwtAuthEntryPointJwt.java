@@ -1,8 +1,10 @@
 package com.monexel.expensetracker.jwtutils;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,11 +13,30 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Authenticates requests carrying a bearer JWT.
+ *
+ * <p>
+ * With {@code spring.app.jwtStatelessAuth} enabled (the default), the
+ * {@link AuthenticatedUser} principal is built from the token's user ID and
+ * role claims, so authorizing a request needs no database query beyond the
+ * cached revocation check. Tokens the {@link TokenRevocationRegistry} has
+ * revoked are ignored. Tokens issued without these claims, and every token
+ * when stateless authentication is disabled, are resolved through the
+ * {@link UserDetailsService} instead.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
 @Component
 public class JwtAuthEntryPointJwt extends OncePerRequestFilter {
 
@@ -25,18 +46,26 @@ public class JwtAuthEntryPointJwt extends OncePerRequestFilter {
 	@Autowired
 	private UserDetailsService userDetailsService;
 
+	@Autowired
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
+	@Value("${spring.app.jwtStatelessAuth:true}")
+	private boolean statelessAuth;
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
 		try {
 			String jwt = parseJwt(request);
-			if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-				String email = jwtUtils.getUserNameFromJwtToken(jwt);
-				UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-				UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-						userDetails, null, userDetails.getAuthorities());
-				authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(authentication);
+			Optional<Claims> claims = jwtUtils.parseClaims(jwt);
+			if (claims.isPresent()) {
+				UserDetails userDetails = resolveUser(claims.get());
+				if (userDetails != null) {
+					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+							userDetails, null, userDetails.getAuthorities());
+					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(authentication);
+				}
 			}
 		} catch (Exception e) {
 			logger.error("Cannot set user authentication: {}", e);
@@ -45,6 +74,27 @@ public class JwtAuthEntryPointJwt extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
+	/**
+	 * Builds the principal of a verified token.
+	 *
+	 * @return the principal, or {@code null} if the token has been revoked
+	 */
+
+	private UserDetails resolveUser(Claims claims) {
+		Long userId = claims.get(JwtUtils.CLAIM_USER_ID, Long.class);
+		String role = claims.get(JwtUtils.CLAIM_ROLE, String.class);
+		Long claimedVersion = claims.get(JwtUtils.CLAIM_TOKEN_VERSION, Long.class);
+		long tokenVersion = claimedVersion != null ? claimedVersion : 0;
+		if (tokenRevocationRegistry.isRevoked(claims.getSubject(), userId, tokenVersion)) {
+			logger.debug("Ignoring revoked JWT of " + claims.getSubject());
+			return null;
+		}
+		if (!statelessAuth || userId == null || role == null) {
+			return userDetailsService.loadUserByUsername(claims.getSubject());
+		}
+		return new AuthenticatedUser(userId, claims.getSubject(), null, role, tokenVersion);
+	}
+
 	private String parseJwt(HttpServletRequest request) {
 		String jwt = jwtUtils.getJwtFromHeader(request);
 		return jwt;
@@ -1,31 +1,63 @@
-
 package com.monexel.expensetracker.jwtutils;
 
-import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 
+/**
+ * Issues and verifies the JWTs used for authentication.
+ *
+ * <p>
+ * The signing key and the parser are built once and shared: both are
+ * immutable and thread-safe, so verifying a token costs one signature check
+ * and no key derivation. {@link #parseClaims(String)} verifies a token and
+ * returns its claims in the same call, so a request parses its token once.
+ * </p>
+ *
+ * <p>
+ * Besides the email as subject, a token carries the user ID and role as the
+ * {@value #CLAIM_USER_ID} and {@value #CLAIM_ROLE} claims, which is enough to
+ * authorize a request without loading the user, and the user's token version
+ * as the {@value #CLAIM_TOKEN_VERSION} claim, which
+ * {@link TokenRevocationRegistry} checks.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
 @Component
 public class JwtUtils {
 
 	private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
-	private String secret = "mySecretKey123912738aopsgjnspkmndfsopkvajoirjg94gf2opfng2moknm"; // NOSONAR
+	public static final String CLAIM_USER_ID = "uid";
 
-	private Key key() {
-		return Keys.hmacShaKeyFor(secret.getBytes());
-	}
+	public static final String CLAIM_ROLE = "role";
+
+	public static final String CLAIM_TOKEN_VERSION = "tv";
+
+	public static final long JWT_EXPIRATION_MS = 900000;
+
+	private final String secret = "mySecretKey123912738aopsgjnspkmndfsopkvajoirjg94gf2opfng2moknm"; // NOSONAR
+
+	private final SecretKey key = Keys.hmacShaKeyFor(secret.getBytes());
+
+	private final JwtParser parser = Jwts.parser().verifyWith(key).build();
 
 	public String getJwtFromHeader(HttpServletRequest request) {
 		String bearerToken = request.getHeader("Authorization");
@@ -35,29 +67,38 @@ public class JwtUtils {
 		return null;
 	}
 
-	public String generateTokenFromUsername(String email) {
-		return Jwts.builder().subject(email).issuedAt(new Date())
-				.expiration(new Date((new Date()).getTime() + 900000)).signWith(key()).compact();
+	public String generateTokenFromUsername(String email, Long userId, String role, long tokenVersion) {
+		return Jwts.builder().subject(email).claim(CLAIM_USER_ID, userId).claim(CLAIM_ROLE, role)
+				.claim(CLAIM_TOKEN_VERSION, tokenVersion).issuedAt(new Date()).expiration(new Date((new Date()).getTime() + JWT_EXPIRATION_MS)).signWith(key)
+				.compact();
 	}
 
-	public String getUserNameFromJwtToken(String token) {
-		return Jwts.parser().verifyWith((SecretKey) key()).build().parseSignedClaims(token).getPayload().getSubject();
-	}
+	/**
+	 * Verifies a token and returns its claims.
+	 *
+	 * @param token the compact JWT, may be {@code null}
+	 * @return the claims, or empty if the token is missing, malformed, expired,
+	 *         unsupported or not signed with our key
+	 */
 
-	public boolean validateJwtToken(String authToken) {
+	public Optional<Claims> parseClaims(String token) {
+		if (token == null || token.isEmpty()) {
+			return Optional.empty();
+		}
 		try {
-			Jwts.parser().verifyWith((SecretKey) key()).build().parseSignedClaims(authToken);
-			return true;
+			return Optional.of(parser.parseSignedClaims(token).getPayload());
 		} catch (MalformedJwtException e) {
 			logger.error("Invalid JWT token: {}", e.getMessage());
 		} catch (ExpiredJwtException e) {
 			logger.error("JWT token is expired: {}", e.getMessage());
 		} catch (UnsupportedJwtException e) {
 			logger.error("JWT token is unsupported: {}", e.getMessage());
+		} catch (JwtException e) {
+			logger.error("JWT signature is invalid: {}", e.getMessage());
 		} catch (IllegalArgumentException e) {
 			logger.error("JWT claims string is empty: {}", e.getMessage());
 		}
-		return false;
+		return Optional.empty();
 	}
 
 }
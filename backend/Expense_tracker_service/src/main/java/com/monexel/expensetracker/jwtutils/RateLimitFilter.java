@@ -0,0 +1,170 @@
+package com.monexel.expensetracker.jwtutils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Rate limits API requests with a {@link TokenBucket} per caller and
+ * {@link RateLimitGroup}, so that a single client cannot use up the database
+ * capacity of everyone else.
+ *
+ * <p>
+ * Runs after {@link JwtAuthEntryPointJwt}: authenticated requests are charged
+ * to the bucket of their user ID, anonymous requests and every
+ * {@link RateLimitGroup#AUTH} request to the bucket of their IP address.
+ * Each group has a capacity (the allowed burst) and a refill rate, configured
+ * as {@code app.rate-limit.<group>.capacity} and
+ * {@code app.rate-limit.<group>.refill-per-minute}. A request without a token
+ * is answered with 429 and a {@code Retry-After} header.
+ * </p>
+ *
+ * <p>
+ * The IP address is the one the servlet container reports. Behind a reverse
+ * proxy that is the proxy's address, which would put every anonymous client
+ * in one bucket, so {@code server.forward-headers-strategy=native} makes the
+ * container take it from the {@code X-Forwarded-For} header when the request
+ * comes from a trusted (internal) proxy. The filter is only registered in the
+ * security chain, see {@code SecurityConfig}.
+ * </p>
+ *
+ * <p>
+ * A bucket that has not been used for as long as it takes to refill
+ * completely is evicted, since a new bucket would behave the same. Each group
+ * keeps at most {@code app.rate-limit.max-buckets} buckets.
+ * </p>
+ *
+ * <p>
+ * Metrics:
+ * </p>
+ * <ul>
+ * <li><b>rate.limit.rejections</b> - Counter of rejected requests, tagged by
+ * {@code group} and by {@code scope} ({@code user} or {@code ip}).</li>
+ * <li><b>rate.limit.buckets</b> - Gauge of the live buckets per
+ * {@code group}.</li>
+ * </ul>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final byte[] REJECTED_BODY = "{\"message\":\"Too many requests. Please try again later.\",\"status\":false}"
+			.getBytes(StandardCharsets.UTF_8);
+
+	private final boolean enabled;
+
+	private final Map<RateLimitGroup, Limit> limits = new EnumMap<>(RateLimitGroup.class);
+
+	public RateLimitFilter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+			@Value("${app.rate-limit.auth.capacity:10}") long authCapacity,
+			@Value("${app.rate-limit.auth.refill-per-minute:10}") long authRefillPerMinute,
+			@Value("${app.rate-limit.bulk.capacity:5}") long bulkCapacity,
+			@Value("${app.rate-limit.bulk.refill-per-minute:10}") long bulkRefillPerMinute,
+			@Value("${app.rate-limit.default.capacity:200}") long defaultCapacity,
+			@Value("${app.rate-limit.default.refill-per-minute:1200}") long defaultRefillPerMinute,
+			@Value("${app.rate-limit.max-buckets:100000}") long maxBuckets, MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		limits.put(RateLimitGroup.AUTH,
+				new Limit(RateLimitGroup.AUTH, authCapacity, authRefillPerMinute, maxBuckets, meterRegistry));
+		limits.put(RateLimitGroup.BULK,
+				new Limit(RateLimitGroup.BULK, bulkCapacity, bulkRefillPerMinute, maxBuckets, meterRegistry));
+		limits.put(RateLimitGroup.DEFAULT,
+				new Limit(RateLimitGroup.DEFAULT, defaultCapacity, defaultRefillPerMinute, maxBuckets, meterRegistry));
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled || !request.getServletPath().startsWith("/api/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		RateLimitGroup group = RateLimitGroup.of(request.getServletPath());
+		Limit limit = limits.get(group);
+		Long userId = group == RateLimitGroup.AUTH ? null : currentUserId();
+		String key = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+
+		long now = System.nanoTime();
+		long wait = limit.buckets.get(key, k -> new TokenBucket(limit.capacity, limit.refillPerMinute, now))
+				.tryConsume(now);
+		if (wait > 0) {
+			(userId != null ? limit.rejectedUsers : limit.rejectedIps).increment();
+			reject(response, wait);
+			return;
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser) {
+			return ((AuthenticatedUser) authentication.getPrincipal()).getId();
+		}
+		return null;
+	}
+
+	private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(REJECTED_BODY.length);
+		response.getOutputStream().write(REJECTED_BODY);
+	}
+
+	/**
+	 * The budget of one group, with its buckets and rejection counters.
+	 */
+
+	private static final class Limit {
+
+		private final long capacity;
+		private final long refillPerMinute;
+		private final Cache<String, TokenBucket> buckets;
+		private final Counter rejectedUsers;
+		private final Counter rejectedIps;
+
+		private Limit(RateLimitGroup group, long capacity, long refillPerMinute, long maxBuckets,
+				MeterRegistry meterRegistry) {
+			this.capacity = capacity;
+			this.refillPerMinute = refillPerMinute;
+			this.buckets = Caffeine.newBuilder().maximumSize(maxBuckets)
+					.expireAfterAccess(Duration.ofNanos(TokenBucket.refillNanos(capacity, refillPerMinute))).build();
+			this.rejectedUsers = meterRegistry.counter("rate.limit.rejections", "group", group.getKey(), "scope",
+					"user");
+			this.rejectedIps = meterRegistry.counter("rate.limit.rejections", "group", group.getKey(), "scope", "ip");
+			Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).tag("group", group.getKey())
+					.register(meterRegistry);
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.monexel.expensetracker.jwtutils;
+
+/**
+ * Groups of endpoints that share a rate limit budget in
+ * {@link RateLimitFilter}. Each group has its own capacity and refill rate,
+ * configured under {@code app.rate-limit.<key>}.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum RateLimitGroup {
+
+	/**
+	 * Sign-in, sign-up and password reset. Always limited per IP, since the
+	 * caller is not authenticated yet.
+	 */
+	AUTH("auth"),
+
+	/**
+	 * Statement imports, exports and batch inserts. Polling the progress of an
+	 * import is not bulk work and falls into {@link #DEFAULT}.
+	 */
+	BULK("bulk"),
+
+	/** Every other API endpoint. */
+	DEFAULT("default");
+
+	private final String key;
+
+	RateLimitGroup(String key) {
+		this.key = key;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the group of a request path.
+	 *
+	 * @param path the servlet path of the request
+	 * @return the group
+	 */
+
+	public static RateLimitGroup of(String path) {
+		if (path.equals("/api/users/signin") || path.equals("/api/users/createUser")
+				|| path.equals("/api/users/forgot-password")) {
+			return AUTH;
+		}
+		if ((path.startsWith("/api/import/") && !path.startsWith("/api/import/getImportJob/"))
+				|| path.startsWith("/api/export/") || path.equals("/api/expenses/addExpenses")) {
+			return BULK;
+		}
+		return DEFAULT;
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.monexel.expensetracker.jwtutils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens and refilling
+ * one token every {@code 1/refillPerMinute} minutes.
+ *
+ * <p>
+ * Instead of a token count and a refill timestamp, the bucket keeps a single
+ * value: the time at which it would be full again (the generic cell rate
+ * algorithm). Taking a token moves that time one refill interval forward, and
+ * is refused when it would end up more than {@code capacity} intervals ahead
+ * of now. One compare-and-set per request is the whole cost.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public final class TokenBucket {
+
+	private final long intervalNanos;
+
+	private final long burstNanos;
+
+	private final AtomicLong fullAt;
+
+	public TokenBucket(long capacity, long refillPerMinute, long nowNanos) {
+		if (capacity < 1 || refillPerMinute < 1) {
+			throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+		}
+		this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+		this.burstNanos = intervalNanos * capacity;
+		this.fullAt = new AtomicLong(nowNanos);
+	}
+
+	/**
+	 * Takes one token if one is available.
+	 *
+	 * @param nowNanos the current {@link System#nanoTime()}
+	 * @return {@code 0} if a token was taken, otherwise the nanoseconds until
+	 *         the next token is available
+	 */
+
+	public long tryConsume(long nowNanos) {
+		while (true) {
+			long current = fullAt.get();
+			long next = Math.max(current - nowNanos, 0) + nowNanos + intervalNanos;
+			long wait = next - nowNanos - burstNanos;
+			if (wait > 0) {
+				return wait;
+			}
+			if (fullAt.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Returns the time a bucket takes to refill completely, after which an
+	 * idle bucket is indistinguishable from a new one.
+	 *
+	 * @param capacity        the capacity of the bucket
+	 * @param refillPerMinute the refill rate of the bucket
+	 * @return the refill time in nanoseconds
+	 */
+
+	public static long refillNanos(long capacity, long refillPerMinute) {
+		return TimeUnit.MINUTES.toNanos(1) / refillPerMinute * capacity;
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.monexel.expensetracker.jwtutils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.monexel.expensetracker.repository.UserRepository;
+
+/**
+ * Revokes all issued tokens of a user. Since requests are authorized from the
+ * claims of the token alone, this is what makes a password change, a role
+ * change or a deleted account take effect before the user's existing tokens
+ * expire.
+ *
+ * <p>
+ * Every user has a token version in the {@code users} table, and every token
+ * carries the version of its user at sign-in in the
+ * {@value JwtUtils#CLAIM_TOKEN_VERSION} claim. Revoking raises the version, so
+ * tokens issued before are rejected while a token issued right after, even in
+ * the same second, is accepted. Tokens issued before the claim existed count
+ * as version 0.
+ * </p>
+ *
+ * <p>
+ * The current version is read through the {@link UserDetailsService}, whose
+ * cache serves it without a query. Since the version lives in the database,
+ * revocations survive restarts and reach every instance: the instance that
+ * revokes evicts the user from its cache at once, the others see the new
+ * version once their cached entry expires, after at most
+ * {@code app.auth.user-cache.ttl-seconds}.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class TokenRevocationRegistry {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	/**
+	 * Revokes all tokens issued to a user so far. The caller evicts the user
+	 * from the user details cache.
+	 *
+	 * @param userId the ID of the user
+	 */
+
+	public void revokeTokens(Long userId) {
+		userRepository.incrementTokenVersion(userId);
+	}
+
+	/**
+	 * Checks whether a token has been revoked.
+	 *
+	 * @param email        the subject of the token
+	 * @param userId       the user ID claim of the token, or {@code null}
+	 * @param tokenVersion the token version claim of the token
+	 * @return {@code true} if the user no longer exists, is another user than
+	 *         the token was issued to, or has revoked the token's version
+	 */
+
+	public boolean isRevoked(String email, Long userId, long tokenVersion) {
+		AuthenticatedUser user;
+		try {
+			user = (AuthenticatedUser) userDetailsService.loadUserByUsername(email);
+		} catch (UsernameNotFoundException e) {
+			return true;
+		}
+		return (userId != null && !userId.equals(user.getId())) || user.getTokenVersion() != tokenVersion;
+	}
+
+}
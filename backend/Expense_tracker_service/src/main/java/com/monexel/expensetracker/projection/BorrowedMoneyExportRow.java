@@ -0,0 +1,26 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat projection of a borrowed money record as written by the transaction
+ * export.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface BorrowedMoneyExportRow {
+
+	Long getId();
+
+	LocalDate getBorrowedDate();
+
+	BigDecimal getAmount();
+
+	String getBorrowedFrom();
+
+	LocalDate getDueDate();
+
+}
@@ -0,0 +1,23 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a per-category expense aggregate, carrying the category name
+ * so no entities need to be loaded.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface CategoryTotal {
+
+	Long getCategoryId();
+
+	String getCategoryName();
+
+	BigDecimal getTotal();
+
+	Long getEntryCount();
+
+}
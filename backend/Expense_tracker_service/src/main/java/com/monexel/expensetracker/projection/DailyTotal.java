@@ -0,0 +1,19 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of a per-day aggregate computed by a grouped repository query.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface DailyTotal {
+
+	LocalDate getDay();
+
+	BigDecimal getTotal();
+
+}
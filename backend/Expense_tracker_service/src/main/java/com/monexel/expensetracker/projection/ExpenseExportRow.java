@@ -0,0 +1,27 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat projection of an expense as written by the transaction export. Rows are
+ * read straight from the result set, so they never enter the persistence
+ * context.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface ExpenseExportRow {
+
+	Long getId();
+
+	LocalDate getDate();
+
+	BigDecimal getAmount();
+
+	String getTitle();
+
+	String getCategoryName();
+
+}
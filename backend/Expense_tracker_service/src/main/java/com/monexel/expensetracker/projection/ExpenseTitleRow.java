@@ -0,0 +1,20 @@
+package com.monexel.expensetracker.projection;
+
+/**
+ * Flat projection of the title and category of an expense, streamed to
+ * rebuild the category suggestion index. Rows are read straight from the
+ * result set, so they never enter the persistence context.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface ExpenseTitleRow {
+
+	Long getUserId();
+
+	Long getCategoryId();
+
+	String getTitle();
+
+}
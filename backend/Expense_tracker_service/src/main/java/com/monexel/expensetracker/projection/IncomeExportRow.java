@@ -0,0 +1,25 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat projection of an income record as written by the transaction export.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface IncomeExportRow {
+
+	Long getId();
+
+	LocalDate getDate();
+
+	BigDecimal getAmount();
+
+	String getSource();
+
+	String getDescription();
+
+}
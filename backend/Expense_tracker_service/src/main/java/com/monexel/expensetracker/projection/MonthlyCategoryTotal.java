@@ -0,0 +1,14 @@
+package com.monexel.expensetracker.projection;
+
+/**
+ * Projection of a per-month, per-category expense aggregate.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface MonthlyCategoryTotal extends MonthlyTotal {
+
+	Long getCategoryId();
+
+}
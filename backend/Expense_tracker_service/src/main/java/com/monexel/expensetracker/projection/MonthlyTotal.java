@@ -0,0 +1,21 @@
+package com.monexel.expensetracker.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a per-month aggregate computed by a grouped repository query.
+ * The month is encoded as {@code yyyyMM}.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public interface MonthlyTotal {
+
+	Integer getYearMonth();
+
+	BigDecimal getTotal();
+
+	Long getEntryCount();
+
+}
@@ -1,12 +1,28 @@
 package com.monexel.expensetracker.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.projection.BorrowedMoneyExportRow;
+import com.monexel.expensetracker.projection.DailyTotal;
+import com.monexel.expensetracker.projection.MonthlyTotal;
+import com.monexel.expensetracker.response.BorrowedMoneyResponse;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 
 /**
@@ -19,12 +35,23 @@ import com.monexel.expensetracker.entity.BorrowedMoney;
  * <ul>
  *   <li>{@link #findByUserId(Long)} - Retrieves all borrowed money records for a specific user.</li>
  *   <li>{@link #findByUserIdAndBorrowedDateBetween(Long, LocalDate, LocalDate)} - Retrieves borrowed money records for a user within a specified date range.</li>
+ *   <li>{@link #sumAmountByUserId(Long)} - Sums all borrowed amounts of a user in the database.</li>
+ *   <li>{@link #sumAmountByUserIdAndBorrowedDateBetween(Long, LocalDate, LocalDate)} - Sums borrowed amounts of a user within a date range.</li>
+ *   <li>{@link #sumMonthlyByUserId(Long)} - Sums borrowed amounts of a user per month of borrowing.</li>
+ *   <li>{@link #sumDailyByUserIdAndBorrowedDateBetween(Long, LocalDate, LocalDate)} - Sums borrowed amounts of a user per day within a date range.</li>
+ *   <li>{@link #findResponseById(Long)} - Retrieves a borrowed money record directly as a {@link BorrowedMoneyResponse}, without loading the entity.</li>
+ *   <li>{@link #findResponsesByUserId(Long)} - Retrieves all borrowed money records of a user directly as responses.</li>
+ *   <li>{@link #findResponsesByUserIdAndBorrowedDateBetween(Long, LocalDate, LocalDate)} - Retrieves borrowed money records of a user within a date range directly as responses.</li>
+ *   <li>{@link #findPageByUserId(Long, LocalDate, LocalDate, LocalDate, Long, Pageable)} - Retrieves one keyset page of borrowed money records of a user as responses, newest first.</li>
+ *   <li>{@link #streamExportByUserId(Long)} - Streams all borrowed money records of a user, oldest first, for export.</li>
+ *   <li>{@link #findByIdForUpdate(Long)} - Retrieves a borrowed money record and holds a row lock on it until the transaction ends.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
  * <pre>
  * List<BorrowedMoney> borrowedList = borrowedMoneyRepository.findByUserId(userId);
  * List<BorrowedMoney> borrowedInRange = borrowedMoneyRepository.findByUserIdAndBorrowedDateBetween(userId, startDate, endDate);
+ * BigDecimal totalBorrowed = borrowedMoneyRepository.sumAmountByUserId(userId);
  * </pre>
  *
  * @author Surya Narayanan G
@@ -33,6 +60,53 @@ import com.monexel.expensetracker.entity.BorrowedMoney;
 
 @Repository
 public interface BorrowedMoneyRepository extends JpaRepository<BorrowedMoney, Long>{
+
+	/** Selects rows straight into responses, without loading entities. */
+	String RESPONSE_QUERY = "SELECT new com.monexel.expensetracker.response.BorrowedMoneyResponse("
+			+ "b.id, b.amount, b.borrowedFrom, b.borrowedDate, b.dueDate, b.user.id) FROM BorrowedMoney b ";
+
 	List<BorrowedMoney> findByUserId(Long userId);
 	List<BorrowedMoney> findByUserIdAndBorrowedDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+	@Query("SELECT COALESCE(SUM(b.amount), 0) FROM BorrowedMoney b WHERE b.user.id = :userId")
+	BigDecimal sumAmountByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT COALESCE(SUM(b.amount), 0) FROM BorrowedMoney b WHERE b.user.id = :userId AND b.borrowedDate BETWEEN :startDate AND :endDate")
+	BigDecimal sumAmountByUserIdAndBorrowedDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query("SELECT YEAR(b.borrowedDate) * 100 + MONTH(b.borrowedDate) AS yearMonth, SUM(b.amount) AS total, "
+			+ "COUNT(b) AS entryCount FROM BorrowedMoney b WHERE b.user.id = :userId "
+			+ "GROUP BY YEAR(b.borrowedDate), MONTH(b.borrowedDate)")
+	List<MonthlyTotal> sumMonthlyByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT b.borrowedDate AS day, SUM(b.amount) AS total FROM BorrowedMoney b WHERE b.user.id = :userId "
+			+ "AND b.borrowedDate BETWEEN :startDate AND :endDate GROUP BY b.borrowedDate")
+	List<DailyTotal> sumDailyByUserIdAndBorrowedDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query(RESPONSE_QUERY + "WHERE b.id = :id")
+	Optional<BorrowedMoneyResponse> findResponseById(@Param("id") Long id);
+
+	@Query(RESPONSE_QUERY + "WHERE b.user.id = :userId")
+	List<BorrowedMoneyResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+	@Query(RESPONSE_QUERY + "WHERE b.user.id = :userId AND b.borrowedDate BETWEEN :startDate AND :endDate")
+	List<BorrowedMoneyResponse> findResponsesByUserIdAndBorrowedDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query(RESPONSE_QUERY + "WHERE b.user.id = :userId AND b.borrowedDate BETWEEN :startDate AND :endDate "
+			+ "AND (b.borrowedDate < :afterDate OR (b.borrowedDate = :afterDate AND b.id < :afterId)) ORDER BY b.borrowedDate DESC, b.id DESC")
+	List<BorrowedMoneyResponse> findPageByUserId(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate, @Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+			Pageable pageable);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT b.id AS id, b.borrowedDate AS borrowedDate, b.amount AS amount, b.borrowedFrom AS borrowedFrom, "
+			+ "b.dueDate AS dueDate FROM BorrowedMoney b WHERE b.user.id = :userId ORDER BY b.borrowedDate, b.id")
+	Stream<BorrowedMoneyExportRow> streamExportByUserId(@Param("userId") Long userId);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM BorrowedMoney b WHERE b.id = :id")
+	Optional<BorrowedMoney> findByIdForUpdate(@Param("id") Long id);
 }
@@ -20,6 +20,8 @@ import com.monexel.expensetracker.entity.Category;
  * <ul>
  *   <li>{@link #existsByName(String)} - Checks if a category with the given name already exists.</li>
  *   <li>{@link #findByCreatedByUserId(Long)} - Retrieves all categories created by a specific user.</li>
+ *   <li>{@link #findByCreatedByUserIsNullOrCreatedByUserId(Long)} - Retrieves all categories a user may use: the
+ *   shared ones and the user's own.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
@@ -37,4 +39,5 @@ public interface CategoryRepository  extends JpaRepository<Category, Long>{
 
 	boolean existsByName(String name);
 	List<Category> findByCreatedByUserId(Long userId);
+	List<Category> findByCreatedByUserIsNullOrCreatedByUserId(Long userId);
 }
@@ -1,11 +1,30 @@
 package com.monexel.expensetracker.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.projection.CategoryTotal;
+import com.monexel.expensetracker.projection.DailyTotal;
+import com.monexel.expensetracker.projection.ExpenseExportRow;
+import com.monexel.expensetracker.projection.ExpenseTitleRow;
+import com.monexel.expensetracker.projection.MonthlyCategoryTotal;
+import com.monexel.expensetracker.response.ExpenseResponse;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 
 /**
@@ -16,14 +35,27 @@ import com.monexel.expensetracker.entity.Expense;
  *
  * <h2>Custom Query Methods:</h2>
  * <ul>
- *   <li>{@link #findByUserId(Long)} - Retrieves all expenses for a specific user.</li>
- *   <li>{@link #findByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Retrieves expenses for a user within a specified date range.</li>
+ *   <li>{@link #findByUserId(Long)} - Retrieves all expenses for a specific user, with their categories.</li>
+ *   <li>{@link #findByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Retrieves expenses for a user within a specified date range, with their categories.</li>
+ *   <li>{@link #sumAmountByUserId(Long)} - Sums all expense amounts of a user in the database.</li>
+ *   <li>{@link #sumAmountByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Sums expense amounts of a user within a date range.</li>
+ *   <li>{@link #sumMonthlyByUserIdAndCategory(Long)} - Sums expense amounts of a user per month and category.</li>
+ *   <li>{@link #sumDailyByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Sums expense amounts of a user per day within a date range.</li>
+ *   <li>{@link #sumByCategoryAndDateBetween(Long, LocalDate, LocalDate)} - Sums and counts expenses of a user per category within a date range.</li>
+ *   <li>{@link #findResponseById(Long)} - Retrieves a expense directly as a {@link ExpenseResponse}, without loading the entity.</li>
+ *   <li>{@link #findResponsesByUserId(Long)} - Retrieves all expenses of a user directly as responses.</li>
+ *   <li>{@link #findResponsesByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Retrieves expenses of a user within a date range directly as responses.</li>
+ *   <li>{@link #findPageByUserId(Long, LocalDate, LocalDate, LocalDate, Long, Pageable)} - Retrieves one keyset page of expenses of a user as responses, newest first.</li>
+ *   <li>{@link #streamExportByUserId(Long)} - Streams all expenses of a user, oldest first, for export.</li>
+ *   <li>{@link #streamTitles()} - Streams the user, category and title of every expense, to rebuild the category suggestion index.</li>
+ *   <li>{@link #findByIdForUpdate(Long)} - Retrieves an expense and holds a row lock on it until the transaction ends.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
  * <pre>
  * List<Expense> userExpenses = expenseRepository.findByUserId(userId);
  * List<Expense> expensesInRange = expenseRepository.findByUserIdAndDateBetween(userId, startDate, endDate);
+ * BigDecimal totalSpent = expenseRepository.sumAmountByUserId(userId);
  * </pre>
  *
  * @author Surya Narayanan G
@@ -32,6 +64,66 @@ import com.monexel.expensetracker.entity.Expense;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long>{
+
+	/** Selects rows straight into responses, without loading entities. */
+	String RESPONSE_QUERY = "SELECT new com.monexel.expensetracker.response.ExpenseResponse("
+			+ "e.id, e.title, e.amount, e.date, c.name, e.user.id) FROM Expense e JOIN e.category c ";
+
+	@EntityGraph(Expense.WITH_CATEGORY)
 	List<Expense> findByUserId(Long userId);
+
+	@EntityGraph(Expense.WITH_CATEGORY)
 	List<Expense> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
+
+	@Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.user.id = :userId")
+	BigDecimal sumAmountByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.user.id = :userId AND e.date BETWEEN :startDate AND :endDate")
+	BigDecimal sumAmountByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate);
+
+	@Query("SELECT YEAR(e.date) * 100 + MONTH(e.date) AS yearMonth, e.category.id AS categoryId, "
+			+ "SUM(e.amount) AS total, COUNT(e) AS entryCount FROM Expense e WHERE e.user.id = :userId "
+			+ "GROUP BY YEAR(e.date), MONTH(e.date), e.category.id")
+	List<MonthlyCategoryTotal> sumMonthlyByUserIdAndCategory(@Param("userId") Long userId);
+
+	@Query("SELECT e.date AS day, SUM(e.amount) AS total FROM Expense e WHERE e.user.id = :userId "
+			+ "AND e.date BETWEEN :startDate AND :endDate GROUP BY e.date")
+	List<DailyTotal> sumDailyByUserIdAndDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query("SELECT c.id AS categoryId, c.name AS categoryName, SUM(e.amount) AS total, COUNT(e) AS entryCount "
+			+ "FROM Expense e JOIN e.category c WHERE e.user.id = :userId AND e.date BETWEEN :startDate AND :endDate "
+			+ "GROUP BY c.id, c.name ORDER BY SUM(e.amount) DESC")
+	List<CategoryTotal> sumByCategoryAndDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query(RESPONSE_QUERY + "WHERE e.id = :id")
+	Optional<ExpenseResponse> findResponseById(@Param("id") Long id);
+
+	@Query(RESPONSE_QUERY + "WHERE e.user.id = :userId")
+	List<ExpenseResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+	@Query(RESPONSE_QUERY + "WHERE e.user.id = :userId AND e.date BETWEEN :startDate AND :endDate")
+	List<ExpenseResponse> findResponsesByUserIdAndDateBetween(@Param("userId") Long userId,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	@Query(RESPONSE_QUERY + "WHERE e.user.id = :userId AND e.date BETWEEN :startDate AND :endDate "
+			+ "AND (e.date < :afterDate OR (e.date = :afterDate AND e.id < :afterId)) ORDER BY e.date DESC, e.id DESC")
+	List<ExpenseResponse> findPageByUserId(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+			@Param("endDate") LocalDate endDate, @Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+			Pageable pageable);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT e.id AS id, e.date AS date, e.amount AS amount, e.title AS title, c.name AS categoryName "
+			+ "FROM Expense e JOIN e.category c WHERE e.user.id = :userId ORDER BY e.date, e.id")
+	Stream<ExpenseExportRow> streamExportByUserId(@Param("userId") Long userId);
+
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT e.user.id AS userId, e.category.id AS categoryId, e.title AS title FROM Expense e")
+	Stream<ExpenseTitleRow> streamTitles();
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT e FROM Expense e WHERE e.id = :id")
+	Optional<Expense> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,43 @@
+package com.monexel.expensetracker.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.monexel.expensetracker.entity.ImportJob;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for managing {@link ImportJob} entities.
+ *
+ * <p>This interface extends {@link JpaRepository} to provide CRUD operations
+ * for statement import jobs. A job is saved once per committed chunk, so its
+ * counters double as the resume checkpoint.</p>
+ *
+ * <h2>Custom Query Methods:</h2>
+ * <ul>
+ *   <li>{@link #findByIdForUpdate(Long)} - Retrieves a job and holds a row lock on it until the transaction ends.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * Optional<ImportJob> job = importJobRepository.findById(jobId);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT j FROM ImportJob j WHERE j.id = :id")
+	Optional<ImportJob> findByIdForUpdate(@Param("id") Long id);
+
+}
@@ -1,12 +1,28 @@
 package com.monexel.expensetracker.repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.projection.DailyTotal;
+import com.monexel.expensetracker.projection.IncomeExportRow;
+import com.monexel.expensetracker.projection.MonthlyTotal;
+import com.monexel.expensetracker.response.IncomeResponse;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 
 /**
@@ -19,12 +35,23 @@ import com.monexel.expensetracker.entity.Income;
  * <ul>
  *   <li>{@link #findByUserId(Long)} - Retrieves all income records for a specific user.</li>
  *   <li>{@link #findByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Retrieves income records for a user within a specified date range.</li>
+ *   <li>{@link #sumAmountByUserId(Long)} - Sums all income amounts of a user in the database.</li>
+ *   <li>{@link #sumAmountByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Sums income amounts of a user within a date range.</li>
+ *   <li>{@link #sumMonthlyByUserId(Long)} - Sums income amounts of a user per month.</li>
+ *   <li>{@link #sumDailyByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Sums income amounts of a user per day within a date range.</li>
+ *   <li>{@link #findResponseById(Long)} - Retrieves a income record directly as a {@link IncomeResponse}, without loading the entity.</li>
+ *   <li>{@link #findResponsesByUserId(Long)} - Retrieves all income records of a user directly as responses.</li>
+ *   <li>{@link #findResponsesByUserIdAndDateBetween(Long, LocalDate, LocalDate)} - Retrieves income records of a user within a date range directly as responses.</li>
+ *   <li>{@link #findPageByUserId(Long, LocalDate, LocalDate, LocalDate, Long, Pageable)} - Retrieves one keyset page of income records of a user as responses, newest first.</li>
+ *   <li>{@link #streamExportByUserId(Long)} - Streams all income records of a user, oldest first, for export.</li>
+ *   <li>{@link #findByIdForUpdate(Long)} - Retrieves an income record and holds a row lock on it until the transaction ends.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
  * <pre>
  * List<Income> userIncome = incomeRepository.findByUserId(userId);
  * List<Income> incomeInRange = incomeRepository.findByUserIdAndDateBetween(userId, startDate, endDate);
+ * BigDecimal totalIncome = incomeRepository.sumAmountByUserId(userId);
  * </pre>
  *
  * @author Surya Narayanan G
@@ -33,7 +60,52 @@ import com.monexel.expensetracker.entity.Income;
 
 @Repository
 public interface IncomeRepository extends JpaRepository<Income, Long> {
+
+    /** Selects rows straight into responses, without loading entities. */
+    String RESPONSE_QUERY = "SELECT new com.monexel.expensetracker.response.IncomeResponse("
+            + "i.id, i.source, i.amount, i.date, i.description, i.user.id) FROM Income i ";
+
     List<Income> findByUserId(Long userId);
     List<Income> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
 
+    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Income i WHERE i.user.id = :userId")
+    BigDecimal sumAmountByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM Income i WHERE i.user.id = :userId AND i.date BETWEEN :startDate AND :endDate")
+    BigDecimal sumAmountByUserIdAndDateBetween(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT YEAR(i.date) * 100 + MONTH(i.date) AS yearMonth, SUM(i.amount) AS total, COUNT(i) AS entryCount "
+            + "FROM Income i WHERE i.user.id = :userId GROUP BY YEAR(i.date), MONTH(i.date)")
+    List<MonthlyTotal> sumMonthlyByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT i.date AS day, SUM(i.amount) AS total FROM Income i WHERE i.user.id = :userId "
+            + "AND i.date BETWEEN :startDate AND :endDate GROUP BY i.date")
+    List<DailyTotal> sumDailyByUserIdAndDateBetween(@Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(RESPONSE_QUERY + "WHERE i.id = :id")
+    Optional<IncomeResponse> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_QUERY + "WHERE i.user.id = :userId")
+    List<IncomeResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query(RESPONSE_QUERY + "WHERE i.user.id = :userId AND i.date BETWEEN :startDate AND :endDate")
+    List<IncomeResponse> findResponsesByUserIdAndDateBetween(@Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query(RESPONSE_QUERY + "WHERE i.user.id = :userId AND i.date BETWEEN :startDate AND :endDate "
+            + "AND (i.date < :afterDate OR (i.date = :afterDate AND i.id < :afterId)) ORDER BY i.date DESC, i.id DESC")
+    List<IncomeResponse> findPageByUserId(@Param("userId") Long userId, @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate, @Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT i.id AS id, i.date AS date, i.amount AS amount, i.source AS source, i.description AS description "
+            + "FROM Income i WHERE i.user.id = :userId ORDER BY i.date, i.id")
+    Stream<IncomeExportRow> streamExportByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Income i WHERE i.id = :id")
+    Optional<Income> findByIdForUpdate(@Param("id") Long id);
 }
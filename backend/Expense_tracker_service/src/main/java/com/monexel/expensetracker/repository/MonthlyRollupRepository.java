@@ -0,0 +1,54 @@
+package com.monexel.expensetracker.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.MonthlyRollup;
+import com.monexel.expensetracker.entity.MonthlyRollupId;
+import com.monexel.expensetracker.projection.MonthlyTotal;
+
+/**
+ * Repository interface for managing {@link MonthlyRollup} entities.
+ *
+ * <h2>Custom Query Methods:</h2>
+ * <ul>
+ *   <li>{@link #sumTotalAmount(Long, LedgerKind, Integer, Integer)} - Sums the rollups of one kind for a user over a range of whole months.</li>
+ *   <li>{@link #sumByMonth(Long, LedgerKind, Integer, Integer)} - Sums the rollups of one kind for a user per month, across categories.</li>
+ *   <li>{@link #deleteByUserId(Long)} - Removes every rollup of a user before a rebuild.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * BigDecimal spent = monthlyRollupRepository.sumTotalAmount(userId, LedgerKind.EXPENSE, 202501, 202512);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, MonthlyRollupId> {
+
+	@Query("SELECT COALESCE(SUM(r.totalAmount), 0) FROM MonthlyRollup r WHERE r.id.userId = :userId "
+			+ "AND r.id.kind = :kind AND r.id.yearMonth BETWEEN :fromMonth AND :toMonth")
+	BigDecimal sumTotalAmount(@Param("userId") Long userId, @Param("kind") LedgerKind kind,
+			@Param("fromMonth") Integer fromMonth, @Param("toMonth") Integer toMonth);
+
+	@Query("SELECT r.id.yearMonth AS yearMonth, SUM(r.totalAmount) AS total, SUM(r.entryCount) AS entryCount "
+			+ "FROM MonthlyRollup r WHERE r.id.userId = :userId AND r.id.kind = :kind "
+			+ "AND r.id.yearMonth BETWEEN :fromMonth AND :toMonth GROUP BY r.id.yearMonth")
+	List<MonthlyTotal> sumByMonth(@Param("userId") Long userId, @Param("kind") LedgerKind kind,
+			@Param("fromMonth") Integer fromMonth, @Param("toMonth") Integer toMonth);
+
+	@Modifying
+	@Query("DELETE FROM MonthlyRollup r WHERE r.id.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+
+}
@@ -0,0 +1,45 @@
+package com.monexel.expensetracker.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.monexel.expensetracker.entity.UserBalance;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for managing {@link UserBalance} ledger rows.
+ *
+ * <p>This interface extends {@link JpaRepository} to provide CRUD operations
+ * for the per-user balance ledger. The primary key is the user ID, so balance
+ * lookups are a single {@code findById} call.</p>
+ *
+ * <h2>Custom Query Methods:</h2>
+ * <ul>
+ *   <li>{@link #findByUserIdForUpdate(Long)} - Retrieves a ledger row with {@code SELECT ... FOR UPDATE}, serializing
+ *   balance-affecting writes of the same user until the transaction ends.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>
+ * Optional<UserBalance> balance = userBalanceRepository.findById(userId);
+ * Optional<UserBalance> locked = userBalanceRepository.findByUserIdForUpdate(userId);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Repository
+public interface UserBalanceRepository extends JpaRepository<UserBalance, Long> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM UserBalance b WHERE b.userId = :userId")
+	Optional<UserBalance> findByUserIdForUpdate(@Param("userId") Long userId);
+
+}
@@ -1,12 +1,20 @@
 package com.monexel.expensetracker.repository;
 
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.monexel.expensetracker.entity.User;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository interface for managing {@link User} entities.
  *
@@ -21,6 +29,10 @@ import com.monexel.expensetracker.entity.User;
  *   <li>{@link #findByName(String)} - Retrieves a user by name (wrapped in {@link Optional}).</li>
  *   <li>{@link #existsByName(String)} - Checks if a user exists by name.</li>
  *   <li>{@link #findUsersByEmail(String)} - Retrieves user details by email (custom implementation may be required).</li>
+ *   <li>{@link #findAllIds()} - Retrieves the IDs of all users without loading the entities.</li>
+ *   <li>{@link #findByIdForUpdate(Long)} - Retrieves a user and holds a row lock on it until the transaction ends.</li>
+ *   <li>{@link #updatePasswordByEmail(String, String)} - Replaces the password hash of a user without loading it.</li>
+ *   <li>{@link #incrementTokenVersion(Long)} - Raises the token version of a user, revoking its issued tokens.</li>
  * </ul>
  *
  * <h2>Usage Example:</h2>
@@ -45,6 +57,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	boolean existsByName(String userName);
 	Object findUsersByEmail(String username);
 
+	@Query("SELECT u.id FROM User u ORDER BY u.id")
+	List<Long> findAllIds();
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT u FROM User u WHERE u.id = :id")
+	Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+	int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+	int incrementTokenVersion(@Param("id") Long id);
+
 	
 
 
@@ -0,0 +1,57 @@
+package com.monexel.expensetracker.request;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public class ExpenseBatchItem {
+
+	@NotBlank(message = "Title is required")
+	private String title;
+
+	@NotNull(message = "Amount is required")
+	@Positive(message = "Amount must be greater than zero")
+	private BigDecimal amount;
+
+	@NotNull(message = "Date is required")
+	private LocalDate date;
+
+	@NotNull(message = "Category ID is required")
+	private Long categoryId;
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+}
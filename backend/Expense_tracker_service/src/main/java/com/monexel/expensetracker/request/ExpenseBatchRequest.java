@@ -0,0 +1,37 @@
+package com.monexel.expensetracker.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class ExpenseBatchRequest {
+
+	public static final int MAX_BATCH_SIZE = 10000;
+
+	@NotNull(message = "User ID is required")
+	private Long userId;
+
+	@NotEmpty(message = "At least one expense is required")
+	@Size(max = MAX_BATCH_SIZE, message = "At most " + MAX_BATCH_SIZE + " expenses can be added at once")
+	private List<@Valid ExpenseBatchItem> expenses;
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public List<ExpenseBatchItem> getExpenses() {
+		return expenses;
+	}
+
+	public void setExpenses(List<ExpenseBatchItem> expenses) {
+		this.expenses = expenses;
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.monexel.expensetracker.request;
+
+/**
+ * Output format of a transaction export. The rows themselves are written by
+ * the export service.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum ExportFormat {
+
+	/** One JSON object per line. */
+	NDJSON("application/x-ndjson", "ndjson"),
+
+	/** Comma separated values with a header line, quoted per RFC 4180. */
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+}
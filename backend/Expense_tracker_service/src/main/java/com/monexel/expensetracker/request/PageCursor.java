@@ -0,0 +1,113 @@
+package com.monexel.expensetracker.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.monexel.expensetracker.exception.APIException;
+
+/**
+ * Keyset position of a cursor-paginated list ordered by date and ID, both
+ * descending. A page starts strictly after the position, so deep pages cost
+ * the same index seek as the first page instead of scanning skipped rows like
+ * {@code OFFSET}.
+ *
+ * <p>
+ * Clients receive the position as an opaque URL-safe Base64 token and must
+ * pass it back unchanged.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * PageCursor after = PageCursor.decode(cursor);
+ * List&lt;ExpenseResponse&gt; rows = expenseRepository.findPageByUserId(userId, from, to, after.getDate(), after.getId(),
+ * 		PageRequest.of(0, size + 1));
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public final class PageCursor {
+
+	/** Page size used when the client does not ask for one. */
+	public static final int DEFAULT_PAGE_SIZE = 20;
+
+	/** Largest page size a client may request. */
+	public static final int MAX_PAGE_SIZE = 100;
+
+	/** Lower date bound used when a range has no start date. */
+	public static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+
+	/** Upper date bound used when a range has no end date. */
+	public static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+	private static final PageCursor FIRST_PAGE = new PageCursor(MAX_DATE, Long.MAX_VALUE);
+
+	private final LocalDate date;
+	private final Long id;
+
+	public PageCursor(LocalDate date, Long id) {
+		this.date = date;
+		this.id = id;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	/**
+	 * Decodes a cursor token. A {@code null} or blank token denotes the first
+	 * page.
+	 *
+	 * @param token the token returned as {@code nextCursor} by a previous page
+	 * @return the decoded position
+	 * @throws APIException if the token is malformed
+	 */
+
+	public static PageCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return FIRST_PAGE;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = value.indexOf(':');
+			return new PageCursor(LocalDate.parse(value.substring(0, separator)),
+					Long.valueOf(value.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new APIException("Invalid page cursor.");
+		}
+	}
+
+	/**
+	 * Encodes this position as an opaque token.
+	 *
+	 * @return the URL-safe token
+	 */
+
+	public String encode() {
+		String value = date + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Clamps a requested page size to {@code 1..MAX_PAGE_SIZE}.
+	 *
+	 * @param size the requested page size, or {@code null} for the default
+	 * @return the effective page size
+	 */
+
+	public static int pageSize(Integer size) {
+		if (size == null) {
+			return DEFAULT_PAGE_SIZE;
+		}
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.monexel.expensetracker.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Bucket size of a dashboard time series. Weeks start on Monday.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum SeriesGranularity {
+
+	DAILY, WEEKLY, MONTHLY;
+
+	/**
+	 * Returns the first day of the bucket containing the given date.
+	 *
+	 * @param date the date to bucket
+	 * @return the start of the bucket
+	 */
+
+	public LocalDate bucketStart(LocalDate date) {
+		switch (this) {
+		case WEEKLY:
+			return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		case MONTHLY:
+			return date.withDayOfMonth(1);
+		default:
+			return date;
+		}
+	}
+
+	/**
+	 * Returns the first day of the bucket following the given bucket.
+	 *
+	 * @param bucketStart the start of a bucket
+	 * @return the start of the next bucket
+	 */
+
+	public LocalDate nextBucket(LocalDate bucketStart) {
+		switch (this) {
+		case WEEKLY:
+			return bucketStart.plusWeeks(1);
+		case MONTHLY:
+			return bucketStart.plusMonths(1);
+		default:
+			return bucketStart.plusDays(1);
+		}
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.monexel.expensetracker.request;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.monexel.expensetracker.statement.CsvStatementReader;
+import com.monexel.expensetracker.statement.OfxStatementReader;
+import com.monexel.expensetracker.statement.StatementReader;
+
+/**
+ * Format of an uploaded bank statement.
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public enum StatementFormat {
+
+	/**
+	 * Comma separated values with a header line naming the columns {@code date},
+	 * {@code amount} and {@code description}, and optionally {@code category},
+	 * {@code type} and {@code memo}.
+	 */
+	CSV,
+
+	/** Open Financial Exchange, SGML (1.x) or XML (2.x). */
+	OFX;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Opens a reader that parses the statement one record at a time.
+	 *
+	 * @param reader the statement text
+	 * @return the statement reader, to be closed by the caller
+	 * @throws IOException if the statement cannot be read
+	 */
+
+	public StatementReader newReader(Reader reader) throws IOException {
+		BufferedReader buffered = new BufferedReader(reader, BUFFER_SIZE);
+		return this == CSV ? new CsvStatementReader(buffered) : new OfxStatementReader(buffered);
+	}
+
+}
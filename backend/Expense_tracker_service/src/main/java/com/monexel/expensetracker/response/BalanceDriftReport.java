@@ -0,0 +1,94 @@
+package com.monexel.expensetracker.response;
+
+import java.math.BigDecimal;
+
+public class BalanceDriftReport {
+
+	private Long userId;
+	private BigDecimal ledgerIncome;
+	private BigDecimal actualIncome;
+	private BigDecimal ledgerExpense;
+	private BigDecimal actualExpense;
+	private BigDecimal ledgerBorrowed;
+	private BigDecimal actualBorrowed;
+
+	public BalanceDriftReport() {
+		super();
+	}
+
+	public BalanceDriftReport(Long userId, BigDecimal ledgerIncome, BigDecimal actualIncome, BigDecimal ledgerExpense,
+			BigDecimal actualExpense, BigDecimal ledgerBorrowed, BigDecimal actualBorrowed) {
+		super();
+		this.userId = userId;
+		this.ledgerIncome = ledgerIncome;
+		this.actualIncome = actualIncome;
+		this.ledgerExpense = ledgerExpense;
+		this.actualExpense = actualExpense;
+		this.ledgerBorrowed = ledgerBorrowed;
+		this.actualBorrowed = actualBorrowed;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public BigDecimal getLedgerIncome() {
+		return ledgerIncome;
+	}
+
+	public void setLedgerIncome(BigDecimal ledgerIncome) {
+		this.ledgerIncome = ledgerIncome;
+	}
+
+	public BigDecimal getActualIncome() {
+		return actualIncome;
+	}
+
+	public void setActualIncome(BigDecimal actualIncome) {
+		this.actualIncome = actualIncome;
+	}
+
+	public BigDecimal getLedgerExpense() {
+		return ledgerExpense;
+	}
+
+	public void setLedgerExpense(BigDecimal ledgerExpense) {
+		this.ledgerExpense = ledgerExpense;
+	}
+
+	public BigDecimal getActualExpense() {
+		return actualExpense;
+	}
+
+	public void setActualExpense(BigDecimal actualExpense) {
+		this.actualExpense = actualExpense;
+	}
+
+	public BigDecimal getLedgerBorrowed() {
+		return ledgerBorrowed;
+	}
+
+	public void setLedgerBorrowed(BigDecimal ledgerBorrowed) {
+		this.ledgerBorrowed = ledgerBorrowed;
+	}
+
+	public BigDecimal getActualBorrowed() {
+		return actualBorrowed;
+	}
+
+	public void setActualBorrowed(BigDecimal actualBorrowed) {
+		this.actualBorrowed = actualBorrowed;
+	}
+
+	@Override
+	public String toString() {
+		return "BalanceDriftReport [userId=" + userId + ", ledgerIncome=" + ledgerIncome + ", actualIncome="
+				+ actualIncome + ", ledgerExpense=" + ledgerExpense + ", actualExpense=" + actualExpense
+				+ ", ledgerBorrowed=" + ledgerBorrowed + ", actualBorrowed=" + actualBorrowed + "]";
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.monexel.expensetracker.response;
+
+import java.math.BigDecimal;
+
+public class CategoryBreakdownResponse {
+
+	private Long categoryId;
+	private String categoryName;
+	private BigDecimal totalAmount;
+	private long expenseCount;
+
+	public CategoryBreakdownResponse() {
+		super();
+	}
+
+	public CategoryBreakdownResponse(Long categoryId, String categoryName, BigDecimal totalAmount,
+			long expenseCount) {
+		super();
+		this.categoryId = categoryId;
+		this.categoryName = categoryName;
+		this.totalAmount = totalAmount;
+		this.expenseCount = expenseCount;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public String getCategoryName() {
+		return categoryName;
+	}
+
+	public void setCategoryName(String categoryName) {
+		this.categoryName = categoryName;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public long getExpenseCount() {
+		return expenseCount;
+	}
+
+	public void setExpenseCount(long expenseCount) {
+		this.expenseCount = expenseCount;
+	}
+
+}
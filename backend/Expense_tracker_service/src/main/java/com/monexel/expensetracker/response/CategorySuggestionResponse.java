@@ -0,0 +1,44 @@
+package com.monexel.expensetracker.response;
+
+public class CategorySuggestionResponse {
+
+	private Long categoryId;
+	private String categoryName;
+	private double score;
+
+	public CategorySuggestionResponse() {
+		super();
+	}
+
+	public CategorySuggestionResponse(Long categoryId, String categoryName, double score) {
+		super();
+		this.categoryId = categoryId;
+		this.categoryName = categoryName;
+		this.score = score;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(Long categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public String getCategoryName() {
+		return categoryName;
+	}
+
+	public void setCategoryName(String categoryName) {
+		this.categoryName = categoryName;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public void setScore(double score) {
+		this.score = score;
+	}
+
+}
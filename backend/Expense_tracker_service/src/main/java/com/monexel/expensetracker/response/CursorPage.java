@@ -0,0 +1,84 @@
+package com.monexel.expensetracker.response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.monexel.expensetracker.request.PageCursor;
+
+/**
+ * One page of a cursor-paginated list. {@code nextCursor} is the opaque token
+ * to pass back for the following page and is {@code null} on the last page,
+ * when {@code hasMore} is {@code false}.
+ *
+ * @param <T> the type of the items
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public class CursorPage<T> {
+
+	private List<T> items;
+	private String nextCursor;
+	private boolean hasMore;
+
+	public CursorPage() {
+		super();
+	}
+
+	public CursorPage(List<T> items, String nextCursor, boolean hasMore) {
+		super();
+		this.items = items;
+		this.nextCursor = nextCursor;
+		this.hasMore = hasMore;
+	}
+
+	/**
+	 * Builds a page from rows fetched with a limit of {@code size + 1}. The extra
+	 * row only signals that another page exists and is not returned.
+	 *
+	 * @param rows     the fetched rows, in page order
+	 * @param size     the page size
+	 * @param cursorOf extracts the keyset position of a row
+	 * @param mapper   maps a row to its response
+	 * @return the page with the cursor of its last item, if more rows exist
+	 */
+
+	public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, PageCursor> cursorOf,
+			Function<E, T> mapper) {
+		boolean hasMore = rows.size() > size;
+		List<E> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+		List<T> items = new ArrayList<>(pageRows.size());
+		for (E row : pageRows) {
+			items.add(mapper.apply(row));
+		}
+		String nextCursor = hasMore ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+		return new CursorPage<>(items, nextCursor, hasMore);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public boolean isHasMore() {
+		return hasMore;
+	}
+
+	public void setHasMore(boolean hasMore) {
+		this.hasMore = hasMore;
+	}
+
+}
@@ -12,6 +12,22 @@ public class ExpenseResponse {
 	    private LocalDate date;
 	    private String categoryName; // From Category entity
 	    private Long userId;
+
+		public ExpenseResponse() {
+			super();
+		}
+
+		public ExpenseResponse(Long id, String title, BigDecimal amount, LocalDate date, String categoryName,
+				Long userId) {
+			super();
+			this.id = id;
+			this.title = title;
+			this.amount = amount;
+			this.date = date;
+			this.categoryName = categoryName;
+			this.userId = userId;
+		}
+
 		public Long getId() {
 			return id;
 		}
@@ -0,0 +1,119 @@
+package com.monexel.expensetracker.response;
+
+import java.time.LocalDateTime;
+
+import com.monexel.expensetracker.entity.ImportStatus;
+import com.monexel.expensetracker.request.StatementFormat;
+
+public class ImportJobResponse {
+
+	private Long id;
+	private Long userId;
+	private StatementFormat format;
+	private String fileName;
+	private ImportStatus status;
+	private long recordsProcessed;
+	private long expensesImported;
+	private long incomesImported;
+	private long recordsRejected;
+	private String lastError;
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public StatementFormat getFormat() {
+		return format;
+	}
+
+	public void setFormat(StatementFormat format) {
+		this.format = format;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public ImportStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(ImportStatus status) {
+		this.status = status;
+	}
+
+	public long getRecordsProcessed() {
+		return recordsProcessed;
+	}
+
+	public void setRecordsProcessed(long recordsProcessed) {
+		this.recordsProcessed = recordsProcessed;
+	}
+
+	public long getExpensesImported() {
+		return expensesImported;
+	}
+
+	public void setExpensesImported(long expensesImported) {
+		this.expensesImported = expensesImported;
+	}
+
+	public long getIncomesImported() {
+		return incomesImported;
+	}
+
+	public void setIncomesImported(long incomesImported) {
+		this.incomesImported = incomesImported;
+	}
+
+	public long getRecordsRejected() {
+		return recordsRejected;
+	}
+
+	public void setRecordsRejected(long recordsRejected) {
+		this.recordsRejected = recordsRejected;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public LocalDateTime getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(LocalDateTime updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+}
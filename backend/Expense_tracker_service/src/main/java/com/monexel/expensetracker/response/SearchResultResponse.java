@@ -0,0 +1,88 @@
+package com.monexel.expensetracker.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class SearchResultResponse {
+
+	private String type;
+	private Long id;
+	private LocalDate date;
+	private BigDecimal amount;
+	private String title;
+	private String description;
+	private double rank;
+
+	public SearchResultResponse() {
+		super();
+	}
+
+	public SearchResultResponse(String type, Long id, LocalDate date, BigDecimal amount, String title,
+			String description, double rank) {
+		super();
+		this.type = type;
+		this.id = id;
+		this.date = date;
+		this.amount = amount;
+		this.title = title;
+		this.description = description;
+		this.rank = rank;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public double getRank() {
+		return rank;
+	}
+
+	public void setRank(double rank) {
+		this.rank = rank;
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.monexel.expensetracker.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class SeriesPoint {
+
+	private LocalDate periodStart;
+	private BigDecimal totalIncome;
+	private BigDecimal totalExpense;
+	private BigDecimal totalBorrowed;
+
+	public SeriesPoint() {
+		super();
+	}
+
+	public SeriesPoint(LocalDate periodStart, BigDecimal totalIncome, BigDecimal totalExpense,
+			BigDecimal totalBorrowed) {
+		super();
+		this.periodStart = periodStart;
+		this.totalIncome = totalIncome;
+		this.totalExpense = totalExpense;
+		this.totalBorrowed = totalBorrowed;
+	}
+
+	public LocalDate getPeriodStart() {
+		return periodStart;
+	}
+
+	public void setPeriodStart(LocalDate periodStart) {
+		this.periodStart = periodStart;
+	}
+
+	public BigDecimal getTotalIncome() {
+		return totalIncome;
+	}
+
+	public void setTotalIncome(BigDecimal totalIncome) {
+		this.totalIncome = totalIncome;
+	}
+
+	public BigDecimal getTotalExpense() {
+		return totalExpense;
+	}
+
+	public void setTotalExpense(BigDecimal totalExpense) {
+		this.totalExpense = totalExpense;
+	}
+
+	public BigDecimal getTotalBorrowed() {
+		return totalBorrowed;
+	}
+
+	public void setTotalBorrowed(BigDecimal totalBorrowed) {
+		this.totalBorrowed = totalBorrowed;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.monexel.expensetracker.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.monexel.expensetracker.request.SeriesGranularity;
+
+public class SeriesResponse {
+
+	private SeriesGranularity granularity;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private List<SeriesPoint> points;
+
+	public SeriesResponse() {
+		super();
+	}
+
+	public SeriesResponse(SeriesGranularity granularity, LocalDate startDate, LocalDate endDate,
+			List<SeriesPoint> points) {
+		super();
+		this.granularity = granularity;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.points = points;
+	}
+
+	public SeriesGranularity getGranularity() {
+		return granularity;
+	}
+
+	public void setGranularity(SeriesGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	public LocalDate getStartDate() {
+		return startDate;
+	}
+
+	public void setStartDate(LocalDate startDate) {
+		this.startDate = startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return endDate;
+	}
+
+	public void setEndDate(LocalDate endDate) {
+		this.endDate = endDate;
+	}
+
+	public List<SeriesPoint> getPoints() {
+		return points;
+	}
+
+	public void setPoints(List<SeriesPoint> points) {
+		this.points = points;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.monexel.expensetracker.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.response.BalanceDriftReport;
+import com.monexel.expensetracker.service.UserBalanceService;
+
+/**
+ * Scheduled job that rebuilds every user's balance ledger and monthly rollups
+ * from the base tables and reports any drift between the stored running totals
+ * and the actual sums.
+ *
+ * <p>
+ * Each user is reconciled in its own transaction, so a failure for one user
+ * does not roll back the others. The schedule is configured with
+ * {@code app.ledger.reconcile-cron} and defaults to 03:00 every night.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class BalanceReconciliationJob {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BalanceReconciliationJob.class);
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	/**
+	 * Reconciles the ledger of every user.
+	 *
+	 * @return the drift reports of all users whose ledger had to be repaired
+	 */
+
+	@Scheduled(cron = "${app.ledger.reconcile-cron:0 0 3 * * *}")
+	public List<BalanceDriftReport> reconcileAll() {
+		List<BalanceDriftReport> drifts = new ArrayList<>();
+		List<Long> userIds = userRepository.findAllIds();
+		for (Long userId : userIds) {
+			try {
+				Optional<BalanceDriftReport> drift = userBalanceService.reconcile(userId);
+				drift.ifPresent(drifts::add);
+			} catch (Exception e) {
+				LOGGER.error("Balance reconciliation failed for user {}: {}", userId, e.getMessage());
+			}
+		}
+		LOGGER.info("Balance reconciliation finished: {} users checked, {} with drift", userIds.size(),
+				drifts.size());
+		return drifts;
+	}
+
+}
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.monexel.expensetracker.request.BorrowedMoneyRequest;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.BorrowedMoneyResponse;
 
 public interface BorrowedMoneyService {
@@ -14,6 +15,8 @@ public interface BorrowedMoneyService {
     void deleteBorrowedMoney(Long id);
     BorrowedMoneyResponse getBorrowedMoneyById(Long id);
     List<BorrowedMoneyResponse> getAllBorrowedMoneyByUser(Long userId,LocalDate startDate, LocalDate endDate);
+    CursorPage<BorrowedMoneyResponse> getBorrowedMoneyPageByUser(Long userId, LocalDate startDate, LocalDate endDate,
+            String cursor, Integer size);
    
 
 }
@@ -2,17 +2,23 @@ package com.monexel.expensetracker.service;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
 import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.BorrowedMoneyRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.BorrowedMoneyResponse;
 
 /**
@@ -23,7 +29,8 @@ import com.monexel.expensetracker.response.BorrowedMoneyResponse;
  * This class provides business logic for adding, updating, deleting, and
  * retrieving borrowed money details. It interacts with
  * {@link BorrowedMoneyRepository} for persistence and {@link UserRepository}
- * for user validation.
+ * for user validation. Every write also updates the user's balance ledger
+ * through {@link UserBalanceService} in the same transaction.
  * </p>
  *
  * <h2>Responsibilities:</h2>
@@ -32,7 +39,8 @@ import com.monexel.expensetracker.response.BorrowedMoneyResponse;
  * <li>Update existing borrowed money details.</li>
  * <li>Delete borrowed money records by ID.</li>
  * <li>Retrieve borrowed money details by ID or by user within an optional date
- * range.</li>
+ * range. Reads select straight into {@link BorrowedMoneyResponse}, so no
+ * entity is loaded.</li>
  * </ul>
  *
  * <h2>Exception Handling:</h2>
@@ -67,6 +75,12 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
 	/**
 	 * Adds a new borrowed money record for a user.
 	 *
@@ -77,10 +91,15 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 	 */
 
 	@Override
+	@Transactional
 	public BorrowedMoneyResponse addBorrowedMoney(BorrowedMoneyRequest request) {
 		User user = userRepository.findById(request.getUserId())
 				.orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
 
+		userBalanceService.applyBorrowedDelta(user.getId(), request.getAmount());
+		monthlyRollupService.record(user.getId(), LedgerKind.BORROWED, null, request.getBorrowedDate(),
+				request.getAmount(), 1);
+
 		BorrowedMoney borrowedMoney = new BorrowedMoney();
 		borrowedMoney.setAmount(request.getAmount());
 		borrowedMoney.setBorrowedFrom(request.getBorrowedFrom());
@@ -102,10 +121,17 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 	 */
 
 	@Override
+	@Transactional
 	public BorrowedMoneyResponse updateBorrowedMoney(Long id, BorrowedMoneyRequest request) {
-		BorrowedMoney borrowedMoney = borrowedMoneyRepository.findById(id)
+		BorrowedMoney borrowedMoney = borrowedMoneyRepository.findByIdForUpdate(id)
 				.orElseThrow(() -> new ResourceNotFoundException("BorrowedMoney", "id", id));
 
+		userBalanceService.applyBorrowedDelta(borrowedMoney.getUser().getId(),
+				request.getAmount().subtract(borrowedMoney.getAmount()));
+		monthlyRollupService.recordUpdate(borrowedMoney.getUser().getId(), LedgerKind.BORROWED, null,
+				borrowedMoney.getBorrowedDate(), borrowedMoney.getAmount(), null, request.getBorrowedDate(),
+				request.getAmount());
+
 		borrowedMoney.setAmount(request.getAmount());
 		borrowedMoney.setBorrowedFrom(request.getBorrowedFrom());
 		borrowedMoney.setBorrowedDate(request.getBorrowedDate());
@@ -122,10 +148,13 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 	 */
 
 	@Override
+	@Transactional
 	public void deleteBorrowedMoney(Long id) {
-		if (!borrowedMoneyRepository.existsById(id)) {
-			throw new ResourceNotFoundException("BorrowedMoney", "id", id);
-		}
+		BorrowedMoney borrowedMoney = borrowedMoneyRepository.findByIdForUpdate(id)
+				.orElseThrow(() -> new ResourceNotFoundException("BorrowedMoney", "id", id));
+		userBalanceService.applyBorrowedDelta(borrowedMoney.getUser().getId(), borrowedMoney.getAmount().negate());
+		monthlyRollupService.record(borrowedMoney.getUser().getId(), LedgerKind.BORROWED, null,
+				borrowedMoney.getBorrowedDate(), borrowedMoney.getAmount().negate(), -1);
 		borrowedMoneyRepository.deleteById(id);
 	}
 
@@ -139,9 +168,8 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 
 	@Override
 	public BorrowedMoneyResponse getBorrowedMoneyById(Long id) {
-		BorrowedMoney borrowedMoney = borrowedMoneyRepository.findById(id)
+		return borrowedMoneyRepository.findResponseById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("BorrowedMoney", "id", id));
-		return mapToResponse(borrowedMoney);
 	}
 
 	/**
@@ -157,11 +185,38 @@ public class BorrowedMoneyServiceImpl implements BorrowedMoneyService {
 	@Override
 	public List<BorrowedMoneyResponse> getAllBorrowedMoneyByUser(Long userId, LocalDate startDate, LocalDate endDate) {
 		if (startDate != null && endDate != null) {
-			return borrowedMoneyRepository.findByUserIdAndBorrowedDateBetween(userId, startDate, endDate).stream()
-					.map(this::mapToResponse).collect(Collectors.toList());
+			return borrowedMoneyRepository.findResponsesByUserIdAndBorrowedDateBetween(userId, startDate, endDate);
 		}
-		return borrowedMoneyRepository.findByUserId(userId).stream().map(this::mapToResponse)
-				.collect(Collectors.toList());
+		return borrowedMoneyRepository.findResponsesByUserId(userId);
+	}
+
+	/**
+	 * Retrieves one page of borrowed money records for a user, newest first, optionally
+	 * filtered by a date range. Pages are addressed by keyset cursor on date and
+	 * ID, so every page costs the same index seek regardless of depth.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate the start date of the range (optional)
+	 * @param endDate   the end date of the range (optional)
+	 * @param cursor    the {@code nextCursor} of the previous page, or
+	 *                  {@code null} for the first page
+	 * @param size      the page size (optional), capped at
+	 *                  {@value PageCursor#MAX_PAGE_SIZE}
+	 * @return a {@link CursorPage} of {@link BorrowedMoneyResponse} records
+	 * @throws APIException if the cursor is malformed
+	 */
+
+	@Override
+	public CursorPage<BorrowedMoneyResponse> getBorrowedMoneyPageByUser(Long userId, LocalDate startDate, LocalDate endDate,
+			String cursor, Integer size) {
+		PageCursor after = PageCursor.decode(cursor);
+		int pageSize = PageCursor.pageSize(size);
+
+		List<BorrowedMoneyResponse> rows = borrowedMoneyRepository.findPageByUserId(userId,
+				startDate != null ? startDate : PageCursor.MIN_DATE, endDate != null ? endDate : PageCursor.MAX_DATE,
+				after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));
+		return CursorPage.of(rows, pageSize, row -> new PageCursor(row.getBorrowedDate(), row.getId()),
+				Function.identity());
 	}
 
 	/**
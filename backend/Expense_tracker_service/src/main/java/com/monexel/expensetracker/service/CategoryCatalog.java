@@ -0,0 +1,379 @@
+package com.monexel.expensetracker.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.response.CategoryResponse;
+
+/**
+ * In-memory catalog of all categories, indexed by ID, by owner and by name
+ * prefix.
+ *
+ * <p>
+ * Categories are read on every expense write and rarely change, so reads are
+ * served from an immutable snapshot published through a volatile field and
+ * never lock. Writes copy the snapshot, apply the change and publish the
+ * copy; {@link CategoryServiceImpl} applies its writes after they are
+ * committed. The catalog is loaded on first use, under the write lock, and an
+ * ID missing from it is looked up once in the database and added unless a
+ * write was applied meanwhile, so categories created through another instance
+ * are found as well. Updates and deletions made through
+ * another instance show up after the periodic reload, every
+ * {@code app.categories.catalog-refresh-ms} (five minutes by default).
+ * </p>
+ *
+ * <p>
+ * For autocomplete, the names of the shared categories and of each user's
+ * categories are kept in sorted arrays of lower-cased names. A prefix search
+ * binary-searches the shared array and the caller's array and merges the two
+ * matching ranges, so it only visits the names it returns.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class CategoryCatalog {
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	private volatile Snapshot snapshot;
+
+	/** Number of writes applied so far, guarded by {@code this}. */
+	private long writes;
+
+	/**
+	 * Returns a category by ID.
+	 *
+	 * @param id the ID of the category
+	 * @return the category, or {@code null} if it does not exist
+	 */
+
+	public Entry find(Long id) {
+		Entry entry = current().byId.get(id);
+		if (entry == null) {
+			long version = version();
+			entry = categoryRepository.findById(id).map(category -> putIfUnchanged(category, version)).orElse(null);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns a category by ID if the catalog holds it, without looking it up
+	 * in the database.
+	 *
+	 * @param id the ID of the category
+	 * @return the category, or {@code null} if the catalog does not hold it
+	 */
+
+	public Entry peek(Long id) {
+		return current().byId.get(id);
+	}
+
+	/**
+	 * Returns all categories, ordered by ID.
+	 *
+	 * @return the shared and the custom categories
+	 */
+
+	public List<Entry> all() {
+		return current().all;
+	}
+
+	/**
+	 * Returns the custom categories of a user, ordered by ID.
+	 *
+	 * @param userId the ID of the user
+	 * @return the user's categories
+	 */
+
+	public List<Entry> ownedBy(Long userId) {
+		return current().byOwner.getOrDefault(userId, Collections.emptyList());
+	}
+
+	/**
+	 * Finds the categories a user may use whose name starts with a prefix,
+	 * ignoring case.
+	 *
+	 * @param userId the ID of the user
+	 * @param prefix the name prefix, an empty prefix matches every name
+	 * @param limit  the maximum number of results
+	 * @return the shared and the user's matching categories, ordered by name
+	 */
+
+	public List<Entry> search(Long userId, String prefix, int limit) {
+		Snapshot current = current();
+		String key = prefix.toLowerCase(Locale.ROOT);
+		NameIndex shared = current.sharedNames;
+		NameIndex own = current.namesByOwner.getOrDefault(userId, NameIndex.EMPTY);
+		int i = shared.lowerBound(key);
+		int j = own.lowerBound(key);
+		List<Entry> result = new ArrayList<>(Math.min(limit, 16));
+		while (result.size() < limit) {
+			boolean sharedMatches = shared.matches(i, key);
+			boolean ownMatches = own.matches(j, key);
+			if (sharedMatches && (!ownMatches || shared.names[i].compareTo(own.names[j]) <= 0)) {
+				result.add(shared.entries[i++]);
+			} else if (ownMatches) {
+				result.add(own.entries[j++]);
+			} else {
+				break;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds or replaces a category.
+	 *
+	 * @param category the saved category
+	 * @return the catalog entry of the category
+	 */
+
+	public synchronized Entry put(Category category) {
+		Entry entry = new Entry(category);
+		writes++;
+		if (snapshot != null) {
+			Map<Long, Entry> byId = new HashMap<>(snapshot.byId);
+			byId.put(entry.getId(), entry);
+			snapshot = new Snapshot(byId.values());
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes a category.
+	 *
+	 * @param id the ID of the deleted category
+	 */
+
+	public synchronized void remove(Long id) {
+		writes++;
+		if (snapshot != null && snapshot.byId.containsKey(id)) {
+			Map<Long, Entry> byId = new HashMap<>(snapshot.byId);
+			byId.remove(id);
+			snapshot = new Snapshot(byId.values());
+		}
+	}
+
+	/**
+	 * Reloads the catalog from the database. If a write is applied while the
+	 * categories are being read, the reloaded snapshot is dropped, since it may
+	 * not contain that write, and the current one is kept until the next
+	 * reload.
+	 */
+
+	@Scheduled(fixedDelayString = "${app.categories.catalog-refresh-ms:300000}",
+			initialDelayString = "${app.categories.catalog-refresh-ms:300000}")
+	public void refresh() {
+		long version;
+		synchronized (this) {
+			version = writes;
+		}
+		List<Entry> entries = new ArrayList<>();
+		for (Category category : categoryRepository.findAll()) {
+			entries.add(new Entry(category));
+		}
+		Snapshot loaded = new Snapshot(entries);
+		synchronized (this) {
+			if (writes == version) {
+				snapshot = loaded;
+			}
+		}
+	}
+
+	/**
+	 * Adds a category read from the database, unless a write was applied since
+	 * it was read: the row may then be stale, for example a category that has
+	 * just been removed.
+	 */
+
+	private synchronized Entry putIfUnchanged(Category category, long version) {
+		if (writes != version) {
+			return new Entry(category);
+		}
+		return put(category);
+	}
+
+	private synchronized long version() {
+		return writes;
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		return current != null ? current : load();
+	}
+
+	/**
+	 * Loads the catalog on first use. Holds the write lock while reading, so
+	 * writes wait for the first snapshot instead of making it stale.
+	 */
+
+	private synchronized Snapshot load() {
+		if (snapshot == null) {
+			List<Entry> entries = new ArrayList<>();
+			for (Category category : categoryRepository.findAll()) {
+				entries.add(new Entry(category));
+			}
+			snapshot = new Snapshot(entries);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Immutable view of one category.
+	 */
+
+	public static final class Entry {
+
+		private final Long id;
+		private final String name;
+		private final String description;
+		private final Long ownerId;
+		private final String searchKey;
+
+		public Entry(Long id, String name, String description, Long ownerId) {
+			this.id = id;
+			this.name = name;
+			this.description = description;
+			this.ownerId = ownerId;
+			this.searchKey = name.toLowerCase(Locale.ROOT);
+		}
+
+		private Entry(Category category) {
+			this(category.getId(), category.getName(), category.getDescription(),
+					category.getCreatedByUser() != null ? category.getCreatedByUser().getId() : null);
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public Long getOwnerId() {
+			return ownerId;
+		}
+
+		/**
+		 * Checks whether a user may use this category: shared categories are
+		 * usable by everyone, custom ones only by their owner.
+		 *
+		 * @param userId the ID of the user
+		 * @return {@code true} if the user may use the category
+		 */
+
+		public boolean isUsableBy(Long userId) {
+			return ownerId == null || ownerId.equals(userId);
+		}
+
+		public CategoryResponse toResponse() {
+			return new CategoryResponse(id, name, description, ownerId);
+		}
+
+	}
+
+	/**
+	 * Entries sorted by lower-cased name, with the names in a parallel array.
+	 */
+
+	private static final class NameIndex {
+
+		private static final NameIndex EMPTY = new NameIndex(Collections.emptyList());
+
+		private final String[] names;
+		private final Entry[] entries;
+
+		private NameIndex(List<Entry> unsorted) {
+			Entry[] sorted = unsorted.toArray(new Entry[0]);
+			Arrays.sort(sorted, (a, b) -> a.searchKey.compareTo(b.searchKey));
+			String[] keys = new String[sorted.length];
+			for (int i = 0; i < sorted.length; i++) {
+				keys[i] = sorted[i].searchKey;
+			}
+			this.names = keys;
+			this.entries = sorted;
+		}
+
+		/**
+		 * Returns the position of the first name not less than the key.
+		 */
+
+		private int lowerBound(String key) {
+			int low = 0;
+			int high = names.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (names[mid].compareTo(key) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private boolean matches(int position, String prefix) {
+			return position < names.length && names[position].startsWith(prefix);
+		}
+
+	}
+
+	private static final class Snapshot {
+
+		private final Map<Long, Entry> byId;
+		private final Map<Long, List<Entry>> byOwner;
+		private final List<Entry> all;
+		private final NameIndex sharedNames;
+		private final Map<Long, NameIndex> namesByOwner;
+
+		private Snapshot(Collection<Entry> entries) {
+			List<Entry> sorted = new ArrayList<>(entries);
+			sorted.sort(Comparator.comparing(Entry::getId));
+
+			Map<Long, Entry> ids = new HashMap<>();
+			Map<Long, List<Entry>> owners = new HashMap<>();
+			List<Entry> shared = new ArrayList<>();
+			for (Entry entry : sorted) {
+				ids.put(entry.getId(), entry);
+				if (entry.getOwnerId() != null) {
+					owners.computeIfAbsent(entry.getOwnerId(), owner -> new ArrayList<>()).add(entry);
+				} else {
+					shared.add(entry);
+				}
+			}
+			Map<Long, NameIndex> ownerNames = new HashMap<>();
+			owners.forEach((owner, list) -> ownerNames.put(owner, new NameIndex(list)));
+			owners.replaceAll((owner, list) -> Collections.unmodifiableList(list));
+
+			this.byId = Collections.unmodifiableMap(ids);
+			this.byOwner = Collections.unmodifiableMap(owners);
+			this.all = Collections.unmodifiableList(sorted);
+			this.sharedNames = new NameIndex(shared);
+			this.namesByOwner = ownerNames;
+		}
+
+	}
+
+}
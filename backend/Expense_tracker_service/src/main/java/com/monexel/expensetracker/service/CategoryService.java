@@ -19,4 +19,6 @@ public interface CategoryService {
 
 	List<CategoryResponse> getCustomCategoriesByUser(Long userId);
 
+	List<CategoryResponse> searchCategories(Long userId, String prefix, Integer limit);
+
 }
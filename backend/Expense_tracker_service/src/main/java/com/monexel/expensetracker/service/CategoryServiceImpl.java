@@ -22,6 +22,8 @@ import com.monexel.expensetracker.response.CategoryResponse;
  * This class provides business logic for creating, updating, deleting, and
  * retrieving category details. It interacts with {@link CategoryRepository} for
  * persistence and {@link UserRepository} for associating categories with users.
+ * Reads are served from the in-memory {@link CategoryCatalog}, which every
+ * write updates once it is saved.
  * </p>
  *
  * <h2>Responsibilities:</h2>
@@ -31,6 +33,8 @@ import com.monexel.expensetracker.response.CategoryResponse;
  * <li>Delete categories by ID.</li>
  * <li>Retrieve category details by ID or fetch all categories.</li>
  * <li>Retrieve custom categories created by a specific user.</li>
+ * <li>Search the categories a user may use by name prefix, for
+ * autocomplete.</li>
  * </ul>
  *
  * <h2>Exception Handling:</h2>
@@ -57,12 +61,19 @@ import com.monexel.expensetracker.response.CategoryResponse;
 @Service
 public class CategoryServiceImpl implements CategoryService {
 
+	static final int DEFAULT_SEARCH_LIMIT = 10;
+
+	static final int MAX_SEARCH_LIMIT = 50;
+
 	@Autowired
 	private CategoryRepository categoryRepository;
 
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private CategoryCatalog categoryCatalog;
+
 	/**
 	 * Adds a new category. Optionally associates it with a user.
 	 *
@@ -84,6 +95,7 @@ public class CategoryServiceImpl implements CategoryService {
 		}
 
 		Category savedCategory = categoryRepository.save(category);
+		categoryCatalog.put(savedCategory);
 		return mapToResponse(savedCategory);
 	}
 
@@ -105,6 +117,7 @@ public class CategoryServiceImpl implements CategoryService {
 		category.setDescription(request.getDescription());
 
 		Category updatedCategory = categoryRepository.save(category);
+		categoryCatalog.put(updatedCategory);
 		return mapToResponse(updatedCategory);
 	}
 
@@ -121,6 +134,7 @@ public class CategoryServiceImpl implements CategoryService {
 			throw new ResourceNotFoundException("Category", "id", id);
 		}
 		categoryRepository.deleteById(id);
+		categoryCatalog.remove(id);
 	}
 
 	/**
@@ -133,9 +147,11 @@ public class CategoryServiceImpl implements CategoryService {
 
 	@Override
 	public CategoryResponse getCategoryById(Long id) {
-		Category category = categoryRepository.findById(id)
-				.orElseThrow(() -> new ResourceNotFoundException("Category", "id", id));
-		return mapToResponse(category);
+		CategoryCatalog.Entry category = categoryCatalog.find(id);
+		if (category == null) {
+			throw new ResourceNotFoundException("Category", "id", id);
+		}
+		return category.toResponse();
 	}
 
 	/**
@@ -146,7 +162,7 @@ public class CategoryServiceImpl implements CategoryService {
 
 	@Override
 	public List<CategoryResponse> getAllCategories() {
-		return categoryRepository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
+		return categoryCatalog.all().stream().map(CategoryCatalog.Entry::toResponse).collect(Collectors.toList());
 	}
 
 	/**
@@ -158,7 +174,27 @@ public class CategoryServiceImpl implements CategoryService {
 
 	@Override
 	public List<CategoryResponse> getCustomCategoriesByUser(Long userId) {
-		return categoryRepository.findByCreatedByUserId(userId).stream().map(this::mapToResponse)
+		return categoryCatalog.ownedBy(userId).stream().map(CategoryCatalog.Entry::toResponse)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Searches the shared categories and the user's own categories by name
+	 * prefix, ignoring case. Served from the prefix index of the
+	 * {@link CategoryCatalog}.
+	 *
+	 * @param userId the ID of the user
+	 * @param prefix the name prefix, a missing or blank prefix matches every
+	 *               name
+	 * @param limit  the maximum number of results (default 10, at most 50)
+	 * @return the matching categories, ordered by name
+	 */
+
+	@Override
+	public List<CategoryResponse> searchCategories(Long userId, String prefix, Integer limit) {
+		int max = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+		String key = prefix == null ? "" : prefix.strip();
+		return categoryCatalog.search(userId, key, max).stream().map(CategoryCatalog.Entry::toResponse)
 				.collect(Collectors.toList());
 	}
 
@@ -0,0 +1,395 @@
+package com.monexel.expensetracker.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monexel.expensetracker.projection.ExpenseTitleRow;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.response.CategorySuggestionResponse;
+
+/**
+ * Suggests the category of an expense from its title, based on the categories
+ * earlier expenses with the same title words were filed under.
+ *
+ * <p>
+ * Titles are split into lower-cased words of two or more characters, ignoring
+ * numbers. For every word the index counts the categories it was used with,
+ * once per user and once across all users for the shared categories. A
+ * suggestion scores each category by the share of each title word's
+ * expenses it received, weighting the user's own history twice as much as
+ * everyone's, and averages over the words.
+ * </p>
+ *
+ * <p>
+ * Memory is bounded twice: each word keeps at most {@value #SLOTS}
+ * categories, replacing the least used one when a new category comes in, and
+ * the index keeps at most {@code app.categories.suggestions.max-words} word
+ * counters, evicting the least valuable ones. Expenses are added as they are
+ * committed by {@link ExpenseServiceImpl}, and taken out again when they are
+ * deleted or re-filed under another category or title.
+ * </p>
+ *
+ * <p>
+ * The index is rebuilt from the {@code expenses} table in one streaming pass
+ * when the application starts. The rebuild fills a new cache while the live
+ * one keeps serving and counting; changes committed meanwhile are replayed on
+ * the new cache, which then replaces the live one. A change committed just as
+ * the table is read can still be counted twice.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class CategorySuggestionIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CategorySuggestionIndex.class);
+
+	/** Categories kept per word. */
+	static final int SLOTS = 8;
+
+	/** Words of a title that are indexed. */
+	static final int MAX_WORDS = 8;
+
+	private static final int USER_WEIGHT = 2;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private CategoryCatalog categoryCatalog;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final long maxWords;
+
+	private final boolean rebuildOnStartup;
+
+	/** Guards the swap of {@link #counts} and {@link #pending}. */
+	private final Object lock = new Object();
+
+	private volatile Cache<String, WordCounts> counts;
+
+	/** Changes made during a rebuild, to replay on the rebuilt cache. */
+	private List<Consumer<Cache<String, WordCounts>>> pending;
+
+	public CategorySuggestionIndex(@Value("${app.categories.suggestions.max-words:100000}") long maxWords,
+			@Value("${app.categories.suggestions.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+		this.maxWords = maxWords;
+		this.rebuildOnStartup = rebuildOnStartup;
+		this.counts = newCache();
+	}
+
+	/**
+	 * Adds an expense to the index once the current transaction commits, or at
+	 * once when there is none.
+	 *
+	 * @param userId     the ID of the user
+	 * @param categoryId the ID of the expense's category
+	 * @param shared     whether the category is shared by all users
+	 * @param title      the title of the expense
+	 */
+
+	public void recordAfterCommit(Long userId, Long categoryId, boolean shared, String title) {
+		afterCommit(userId, categoryId, shared, title, 1);
+	}
+
+	/**
+	 * Takes a deleted or re-filed expense out of the index once the current
+	 * transaction commits, or at once when there is none.
+	 *
+	 * @param userId     the ID of the user
+	 * @param categoryId the ID of the category the expense was filed under
+	 * @param shared     whether that category is shared by all users
+	 * @param title      the title the expense had
+	 */
+
+	public void removeAfterCommit(Long userId, Long categoryId, boolean shared, String title) {
+		afterCommit(userId, categoryId, shared, title, -1);
+	}
+
+	/**
+	 * Adds an expense to the index.
+	 *
+	 * @param userId     the ID of the user
+	 * @param categoryId the ID of the expense's category
+	 * @param shared     whether the category is shared by all users
+	 * @param title      the title of the expense
+	 */
+
+	public void record(Long userId, Long categoryId, boolean shared, String title) {
+		apply(userId, categoryId, shared, title, 1);
+	}
+
+	/**
+	 * Takes an expense out of the index.
+	 *
+	 * @param userId     the ID of the user
+	 * @param categoryId the ID of the expense's category
+	 * @param shared     whether the category is shared by all users
+	 * @param title      the title of the expense
+	 */
+
+	public void remove(Long userId, Long categoryId, boolean shared, String title) {
+		apply(userId, categoryId, shared, title, -1);
+	}
+
+	/**
+	 * Suggests categories for a title, best first. Only categories the user may
+	 * use are suggested.
+	 *
+	 * @param userId the ID of the user
+	 * @param title  the title of the expense
+	 * @param limit  the maximum number of suggestions
+	 * @return the suggestions with a score between 0 and 1, best first
+	 */
+
+	public List<CategorySuggestionResponse> suggest(Long userId, String title, int limit) {
+		List<String> words = words(title);
+		Map<Long, Double> scores = new HashMap<>();
+		for (String word : words) {
+			addShares(scores, counts.getIfPresent(userKey(userId, word)), USER_WEIGHT);
+			addShares(scores, counts.getIfPresent(sharedKey(word)), 1);
+		}
+
+		List<CategorySuggestionResponse> suggestions = new ArrayList<>();
+		double maxScore = (USER_WEIGHT + 1.0) * words.size();
+		scores.forEach((categoryId, score) -> {
+			CategoryCatalog.Entry category = categoryCatalog.peek(categoryId);
+			if (category != null && category.isUsableBy(userId)) {
+				suggestions.add(new CategorySuggestionResponse(categoryId, category.getName(), score / maxScore));
+			}
+		});
+		suggestions.sort((a, b) -> a.getScore() != b.getScore() ? Double.compare(b.getScore(), a.getScore())
+				: a.getCategoryId().compareTo(b.getCategoryId()));
+		return suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions;
+	}
+
+	/**
+	 * Rebuilds the index on startup, unless
+	 * {@code app.categories.suggestions.rebuild-on-startup} is off. Runs once
+	 * the application is ready, so requests are served meanwhile and only see
+	 * fewer suggestions.
+	 */
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the {@code expenses} table in one streaming pass
+	 * and replaces the live index with it.
+	 *
+	 * @return the number of expenses read
+	 */
+
+	public synchronized long rebuild() {
+		long start = System.currentTimeMillis();
+		Cache<String, WordCounts> rebuilt = newCache();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		long[] rows = new long[1];
+		synchronized (lock) {
+			pending = new ArrayList<>();
+		}
+		try {
+			transaction.executeWithoutResult(status -> {
+				try (Stream<ExpenseTitleRow> titles = expenseRepository.streamTitles()) {
+					titles.forEach(row -> {
+						CategoryCatalog.Entry category = categoryCatalog.peek(row.getCategoryId());
+						apply(rebuilt, row.getUserId(), row.getCategoryId(),
+								category != null && category.getOwnerId() == null, row.getTitle(), 1);
+						rows[0]++;
+					});
+				}
+			});
+			synchronized (lock) {
+				pending.forEach(change -> change.accept(rebuilt));
+				counts = rebuilt;
+			}
+		} finally {
+			synchronized (lock) {
+				pending = null;
+			}
+		}
+		LOGGER.info("Category suggestion index rebuilt from {} expenses in {} ms", rows[0],
+				System.currentTimeMillis() - start);
+		return rows[0];
+	}
+
+	/**
+	 * Splits a title into its indexed words.
+	 */
+
+	static List<String> words(String title) {
+		List<String> words = new ArrayList<>();
+		if (title == null) {
+			return words;
+		}
+		int length = title.length();
+		int i = 0;
+		while (i < length && words.size() < MAX_WORDS) {
+			while (i < length && !Character.isLetterOrDigit(title.charAt(i))) {
+				i++;
+			}
+			int start = i;
+			boolean letters = false;
+			while (i < length && Character.isLetterOrDigit(title.charAt(i))) {
+				letters |= Character.isLetter(title.charAt(i));
+				i++;
+			}
+			if (i - start >= 2 && letters) {
+				String word = title.substring(start, i).toLowerCase(Locale.ROOT);
+				if (!words.contains(word)) {
+					words.add(word);
+				}
+			}
+		}
+		return words;
+	}
+
+	private void afterCommit(Long userId, Long categoryId, boolean shared, String title, int delta) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(userId, categoryId, shared, title, delta);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(userId, categoryId, shared, title, delta);
+			}
+		});
+	}
+
+	private void apply(Long userId, Long categoryId, boolean shared, String title, int delta) {
+		synchronized (lock) {
+			apply(counts, userId, categoryId, shared, title, delta);
+			if (pending != null) {
+				pending.add(cache -> apply(cache, userId, categoryId, shared, title, delta));
+			}
+		}
+	}
+
+	private static void apply(Cache<String, WordCounts> cache, Long userId, Long categoryId, boolean shared,
+			String title, int delta) {
+		for (String word : words(title)) {
+			add(cache, userKey(userId, word), categoryId, delta);
+			if (shared) {
+				add(cache, sharedKey(word), categoryId, delta);
+			}
+		}
+	}
+
+	private static void add(Cache<String, WordCounts> cache, String key, Long categoryId, int delta) {
+		WordCounts wordCounts = delta > 0 ? cache.get(key, k -> new WordCounts()) : cache.getIfPresent(key);
+		if (wordCounts != null) {
+			wordCounts.add(categoryId, delta);
+		}
+	}
+
+	private Cache<String, WordCounts> newCache() {
+		return Caffeine.newBuilder().maximumSize(maxWords).build();
+	}
+
+	private static void addShares(Map<Long, Double> scores, WordCounts wordCounts, int weight) {
+		if (wordCounts != null) {
+			wordCounts.addShares(scores, weight);
+		}
+	}
+
+	private static String userKey(Long userId, String word) {
+		return userId + ":" + word;
+	}
+
+	private static String sharedKey(String word) {
+		return "*:" + word;
+	}
+
+	/**
+	 * The categories a word was used with and how often, in {@value #SLOTS}
+	 * slots. When all slots are taken, a new category replaces the least used
+	 * one and inherits its count (the space-saving algorithm), so a frequent
+	 * category still rises to the top. Removing a use frees the slot once its
+	 * count drops to zero; a use of a category that has already lost its slot
+	 * cannot be told apart from the inherited count and is left in place.
+	 */
+
+	static final class WordCounts {
+
+		private final long[] categoryIds = new long[SLOTS];
+		private final long[] hits = new long[SLOTS];
+		private int used;
+		private long total;
+
+		synchronized void add(Long categoryId, int delta) {
+			if (delta < 0) {
+				remove(categoryId);
+				return;
+			}
+			total++;
+			int min = 0;
+			for (int i = 0; i < used; i++) {
+				if (categoryIds[i] == categoryId) {
+					hits[i]++;
+					return;
+				}
+				if (hits[i] < hits[min]) {
+					min = i;
+				}
+			}
+			if (used < SLOTS) {
+				categoryIds[used] = categoryId;
+				hits[used++] = 1;
+			} else {
+				categoryIds[min] = categoryId;
+				hits[min]++;
+			}
+		}
+
+		private void remove(Long categoryId) {
+			for (int i = 0; i < used; i++) {
+				if (categoryIds[i] == categoryId) {
+					total--;
+					if (--hits[i] == 0) {
+						used--;
+						categoryIds[i] = categoryIds[used];
+						hits[i] = hits[used];
+					}
+					return;
+				}
+			}
+		}
+
+		synchronized void addShares(Map<Long, Double> scores, int weight) {
+			for (int i = 0; i < used; i++) {
+				scores.merge(categoryIds[i], weight * (double) hits[i] / total, Double::sum);
+			}
+		}
+
+	}
+
+}
@@ -1,34 +1,61 @@
 package com.monexel.expensetracker.service;
 
-import java.util.Collections;
-
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
 import com.monexel.expensetracker.repository.UserRepository;
 
 
+/**
+ * Loads users for authentication, through the {@link UserDetailsCache}.
+ *
+ * <p>
+ * As a {@link UserDetailsPasswordService} it also stores the new hash when a
+ * sign-in succeeds against a hash whose BCrypt cost is lower than
+ * {@code app.security.bcrypt.strength}, so raising the cost upgrades
+ * passwords as users sign in.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	UserDetailsCache userDetailsCache;
+
 	@Override
 	public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+		return userDetailsCache.get(email, this::loadFromDatabase);
+	}
+
+	@Override
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+		userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+		userDetailsCache.evict(user.getUsername());
+		AuthenticatedUser authenticated = (AuthenticatedUser) user;
+		return new AuthenticatedUser(authenticated.getId(), authenticated.getUsername(), newPassword,
+				authenticated.getRole(), authenticated.getTokenVersion());
+	}
 
+	private AuthenticatedUser loadFromDatabase(String email) {
 		User user = userRepository.findByEmail(email);
 		if (user == null) {
 			throw new UsernameNotFoundException("User not found");
 		}
-		return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(),
-				Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getRole())));
+		return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), user.getRole(),
+				user.getTokenVersion());
 	}
 
 }
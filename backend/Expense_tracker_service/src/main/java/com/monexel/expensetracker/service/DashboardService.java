@@ -1,10 +1,20 @@
 package com.monexel.expensetracker.service;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import com.monexel.expensetracker.request.SeriesGranularity;
+import com.monexel.expensetracker.response.CategoryBreakdownResponse;
 import com.monexel.expensetracker.response.DashboardResponse;
+import com.monexel.expensetracker.response.SeriesResponse;
 
 public interface DashboardService {
 	
 	DashboardResponse getDashboardSummary(Long userId, LocalDate startDate, LocalDate endDate);
+
+	DashboardResponse getAllTimeSummary(Long userId);
+
+	SeriesResponse getSeries(Long userId, LocalDate startDate, LocalDate endDate, SeriesGranularity granularity);
+
+	List<CategoryBreakdownResponse> getCategoryBreakdown(Long userId, LocalDate startDate, LocalDate endDate);
 }
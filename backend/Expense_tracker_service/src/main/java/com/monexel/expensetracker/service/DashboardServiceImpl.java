@@ -2,17 +2,46 @@ package com.monexel.expensetracker.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.monexel.expensetracker.entity.BorrowedMoney;
-import com.monexel.expensetracker.entity.Expense;
-import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.DashboardTimeoutException;
+import com.monexel.expensetracker.projection.CategoryTotal;
+import com.monexel.expensetracker.projection.DailyTotal;
+import com.monexel.expensetracker.projection.MonthlyTotal;
 import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.ExpenseRepository;
 import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.request.SeriesGranularity;
+import com.monexel.expensetracker.response.CategoryBreakdownResponse;
 import com.monexel.expensetracker.response.DashboardResponse;
+import com.monexel.expensetracker.response.SeriesPoint;
+import com.monexel.expensetracker.response.SeriesResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Service implementation for generating dashboard summaries in the Expense
@@ -26,11 +55,20 @@ import com.monexel.expensetracker.response.DashboardResponse;
  *
  * <h2>Responsibilities:</h2>
  * <ul>
- * <li>Fetch income, expense, and borrowed money records for a user within a
- * date range.</li>
+ * <li>Answer the whole months of a date range from the monthly rollups and
+ * the partial months at either edge from database-side sums of the base
+ * tables.</li>
  * <li>Calculate total income, total expenses, total borrowed amount, and net
  * balance.</li>
+ * <li>Run the income, expense and borrowed money aggregates concurrently on the
+ * bounded {@code dashboardExecutor}, so latency follows the slowest sub-query
+ * rather than their sum.</li>
  * <li>Return a {@link DashboardResponse} containing the aggregated data.</li>
+ * <li>Build daily, weekly or monthly time series from grouped per-day queries
+ * and the monthly rollups.</li>
+ * <li>Break expenses down by category with a single grouped query.</li>
+ * <li>Serve the all-time summary from the user's balance ledger with a single
+ * primary-key read.</li>
  * </ul>
  *
  * <h2>Calculation Logic:</h2>
@@ -42,6 +80,16 @@ import com.monexel.expensetracker.response.DashboardResponse;
  * <li><b>Net Balance:</b> (Total Income + Total Borrowed) - Total Expense.</li>
  * </ul>
  *
+ * <h2>Metrics:</h2>
+ * <ul>
+ * <li><b>dashboard.summary.query</b> - Timer per sub-query, tagged with
+ * {@code query=income|expense|borrowed}.</li>
+ * <li><b>dashboard.summary.timeouts</b> - Counter of sub-queries that exceeded
+ * {@code app.dashboard.query-timeout-ms}.</li>
+ * <li><b>dashboard.series.query</b> and <b>dashboard.series.timeouts</b> - The
+ * same metrics for time series requests.</li>
+ * </ul>
+ *
  * <h2>Usage Example:</h2>
  * 
  * <pre>
@@ -57,6 +105,12 @@ import com.monexel.expensetracker.response.DashboardResponse;
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
+	private static final String SUMMARY_METRIC = "dashboard.summary";
+
+	private static final String SERIES_METRIC = "dashboard.series";
+
+	static final int MAX_SERIES_POINTS = 1000;
+
 	@Autowired
 	private IncomeRepository incomeRepository;
 
@@ -66,6 +120,28 @@ public class DashboardServiceImpl implements DashboardService {
 	@Autowired
 	private BorrowedMoneyRepository borrowedMoneyRepository;
 
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
+	@Autowired
+	@Qualifier("dashboardExecutor")
+	private Executor dashboardExecutor;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${app.dashboard.query-timeout-ms:2000}")
+	private long queryTimeoutMs;
+
+	/** Sub-query timers by metric and query, registered once. */
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
 	/**
 	 * Generates a dashboard summary for a user within a specified date range.
 	 *
@@ -74,18 +150,26 @@ public class DashboardServiceImpl implements DashboardService {
 	 * @param endDate   the end date of the range (inclusive)
 	 * @return a {@link DashboardResponse} containing total income, total expense,
 	 *         total borrowed amount, and net balance
+	 * @throws DashboardTimeoutException if a sub-query does not complete within
+	 *                                   the configured timeout
 	 */
 
+	@Override
 	public DashboardResponse getDashboardSummary(Long userId, LocalDate startDate, LocalDate endDate) {
-		BigDecimal totalIncome = incomeRepository.findByUserIdAndDateBetween(userId, startDate, endDate).stream()
-				.map(Income::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+		boolean rollups = hasRollups(userId);
+
+		CompletableFuture<BigDecimal> income = submit(SUMMARY_METRIC, "income", () -> sumRange(userId, LedgerKind.INCOME,
+				startDate, endDate, rollups, incomeRepository::sumAmountByUserIdAndDateBetween));
+
+		CompletableFuture<BigDecimal> expense = submit(SUMMARY_METRIC, "expense", () -> sumRange(userId, LedgerKind.EXPENSE,
+				startDate, endDate, rollups, expenseRepository::sumAmountByUserIdAndDateBetween));
 
-		BigDecimal totalExpense = expenseRepository.findByUserIdAndDateBetween(userId, startDate, endDate).stream()
-				.map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+		CompletableFuture<BigDecimal> borrowed = submit(SUMMARY_METRIC, "borrowed", () -> sumRange(userId, LedgerKind.BORROWED,
+				startDate, endDate, rollups, borrowedMoneyRepository::sumAmountByUserIdAndBorrowedDateBetween));
 
-		BigDecimal totalBorrowed = borrowedMoneyRepository
-				.findByUserIdAndBorrowedDateBetween(userId, startDate, endDate).stream().map(BorrowedMoney::getAmount)
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
+		BigDecimal totalIncome = await(SUMMARY_METRIC, "income", income);
+		BigDecimal totalExpense = await(SUMMARY_METRIC, "expense", expense);
+		BigDecimal totalBorrowed = await(SUMMARY_METRIC, "borrowed", borrowed);
 
 		BigDecimal netBalance = (totalIncome.add(totalBorrowed)).subtract(totalExpense);
 
@@ -98,4 +182,277 @@ public class DashboardServiceImpl implements DashboardService {
 		return response;
 	}
 
+	/**
+	 * Generates an all-time dashboard summary for a user from the balance ledger.
+	 * A user whose ledger is not seeded yet is summed from the base tables; the
+	 * ledger is only ever seeded by writes and by the reconciliation job.
+	 *
+	 * @param userId the ID of the user
+	 * @return a {@link DashboardResponse} containing the running totals and net
+	 *         balance of the user
+	 */
+
+	@Override
+	public DashboardResponse getAllTimeSummary(Long userId) {
+		Optional<UserBalance> balance = userBalanceService.findBalance(userId);
+		BigDecimal totalIncome = balance.map(UserBalance::getTotalIncome)
+				.orElseGet(() -> incomeRepository.sumAmountByUserId(userId));
+		BigDecimal totalExpense = balance.map(UserBalance::getTotalExpense)
+				.orElseGet(() -> expenseRepository.sumAmountByUserId(userId));
+		BigDecimal totalBorrowed = balance.map(UserBalance::getTotalBorrowed)
+				.orElseGet(() -> borrowedMoneyRepository.sumAmountByUserId(userId));
+		BigDecimal netBalance = totalIncome.add(totalBorrowed).subtract(totalExpense);
+		return new DashboardResponse(totalIncome, totalExpense, totalBorrowed, netBalance);
+	}
+
+	/**
+	 * Generates a time series of income, expense and borrowed money totals for a
+	 * user, bucketed by day, week or month. Each table is read with one grouped
+	 * query returning at most one row per day; monthly series read whole months
+	 * from the monthly rollups instead.
+	 *
+	 * @param userId      the ID of the user
+	 * @param startDate   the start date of the range (inclusive)
+	 * @param endDate     the end date of the range (inclusive)
+	 * @param granularity the bucket size
+	 * @return a {@link SeriesResponse} with one zero-filled point per bucket
+	 * @throws APIException              if the range is inverted or has more
+	 *                                   than {@value #MAX_SERIES_POINTS} buckets
+	 * @throws DashboardTimeoutException if a sub-query does not complete within
+	 *                                   the configured timeout
+	 */
+
+	@Override
+	public SeriesResponse getSeries(Long userId, LocalDate startDate, LocalDate endDate,
+			SeriesGranularity granularity) {
+		List<LocalDate> buckets = bucketStarts(startDate, endDate, granularity);
+		boolean rollups = hasRollups(userId);
+
+		CompletableFuture<Map<LocalDate, BigDecimal>> income = submit(SERIES_METRIC, "income",
+				() -> bucketTotals(userId, LedgerKind.INCOME, startDate, endDate, granularity, rollups,
+						incomeRepository::sumDailyByUserIdAndDateBetween));
+
+		CompletableFuture<Map<LocalDate, BigDecimal>> expense = submit(SERIES_METRIC, "expense",
+				() -> bucketTotals(userId, LedgerKind.EXPENSE, startDate, endDate, granularity, rollups,
+						expenseRepository::sumDailyByUserIdAndDateBetween));
+
+		CompletableFuture<Map<LocalDate, BigDecimal>> borrowed = submit(SERIES_METRIC, "borrowed",
+				() -> bucketTotals(userId, LedgerKind.BORROWED, startDate, endDate, granularity, rollups,
+						borrowedMoneyRepository::sumDailyByUserIdAndBorrowedDateBetween));
+
+		Map<LocalDate, BigDecimal> incomeTotals = await(SERIES_METRIC, "income", income);
+		Map<LocalDate, BigDecimal> expenseTotals = await(SERIES_METRIC, "expense", expense);
+		Map<LocalDate, BigDecimal> borrowedTotals = await(SERIES_METRIC, "borrowed", borrowed);
+
+		List<SeriesPoint> points = new ArrayList<>(buckets.size());
+		for (LocalDate bucket : buckets) {
+			points.add(new SeriesPoint(bucket, incomeTotals.getOrDefault(bucket, BigDecimal.ZERO),
+					expenseTotals.getOrDefault(bucket, BigDecimal.ZERO),
+					borrowedTotals.getOrDefault(bucket, BigDecimal.ZERO)));
+		}
+		return new SeriesResponse(granularity, startDate, endDate, points);
+	}
+
+	/**
+	 * Totals and counts the expenses of a user per category within a date range.
+	 * The breakdown is computed by one GROUP BY over expenses joined to
+	 * categories, so no expense, category or user entities are loaded.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate the start date of the range (inclusive)
+	 * @param endDate   the end date of the range (inclusive)
+	 * @return the categories with expenses in the range, largest total first
+	 */
+
+	@Override
+	public List<CategoryBreakdownResponse> getCategoryBreakdown(Long userId, LocalDate startDate,
+			LocalDate endDate) {
+		return expenseRepository.sumByCategoryAndDateBetween(userId, startDate, endDate).stream()
+				.map(this::mapToBreakdown).collect(Collectors.toList());
+	}
+
+	/**
+	 * Runs a dashboard sub-query on the dashboard executor, recording its
+	 * duration and failing it once the configured timeout elapses. The
+	 * sub-query runs in a read-only transaction with the same timeout, rounded
+	 * up to whole seconds, which Spring applies as the JDBC query timeout, so
+	 * a query that has timed out is cancelled by the database and releases its
+	 * executor thread and connection instead of running on.
+	 *
+	 * @param metric the metric name prefix of the calling operation
+	 * @param query  the name of the sub-query, used as the metric tag
+	 * @param task   the sub-query to run
+	 * @return a future completing with the sub-query result
+	 */
+
+	private <T> CompletableFuture<T> submit(String metric, String query, Supplier<T> task) {
+		Timer timer = timers.computeIfAbsent(metric + "." + query, key -> Timer.builder(metric + ".query")
+				.tag("query", query).publishPercentiles(0.5, 0.99).register(meterRegistry));
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		transaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMs + 999)));
+		return CompletableFuture
+				.supplyAsync(() -> timer.record(() -> transaction.execute(status -> task.get())), dashboardExecutor)
+				.orTimeout(queryTimeoutMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Waits for a dashboard sub-query and unwraps its failure.
+	 *
+	 * @param metric the metric name prefix of the calling operation
+	 * @param query  the name of the sub-query
+	 * @param future the future returned by {@link #submit(String, String, Supplier)}
+	 * @return the sub-query result
+	 * @throws DashboardTimeoutException if the sub-query timed out
+	 */
+
+	private <T> T await(String metric, String query, CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				meterRegistry.counter(metric + ".timeouts", "query", query).increment();
+				throw new DashboardTimeoutException(query);
+			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks whether the monthly rollups of a user are maintained, which they
+	 * are from the moment the user's ledger row is seeded. Reads the ledger
+	 * row without locking or seeding it, so the read-only dashboard never
+	 * writes.
+	 */
+
+	private boolean hasRollups(Long userId) {
+		return userBalanceService.findBalance(userId).isPresent();
+	}
+
+	/**
+	 * Sums one kind of record over a date range. Whole months are read from the
+	 * monthly rollups, and the partial months at either edge are summed from the
+	 * base table.
+	 *
+	 * @param userId       the ID of the user
+	 * @param kind         the kind of record to sum
+	 * @param startDate    the start date of the range (inclusive)
+	 * @param endDate      the end date of the range (inclusive)
+	 * @param rollups      whether the user's monthly rollups are maintained;
+	 *                     if not, the whole range is summed from the base table
+	 * @param baseTableSum the base table sum used for partial months
+	 * @return the total amount in the range
+	 */
+
+	private BigDecimal sumRange(Long userId, LedgerKind kind, LocalDate startDate, LocalDate endDate,
+			boolean rollups, RangeQuery<BigDecimal> baseTableSum) {
+		YearMonth firstFullMonth = firstFullMonth(startDate);
+		YearMonth lastFullMonth = lastFullMonth(endDate);
+
+		if (!rollups || firstFullMonth.isAfter(lastFullMonth)) {
+			return baseTableSum.query(userId, startDate, endDate);
+		}
+
+		BigDecimal total = monthlyRollupService.sumMonths(userId, kind, firstFullMonth, lastFullMonth);
+		if (startDate.isBefore(firstFullMonth.atDay(1))) {
+			total = total.add(baseTableSum.query(userId, startDate, firstFullMonth.atDay(1).minusDays(1)));
+		}
+		if (endDate.isAfter(lastFullMonth.atEndOfMonth())) {
+			total = total.add(baseTableSum.query(userId, lastFullMonth.plusMonths(1).atDay(1), endDate));
+		}
+		return total;
+	}
+
+	/**
+	 * Totals one kind of record per bucket. Monthly series read whole months
+	 * from the rollups and only the partial edge months from the daily query.
+	 *
+	 * @param userId      the ID of the user
+	 * @param kind        the kind of record to total
+	 * @param startDate   the start date of the range (inclusive)
+	 * @param endDate     the end date of the range (inclusive)
+	 * @param granularity the bucket size
+	 * @param rollups     whether the user's monthly rollups are maintained
+	 * @param dailyTotals the grouped per-day query of the base table
+	 * @return the totals keyed by bucket start, omitting empty buckets
+	 */
+
+	private Map<LocalDate, BigDecimal> bucketTotals(Long userId, LedgerKind kind, LocalDate startDate,
+			LocalDate endDate, SeriesGranularity granularity, boolean rollups,
+			RangeQuery<List<DailyTotal>> dailyTotals) {
+		Map<LocalDate, BigDecimal> totals = new HashMap<>();
+		YearMonth firstFullMonth = firstFullMonth(startDate);
+		YearMonth lastFullMonth = lastFullMonth(endDate);
+
+		if (!rollups || granularity != SeriesGranularity.MONTHLY || firstFullMonth.isAfter(lastFullMonth)) {
+			addDailyTotals(totals, granularity, dailyTotals.query(userId, startDate, endDate));
+			return totals;
+		}
+
+		for (MonthlyTotal month : monthlyRollupService.monthlyTotals(userId, kind, firstFullMonth, lastFullMonth)) {
+			LocalDate bucket = LocalDate.of(month.getYearMonth() / 100, month.getYearMonth() % 100, 1);
+			totals.merge(bucket, month.getTotal(), BigDecimal::add);
+		}
+		if (startDate.isBefore(firstFullMonth.atDay(1))) {
+			addDailyTotals(totals, granularity,
+					dailyTotals.query(userId, startDate, firstFullMonth.atDay(1).minusDays(1)));
+		}
+		if (endDate.isAfter(lastFullMonth.atEndOfMonth())) {
+			addDailyTotals(totals, granularity,
+					dailyTotals.query(userId, lastFullMonth.plusMonths(1).atDay(1), endDate));
+		}
+		return totals;
+	}
+
+	private void addDailyTotals(Map<LocalDate, BigDecimal> totals, SeriesGranularity granularity,
+			List<DailyTotal> days) {
+		for (DailyTotal day : days) {
+			totals.merge(granularity.bucketStart(day.getDay()), day.getTotal(), BigDecimal::add);
+		}
+	}
+
+	/**
+	 * Lists the start of every bucket overlapping a date range.
+	 *
+	 * @throws APIException if the range is inverted or has too many buckets
+	 */
+
+	private List<LocalDate> bucketStarts(LocalDate startDate, LocalDate endDate, SeriesGranularity granularity) {
+		if (endDate.isBefore(startDate)) {
+			throw new APIException("End date must not be before start date.");
+		}
+		List<LocalDate> buckets = new ArrayList<>();
+		for (LocalDate bucket = granularity.bucketStart(startDate); !bucket.isAfter(endDate); bucket = granularity
+				.nextBucket(bucket)) {
+			if (buckets.size() == MAX_SERIES_POINTS) {
+				throw new APIException("Date range is too large for " + granularity + " granularity; at most "
+						+ MAX_SERIES_POINTS + " points are returned.");
+			}
+			buckets.add(bucket);
+		}
+		return buckets;
+	}
+
+	private CategoryBreakdownResponse mapToBreakdown(CategoryTotal total) {
+		return new CategoryBreakdownResponse(total.getCategoryId(), total.getCategoryName(), total.getTotal(),
+				total.getEntryCount());
+	}
+
+	private static YearMonth firstFullMonth(LocalDate startDate) {
+		return startDate.getDayOfMonth() == 1 ? YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+	}
+
+	private static YearMonth lastFullMonth(LocalDate endDate) {
+		return endDate.equals(YearMonth.from(endDate).atEndOfMonth()) ? YearMonth.from(endDate)
+				: YearMonth.from(endDate).minusMonths(1);
+	}
+
+	@FunctionalInterface
+	private interface RangeQuery<T> {
+		T query(Long userId, LocalDate startDate, LocalDate endDate);
+	}
+
 }
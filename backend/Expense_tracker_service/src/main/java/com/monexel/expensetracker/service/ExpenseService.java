@@ -3,13 +3,18 @@ package com.monexel.expensetracker.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import com.monexel.expensetracker.request.ExpenseBatchRequest;
 import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.response.CategorySuggestionResponse;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.ExpenseResponse;
 
 public interface ExpenseService {
 
 	ExpenseResponse addExpense(ExpenseRequest request);
 
+	List<ExpenseResponse> addExpenses(ExpenseBatchRequest request);
+
 	ExpenseResponse updateExpense(Long id, ExpenseRequest request);
 
 	void deleteExpense(Long id);
@@ -17,4 +22,9 @@ public interface ExpenseService {
 	ExpenseResponse getExpenseById(Long id);
 
 	List<ExpenseResponse> getAllExpensesByUser(Long userId,LocalDate startDate, LocalDate endDate);
+
+	CursorPage<ExpenseResponse> getExpensesPageByUser(Long userId, LocalDate startDate, LocalDate endDate, String cursor,
+			Integer size);
+
+	List<CategorySuggestionResponse> suggestCategories(Long userId, String title, Integer limit);
 }
@@ -2,24 +2,37 @@ package com.monexel.expensetracker.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.monexel.expensetracker.entity.Category;
 import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
 import com.monexel.expensetracker.exception.APIException;
 import com.monexel.expensetracker.exception.InsufficientFundsException;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
-import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.CategoryRepository;
 import com.monexel.expensetracker.repository.ExpenseRepository;
-import com.monexel.expensetracker.repository.IncomeRepository;
 import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExpenseBatchItem;
+import com.monexel.expensetracker.request.ExpenseBatchRequest;
 import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CategorySuggestionResponse;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.ExpenseResponse;
 
 /**
@@ -30,23 +43,33 @@ import com.monexel.expensetracker.response.ExpenseResponse;
  * This class provides business logic for adding, updating, deleting, and
  * retrieving expense details. It validates user and category associations,
  * ensures sufficient funds before adding an expense, and interacts with
- * repositories for persistence.
+ * repositories for persistence. Available funds are read from the user's
+ * balance ledger, which every write keeps up to date through
+ * {@link UserBalanceService} in the same transaction.
  * </p>
  *
  * <h2>Responsibilities:</h2>
  * <ul>
  * <li>Add new expenses after validating user, category, and available
- * balance.</li>
+ * balance, one at a time or as a batch that is validated once and inserted
+ * with JDBC batching.</li>
  * <li>Update existing expense details.</li>
  * <li>Delete expenses by ID.</li>
  * <li>Retrieve expense details by ID or fetch all expenses for a user within an
- * optional date range.</li>
+ * optional date range. Reads select straight into {@link ExpenseResponse}
+ * with a single join on the category, so no entity is loaded or
+ * dirty-checked.</li>
+ * <li>Suggest categories for an expense title from the
+ * {@link CategorySuggestionIndex}, which every new or re-filed expense updates
+ * once committed.</li>
  * </ul>
  *
  * <h2>Validation Rules:</h2>
  * <ul>
  * <li>User must exist in the system.</li>
- * <li>Category must exist and belong to the same user (if custom).</li>
+ * <li>Category must exist and belong to the same user (if custom). Categories
+ * are looked up in the {@link CategoryCatalog}, so validating one does not
+ * query the database.</li>
  * <li>Net balance (income + borrowed - expenses) must be sufficient for the new
  * expense.</li>
  * </ul>
@@ -80,6 +103,10 @@ import com.monexel.expensetracker.response.ExpenseResponse;
 @Service
 public class ExpenseServiceImpl implements ExpenseService {
 
+	static final int DEFAULT_SUGGESTIONS = 3;
+
+	static final int MAX_SUGGESTIONS = 10;
+
 	@Autowired
 	private ExpenseRepository expenseRepository;
 
@@ -90,10 +117,16 @@ public class ExpenseServiceImpl implements ExpenseService {
 	private CategoryRepository categoryRepository;
 
 	@Autowired
-	private IncomeRepository incomeRepository;
+	private CategoryCatalog categoryCatalog;
 
 	@Autowired
-	private BorrowedMoneyRepository borrowedMoneyRepository;
+	private CategorySuggestionIndex categorySuggestionIndex;
+
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
 
 	/**
 	 * Adds a new expense after validating user, category, and available funds.
@@ -106,6 +139,7 @@ public class ExpenseServiceImpl implements ExpenseService {
 	 */
 
 	@Override
+	@Transactional
 	public ExpenseResponse addExpense(ExpenseRequest request) {
 
 		// Validate User
@@ -113,43 +147,100 @@ public class ExpenseServiceImpl implements ExpenseService {
 				.orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
 
 		// Validate Category
-		Category category = categoryRepository.findById(request.getCategoryId())
-				.orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
-
-		if (category.getCreatedByUser() != null && !category.getCreatedByUser().getId().equals(user.getId())) {
-			throw new APIException("You cannot use a category created by another user.");
-		}
+		CategoryCatalog.Entry category = findUsableCategory(request.getCategoryId(), user.getId());
 
-		// ✅ Calculate totals for validation
-		BigDecimal totalIncome = incomeRepository.findByUserId(user.getId()).stream().map(i -> i.getAmount())
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		BigDecimal totalExpense = expenseRepository.findByUserId(user.getId()).stream().map(e -> e.getAmount())
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		BigDecimal totalBorrowed = borrowedMoneyRepository.findByUserId(user.getId()).stream().map(b -> b.getAmount())
-				.reduce(BigDecimal.ZERO, BigDecimal::add);
-
-		BigDecimal netBalance = totalIncome.add(totalBorrowed).subtract(totalExpense);
-
-		// ✅ Validation: Ensure enough funds
+		// ✅ Validation: Ensure enough funds (single ledger read)
+		BigDecimal netBalance = userBalanceService.getNetBalance(user.getId());
 		if (netBalance.compareTo(request.getAmount()) < 0) {
 			throw new InsufficientFundsException("Insufficient funds! Please add income first.");
 		}
+		userBalanceService.applyExpenseDelta(user.getId(), request.getAmount());
+		monthlyRollupService.record(user.getId(), LedgerKind.EXPENSE, category.getId(), request.getDate(),
+				request.getAmount(), 1);
 
 		// ✅ Save expense (do NOT modify income or borrowed money)
 		Expense expense = new Expense();
 		expense.setTitle(request.getTitle());
 		expense.setAmount(request.getAmount());
 		expense.setDate(request.getDate());
-		expense.setCategory(category);
+		expense.setCategory(categoryRepository.getReferenceById(category.getId()));
 		expense.setUser(user);
 
 		Expense savedExpense = expenseRepository.save(expense);
-		return mapToResponse(savedExpense);
+		categorySuggestionIndex.recordAfterCommit(user.getId(), category.getId(), category.getOwnerId() == null,
+				request.getTitle());
+		return mapToResponse(savedExpense, category.getName());
 
 	}
 
+	/**
+	 * Adds a batch of expenses for one user in a single transaction. The user and
+	 * the categories are validated once, funds are checked once against the
+	 * batch total, the monthly rollups are written once per month and category,
+	 * and the rows are inserted with JDBC batching.
+	 *
+	 * @param request the {@link ExpenseBatchRequest} containing the user and the
+	 *                expenses to add
+	 * @return the created expenses, in request order
+	 * @throws ResourceNotFoundException  if the user or a category does not exist
+	 * @throws APIException               if a category belongs to another user
+	 * @throws InsufficientFundsException if the user cannot afford the batch total
+	 */
+
+	@Override
+	@Transactional
+	public List<ExpenseResponse> addExpenses(ExpenseBatchRequest request) {
+		User user = userRepository.findById(request.getUserId())
+				.orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
+
+		Set<Long> categoryIds = new HashSet<>();
+		BigDecimal total = BigDecimal.ZERO;
+		for (ExpenseBatchItem item : request.getExpenses()) {
+			categoryIds.add(item.getCategoryId());
+			total = total.add(item.getAmount());
+		}
+
+		Map<Long, CategoryCatalog.Entry> categories = new HashMap<>();
+		for (Long categoryId : categoryIds) {
+			categories.put(categoryId, findUsableCategory(categoryId, user.getId()));
+		}
+
+		BigDecimal netBalance = userBalanceService.getNetBalance(user.getId());
+		if (netBalance.compareTo(total) < 0) {
+			throw new InsufficientFundsException("Insufficient funds! Please add income first.");
+		}
+		userBalanceService.applyExpenseDelta(user.getId(), total);
+
+		List<Expense> expenses = new ArrayList<>(request.getExpenses().size());
+		for (ExpenseBatchItem item : request.getExpenses()) {
+			Expense expense = new Expense();
+			expense.setTitle(item.getTitle());
+			expense.setAmount(item.getAmount());
+			expense.setDate(item.getDate());
+			expense.setCategory(categoryRepository.getReferenceById(item.getCategoryId()));
+			expense.setUser(user);
+			expenses.add(expense);
+		}
+
+		Map<Long, Map<YearMonth, List<Expense>>> groups = expenses.stream()
+				.collect(Collectors.groupingBy(expense -> expense.getCategory().getId(),
+						Collectors.groupingBy(expense -> YearMonth.from(expense.getDate()))));
+		groups.forEach((categoryId, months) -> months.forEach((month, rows) -> {
+			BigDecimal amount = rows.stream().map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+			monthlyRollupService.record(user.getId(), LedgerKind.EXPENSE, categoryId, month.atDay(1), amount,
+					rows.size());
+		}));
+
+		for (ExpenseBatchItem item : request.getExpenses()) {
+			CategoryCatalog.Entry category = categories.get(item.getCategoryId());
+			categorySuggestionIndex.recordAfterCommit(user.getId(), category.getId(), category.getOwnerId() == null,
+					item.getTitle());
+		}
+		return expenseRepository.saveAll(expenses).stream()
+				.map(expense -> mapToResponse(expense, categories.get(expense.getCategory().getId()).getName()))
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Updates an existing expense.
 	 *
@@ -157,23 +248,37 @@ public class ExpenseServiceImpl implements ExpenseService {
 	 * @param request the {@link ExpenseRequest} containing updated details
 	 * @return a {@link ExpenseResponse} representing the updated expense
 	 * @throws ResourceNotFoundException if the expense or category does not exist
+	 * @throws APIException              if the category belongs to another user
 	 */
 
 	@Override
+	@Transactional
 	public ExpenseResponse updateExpense(Long id, ExpenseRequest request) {
-		Expense expense = expenseRepository.findById(id)
+		Expense expense = expenseRepository.findByIdForUpdate(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Expense", "id", id));
 
-		Category category = categoryRepository.findById(request.getCategoryId())
-				.orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
+		CategoryCatalog.Entry category = findUsableCategory(request.getCategoryId(), expense.getUser().getId());
+
+		userBalanceService.applyExpenseDelta(expense.getUser().getId(), request.getAmount().subtract(expense.getAmount()));
+		monthlyRollupService.recordUpdate(expense.getUser().getId(), LedgerKind.EXPENSE,
+				expense.getCategory().getId(), expense.getDate(), expense.getAmount(), category.getId(),
+				request.getDate(), request.getAmount());
+
+		if (!category.getId().equals(expense.getCategory().getId())
+				|| !Objects.equals(request.getTitle(), expense.getTitle())) {
+			categorySuggestionIndex.removeAfterCommit(expense.getUser().getId(), expense.getCategory().getId(),
+					isShared(expense.getCategory().getId()), expense.getTitle());
+			categorySuggestionIndex.recordAfterCommit(expense.getUser().getId(), category.getId(),
+					category.getOwnerId() == null, request.getTitle());
+		}
 
 		expense.setTitle(request.getTitle());
 		expense.setAmount(request.getAmount());
 		expense.setDate(request.getDate());
-		expense.setCategory(category);
+		expense.setCategory(categoryRepository.getReferenceById(category.getId()));
 
 		Expense updatedExpense = expenseRepository.save(expense);
-		return mapToResponse(updatedExpense);
+		return mapToResponse(updatedExpense, category.getName());
 	}
 
 	/**
@@ -184,10 +289,15 @@ public class ExpenseServiceImpl implements ExpenseService {
 	 */
 
 	@Override
+	@Transactional
 	public void deleteExpense(Long id) {
-		if (!expenseRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Expense", "id", id);
-		}
+		Expense expense = expenseRepository.findByIdForUpdate(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Expense", "id", id));
+		userBalanceService.applyExpenseDelta(expense.getUser().getId(), expense.getAmount().negate());
+		monthlyRollupService.record(expense.getUser().getId(), LedgerKind.EXPENSE, expense.getCategory().getId(),
+				expense.getDate(), expense.getAmount().negate(), -1);
+		categorySuggestionIndex.removeAfterCommit(expense.getUser().getId(), expense.getCategory().getId(),
+				isShared(expense.getCategory().getId()), expense.getTitle());
 		expenseRepository.deleteById(id);
 	}
 
@@ -201,9 +311,8 @@ public class ExpenseServiceImpl implements ExpenseService {
 
 	@Override
 	public ExpenseResponse getExpenseById(Long id) {
-		Expense expense = expenseRepository.findById(id)
+		return expenseRepository.findResponseById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Expense", "id", id));
-		return mapToResponse(expense);
 	}
 
 	/**
@@ -218,26 +327,99 @@ public class ExpenseServiceImpl implements ExpenseService {
 	@Override
 	public List<ExpenseResponse> getAllExpensesByUser(Long userId, LocalDate startDate, LocalDate endDate) {
 		if (startDate != null && endDate != null) {
-			return expenseRepository.findByUserIdAndDateBetween(userId, startDate, endDate).stream()
-					.map(this::mapToResponse).collect(Collectors.toList());
+			return expenseRepository.findResponsesByUserIdAndDateBetween(userId, startDate, endDate);
+		}
+		return expenseRepository.findResponsesByUserId(userId);
+	}
+
+	/**
+	 * Retrieves one page of expenses for a user, newest first, optionally
+	 * filtered by a date range. Pages are addressed by keyset cursor on date and
+	 * ID, so every page costs the same index seek regardless of depth.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate the start date of the range (optional)
+	 * @param endDate   the end date of the range (optional)
+	 * @param cursor    the {@code nextCursor} of the previous page, or
+	 *                  {@code null} for the first page
+	 * @param size      the page size (optional), capped at
+	 *                  {@value PageCursor#MAX_PAGE_SIZE}
+	 * @return a {@link CursorPage} of {@link ExpenseResponse} records
+	 * @throws APIException if the cursor is malformed
+	 */
+
+	@Override
+	public CursorPage<ExpenseResponse> getExpensesPageByUser(Long userId, LocalDate startDate, LocalDate endDate,
+			String cursor, Integer size) {
+		PageCursor after = PageCursor.decode(cursor);
+		int pageSize = PageCursor.pageSize(size);
+
+		List<ExpenseResponse> rows = expenseRepository.findPageByUserId(userId,
+				startDate != null ? startDate : PageCursor.MIN_DATE, endDate != null ? endDate : PageCursor.MAX_DATE,
+				after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));
+		return CursorPage.of(rows, pageSize, row -> new PageCursor(row.getDate(), row.getId()),
+				Function.identity());
+	}
+
+	/**
+	 * Suggests categories for an expense title from the
+	 * {@link CategorySuggestionIndex}, which is answered from memory.
+	 *
+	 * @param userId the ID of the user
+	 * @param title  the title of the expense
+	 * @param limit  the number of suggestions (default 3, at most 10)
+	 * @return the suggestions, best first
+	 */
+
+	@Override
+	public List<CategorySuggestionResponse> suggestCategories(Long userId, String title, Integer limit) {
+		int max = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+		return categorySuggestionIndex.suggest(userId, title, max);
+	}
+
+	/**
+	 * Looks up a category in the {@link CategoryCatalog} and checks that the
+	 * user may use it.
+	 *
+	 * @param categoryId the ID of the category
+	 * @param userId     the ID of the user the expense belongs to
+	 * @return the catalog entry of the category
+	 * @throws ResourceNotFoundException if the category does not exist
+	 * @throws APIException              if the category belongs to another user
+	 */
+
+	private boolean isShared(Long categoryId) {
+		CategoryCatalog.Entry category = categoryCatalog.find(categoryId);
+		return category != null && category.getOwnerId() == null;
+	}
+
+	private CategoryCatalog.Entry findUsableCategory(Long categoryId, Long userId) {
+		CategoryCatalog.Entry category = categoryCatalog.find(categoryId);
+		if (category == null) {
+			throw new ResourceNotFoundException("Category", "id", categoryId);
+		}
+		if (!category.isUsableBy(userId)) {
+			throw new APIException("You cannot use a category created by another user.");
 		}
-		return expenseRepository.findByUserId(userId).stream().map(this::mapToResponse).collect(Collectors.toList());
+		return category;
 	}
 
 	/**
 	 * Maps an {@link Expense} entity to an {@link ExpenseResponse}.
 	 *
-	 * @param expense the entity to map
+	 * @param expense      the entity to map
+	 * @param categoryName the name of the expense's category, taken from the
+	 *                     catalog so that the category is not loaded
 	 * @return the mapped response object
 	 */
 
-	private ExpenseResponse mapToResponse(Expense expense) {
+	private ExpenseResponse mapToResponse(Expense expense, String categoryName) {
 		ExpenseResponse response = new ExpenseResponse();
 		response.setId(expense.getId());
 		response.setTitle(expense.getTitle());
 		response.setAmount(expense.getAmount());
 		response.setDate(expense.getDate());
-		response.setCategoryName(expense.getCategory().getName());
+		response.setCategoryName(categoryName);
 		response.setUserId(expense.getUser().getId());
 		return response;
 	}
@@ -0,0 +1,177 @@
+package com.monexel.expensetracker.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.request.ExportFormat;
+
+/**
+ * Writes the rows of a transaction export in one {@link ExportFormat}. Every
+ * row carries the same columns, in the order of {@link #COLUMNS}; values that
+ * do not apply to a kind of transaction are empty (CSV) or {@code null}
+ * (NDJSON).
+ *
+ * <p>
+ * Rows are written one at a time so that an export never holds more than the
+ * current row in memory. NDJSON rows are written by a Jackson
+ * {@link JsonGenerator}, which also does the string escaping.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+abstract class ExportRowWriter {
+
+	/** Column names, shared by both formats. */
+	static final String[] COLUMNS = { "type", "id", "date", "amount", "title", "category", "description",
+			"dueDate" };
+
+	/**
+	 * Creates a writer for a format.
+	 *
+	 * @param format      the output format
+	 * @param writer      the target writer, left open
+	 * @param jsonFactory the factory of the JSON generator
+	 * @return the row writer
+	 * @throws IOException if the generator cannot be created
+	 */
+
+	static ExportRowWriter create(ExportFormat format, Writer writer, JsonFactory jsonFactory) throws IOException {
+		return format == ExportFormat.CSV ? new Csv(writer) : new Ndjson(writer, jsonFactory);
+	}
+
+	/**
+	 * Writes the lines that precede the first row, if the format has any.
+	 *
+	 * @throws IOException if writing fails
+	 */
+
+	abstract void writeHeader() throws IOException;
+
+	/**
+	 * Writes a single row.
+	 *
+	 * @throws IOException if writing fails
+	 */
+
+	abstract void writeRow(LedgerKind type, Long id, LocalDate date, BigDecimal amount, String title,
+			String category, String description, LocalDate dueDate) throws IOException;
+
+	/**
+	 * Flushes the written rows to the target writer.
+	 *
+	 * @throws IOException if writing fails
+	 */
+
+	abstract void flush() throws IOException;
+
+	private static String text(Object value) {
+		return value != null ? value.toString() : null;
+	}
+
+	private static final class Ndjson extends ExportRowWriter {
+
+		private final JsonGenerator generator;
+
+		Ndjson(Writer writer, JsonFactory jsonFactory) throws IOException {
+			generator = jsonFactory.createGenerator(writer);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+			generator.setRootValueSeparator(null);
+		}
+
+		@Override
+		void writeHeader() {
+			// NDJSON has no header
+		}
+
+		@Override
+		void writeRow(LedgerKind type, Long id, LocalDate date, BigDecimal amount, String title, String category,
+				String description, LocalDate dueDate) throws IOException {
+			generator.writeStartObject();
+			generator.writeStringField(COLUMNS[0], type.name());
+			generator.writeNumberField(COLUMNS[1], id);
+			generator.writeStringField(COLUMNS[2], text(date));
+			generator.writeNumberField(COLUMNS[3], amount);
+			generator.writeStringField(COLUMNS[4], title);
+			generator.writeStringField(COLUMNS[5], category);
+			generator.writeStringField(COLUMNS[6], description);
+			generator.writeStringField(COLUMNS[7], text(dueDate));
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		void flush() throws IOException {
+			generator.flush();
+		}
+
+	}
+
+	private static final class Csv extends ExportRowWriter {
+
+		private final Writer writer;
+
+		Csv(Writer writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		void writeHeader() throws IOException {
+			writer.write(String.join(",", COLUMNS));
+			writer.write('\n');
+		}
+
+		@Override
+		void writeRow(LedgerKind type, Long id, LocalDate date, BigDecimal amount, String title, String category,
+				String description, LocalDate dueDate) throws IOException {
+			writer.write(type.name());
+			writer.write(',');
+			writer.write(id.toString());
+			writer.write(',');
+			writeValue(text(date));
+			writer.write(',');
+			writeValue(amount != null ? amount.toPlainString() : null);
+			writer.write(',');
+			writeValue(title);
+			writer.write(',');
+			writeValue(category);
+			writer.write(',');
+			writeValue(description);
+			writer.write(',');
+			writeValue(text(dueDate));
+			writer.write('\n');
+		}
+
+		@Override
+		void flush() throws IOException {
+			writer.flush();
+		}
+
+		private void writeValue(String value) throws IOException {
+			if (value == null) {
+				return;
+			}
+			boolean quote = false;
+			for (int i = 0; i < value.length() && !quote; i++) {
+				char c = value.charAt(i);
+				quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+			}
+			if (!quote) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			writer.write(value.replace("\"", "\"\""));
+			writer.write('"');
+		}
+
+	}
+
+}
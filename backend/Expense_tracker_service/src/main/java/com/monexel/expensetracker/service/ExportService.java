@@ -0,0 +1,10 @@
+package com.monexel.expensetracker.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.monexel.expensetracker.request.ExportFormat;
+
+public interface ExportService {
+
+	StreamingResponseBody exportTransactions(Long userId, ExportFormat format);
+}
@@ -0,0 +1,154 @@
+package com.monexel.expensetracker.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.projection.BorrowedMoneyExportRow;
+import com.monexel.expensetracker.projection.ExpenseExportRow;
+import com.monexel.expensetracker.projection.IncomeExportRow;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExportFormat;
+
+/**
+ * Service implementation for exporting a user's complete transaction history.
+ *
+ * <p>
+ * The export is written while it is read: expenses, income and borrowed money
+ * are each streamed from the database with a bounded JDBC fetch size as flat
+ * projections, and every row goes straight into the response. Nothing is
+ * collected into lists and no entity is loaded into the persistence context,
+ * so heap use stays constant however long the history is.
+ * </p>
+ *
+ * <h2>Responsibilities:</h2>
+ * <ul>
+ * <li>Validate the user before the response is committed, so a missing user
+ * still yields a 404.</li>
+ * <li>Hold a single read-only transaction open for the duration of the
+ * stream, which the database cursors require.</li>
+ * <li>Write the rows as NDJSON, through the generator of the shared
+ * {@link ObjectMapper}, or as CSV, see {@link ExportRowWriter}.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * StreamingResponseBody body = exportService.exportTransactions(1L, ExportFormat.CSV);
+ * body.writeTo(outputStream);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Prepares an export of all transactions of a user. The returned body reads
+	 * and writes the rows when the response is written, on the servlet
+	 * container's async thread.
+	 *
+	 * @param userId the ID of the user
+	 * @param format the output format
+	 * @return the response body that streams the export
+	 * @throws ResourceNotFoundException if the user does not exist
+	 */
+
+	@Override
+	public StreamingResponseBody exportTransactions(Long userId, ExportFormat format) {
+		if (!userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User", "id", userId);
+		}
+		return out -> writeTransactions(userId, format, out);
+	}
+
+	/**
+	 * Streams the three kinds of transactions of a user, each ordered by date and
+	 * ID, into the given output stream.
+	 *
+	 * @param userId the ID of the user
+	 * @param format the output format
+	 * @param out    the target stream, left open
+	 * @throws IOException if writing fails
+	 */
+
+	void writeTransactions(Long userId, ExportFormat format, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		ExportRowWriter rowWriter = ExportRowWriter.create(format, writer, objectMapper.getFactory());
+		rowWriter.writeHeader();
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		try {
+			transaction.executeWithoutResult(status -> {
+				try (Stream<ExpenseExportRow> rows = expenseRepository.streamExportByUserId(userId)) {
+					rows.forEach(row -> write(rowWriter, LedgerKind.EXPENSE, row.getId(), row.getDate(),
+							row.getAmount(), row.getTitle(), row.getCategoryName(), null, null));
+				}
+				try (Stream<IncomeExportRow> rows = incomeRepository.streamExportByUserId(userId)) {
+					rows.forEach(row -> write(rowWriter, LedgerKind.INCOME, row.getId(), row.getDate(),
+							row.getAmount(), row.getSource(), null, row.getDescription(), null));
+				}
+				try (Stream<BorrowedMoneyExportRow> rows = borrowedMoneyRepository.streamExportByUserId(userId)) {
+					rows.forEach(row -> write(rowWriter, LedgerKind.BORROWED, row.getId(), row.getBorrowedDate(),
+							row.getAmount(), row.getBorrowedFrom(), null, null, row.getDueDate()));
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		rowWriter.flush();
+		writer.flush();
+	}
+
+	private static void write(ExportRowWriter rowWriter, LedgerKind type, Long id, LocalDate date,
+			BigDecimal amount, String title, String category, String description, LocalDate dueDate) {
+		try {
+			rowWriter.writeRow(type, id, date, amount, title, category, description, dueDate);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.monexel.expensetracker.service;
+
+import java.io.InputStream;
+
+import com.monexel.expensetracker.request.StatementFormat;
+import com.monexel.expensetracker.response.ImportJobResponse;
+
+public interface ImportService {
+
+	ImportJobResponse importStatement(Long userId, StatementFormat format, Long defaultCategoryId, String fileName,
+			InputStream statement);
+
+	ImportJobResponse resumeImport(Long jobId, InputStream statement);
+
+	ImportJobResponse getImportJob(Long jobId);
+}
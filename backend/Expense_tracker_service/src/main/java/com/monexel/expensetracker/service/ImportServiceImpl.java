@@ -0,0 +1,521 @@
+package com.monexel.expensetracker.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.ImportJob;
+import com.monexel.expensetracker.entity.ImportStatus;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.ImportRejectedException;
+import com.monexel.expensetracker.exception.InsufficientFundsException;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.ImportJobRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.StatementFormat;
+import com.monexel.expensetracker.response.ImportJobResponse;
+import com.monexel.expensetracker.statement.StatementReader;
+import com.monexel.expensetracker.statement.StatementRecord;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Service implementation for importing bank statements into expenses and
+ * incomes.
+ *
+ * <p>
+ * An upload is copied to a temporary file, its {@link ImportJob} is saved as
+ * {@code RUNNING} and returned at once, and the import runs on the bounded
+ * {@code importExecutor}; clients follow it with {@link #getImportJob(Long)}.
+ * The statement is parsed while it is read, one record at a time (see
+ * {@link StatementReader}), and written in fixed-size chunks. Each chunk is
+ * one transaction that inserts the chunk's expenses and incomes with JDBC
+ * batching, applies one ledger delta per kind, updates the monthly rollups
+ * once per month and category, and advances the {@link ImportJob} checkpoint.
+ * Memory use is bounded by the chunk size however long the statement is, and
+ * a failed import can be resumed from its last committed chunk by uploading
+ * the same statement again.
+ * </p>
+ *
+ * <h2>Responsibilities:</h2>
+ * <ul>
+ * <li>Map negative or {@code EXPENSE} records to expenses and positive or
+ * {@code INCOME} records to incomes.</li>
+ * <li>Resolve category names through a per-import lookup of the categories
+ * the user may use, applying the same ownership rule as
+ * {@link ExpenseServiceImpl#addExpense}.</li>
+ * <li>Reject records that cannot be mapped, counting them on the job instead
+ * of failing the import.</li>
+ * <li>Fail the import, keeping the checkpoint, when a chunk cannot be
+ * afforded or cannot be written.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * ImportJobResponse job = importService.importStatement(1L, StatementFormat.CSV, null, "nov.csv", in);
+ * // Later, polling
+ * job = importService.getImportJob(job.getId());
+ * if (job.getStatus() == ImportStatus.FAILED) {
+ * 	importService.resumeImport(job.getId(), sameStatementAgain);
+ * }
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Service
+public class ImportServiceImpl implements ImportService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ImportServiceImpl.class);
+
+	private static final int MAX_TEXT_LENGTH = 255;
+
+	@Autowired
+	private ImportJobRepository importJobRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private CategoryCatalog categoryCatalog;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	@Qualifier("importExecutor")
+	private Executor importExecutor;
+
+	@Value("${app.import.chunk-size:1000}")
+	private int chunkSize;
+
+	/**
+	 * Rejects a chunk size below one at startup. Such a size never fills a
+	 * chunk, so the whole statement would be written in one transaction and
+	 * could not be resumed part way.
+	 */
+
+	@PostConstruct
+	void validateChunkSize() {
+		if (chunkSize < 1) {
+			throw new IllegalStateException("app.import.chunk-size must be at least 1, but is " + chunkSize);
+		}
+	}
+
+	/**
+	 * Starts a new import of a statement in the background.
+	 *
+	 * @param userId            the ID of the user the statement belongs to
+	 * @param format            the statement format
+	 * @param defaultCategoryId the category for expenses without one, or
+	 *                          {@code null}
+	 * @param fileName          the name of the uploaded file
+	 * @param statement         the statement content, UTF-8 encoded
+	 * @return the job, {@code RUNNING}
+	 * @throws ResourceNotFoundException if the user or the default category does
+	 *                                   not exist
+	 * @throws APIException              if the default category belongs to
+	 *                                   another user or the statement cannot be
+	 *                                   read
+	 * @throws ImportRejectedException   if too many imports are running; the
+	 *                                   job is kept as {@code FAILED}
+	 */
+
+	@Override
+	public ImportJobResponse importStatement(Long userId, StatementFormat format, Long defaultCategoryId,
+			String fileName, InputStream statement) {
+		User user = userRepository.findById(userId)
+				.orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+
+		if (defaultCategoryId != null) {
+			CategoryCatalog.Entry category = categoryCatalog.find(defaultCategoryId);
+			if (category == null) {
+				throw new ResourceNotFoundException("Category", "id", defaultCategoryId);
+			}
+			if (!category.isUsableBy(userId)) {
+				throw new APIException("You cannot use a category created by another user.");
+			}
+		}
+
+		Path file = spool(statement);
+		ImportJob job = new ImportJob();
+		job.setUser(user);
+		job.setFormat(format);
+		job.setFileName(fileName);
+		job.setDefaultCategoryId(defaultCategoryId);
+		job.setStatus(ImportStatus.RUNNING);
+		job.setCreatedAt(LocalDateTime.now());
+		job.setUpdatedAt(job.getCreatedAt());
+		try {
+			job = importJobRepository.save(job);
+		} catch (RuntimeException e) {
+			delete(file);
+			throw e;
+		}
+
+		start(job, userId, file);
+		return mapToResponse(job);
+	}
+
+	/**
+	 * Resumes a failed or interrupted import in the background. The statement
+	 * must be the one the job started with: the records up to the job's
+	 * checkpoint are read and skipped, the rest are imported.
+	 *
+	 * @param jobId     the ID of the import job
+	 * @param statement the statement content, UTF-8 encoded
+	 * @return the job, {@code RUNNING}
+	 * @throws ResourceNotFoundException if the job does not exist
+	 * @throws APIException              if the job has already completed or the
+	 *                                   statement cannot be read
+	 * @throws ImportRejectedException   if too many imports are running
+	 */
+
+	@Override
+	public ImportJobResponse resumeImport(Long jobId, InputStream statement) {
+		ImportJob job = importJobRepository.findById(jobId)
+				.orElseThrow(() -> new ResourceNotFoundException("ImportJob", "id", jobId));
+		if (job.getStatus() == ImportStatus.COMPLETED) {
+			throw new APIException("Import job " + jobId + " has already completed.");
+		}
+
+		Path file = spool(statement);
+		job.setStatus(ImportStatus.RUNNING);
+		job.setLastError(null);
+		try {
+			job = importJobRepository.save(job);
+		} catch (OptimisticLockingFailureException e) {
+			delete(file);
+			throw new APIException("Import job " + jobId + " is being resumed by another upload.");
+		} catch (RuntimeException e) {
+			delete(file);
+			throw e;
+		}
+
+		start(job, job.getUser().getId(), file);
+		return mapToResponse(job);
+	}
+
+	/**
+	 * Retrieves the progress of an import job.
+	 *
+	 * @param jobId the ID of the import job
+	 * @return the job with its counters as of its last committed chunk
+	 * @throws ResourceNotFoundException if the job does not exist
+	 */
+
+	@Override
+	public ImportJobResponse getImportJob(Long jobId) {
+		ImportJob job = importJobRepository.findById(jobId)
+				.orElseThrow(() -> new ResourceNotFoundException("ImportJob", "id", jobId));
+		return mapToResponse(job);
+	}
+
+	/**
+	 * Copies an upload to a temporary file, since the upload itself can only be
+	 * read while its request lasts.
+	 */
+
+	private static Path spool(InputStream statement) {
+		Path file = null;
+		try {
+			file = Files.createTempFile("statement-", ".import");
+			Files.copy(statement, file, StandardCopyOption.REPLACE_EXISTING);
+			return file;
+		} catch (IOException e) {
+			delete(file);
+			throw new APIException("The statement could not be read: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Hands the import of a saved job to the import pool, which deletes the
+	 * statement file once the import ends. When the pool is full the job is
+	 * failed at its checkpoint, so that it can be resumed.
+	 */
+
+	private void start(ImportJob job, Long userId, Path file) {
+		try {
+			importExecutor.execute(() -> {
+				try (InputStream statement = Files.newInputStream(file)) {
+					run(job, userId, statement);
+				} catch (IOException | RuntimeException e) {
+					LOGGER.warn("Import job {} could not be run", job.getId(), e);
+					finish(job, ImportStatus.FAILED, e.getMessage());
+				} finally {
+					delete(file);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			delete(file);
+			finish(job, ImportStatus.FAILED, "Rejected: too many statements were being imported.");
+			throw new ImportRejectedException(job.getId());
+		}
+	}
+
+	private static void delete(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.warn("Could not delete the statement file {}", file, e);
+		}
+	}
+
+	/**
+	 * Reads the statement past the job's checkpoint and writes it chunk by chunk.
+	 * Any failure ends the job as {@code FAILED} with the checkpoint of the last
+	 * committed chunk.
+	 */
+
+	private ImportJob run(ImportJob job, Long userId, InputStream statement) {
+		Map<String, Long> categories = new HashMap<>();
+		for (Category category : categoryRepository.findByCreatedByUserIsNullOrCreatedByUserId(userId)) {
+			categories.put(category.getName().toLowerCase(Locale.ROOT), category.getId());
+		}
+
+		try (StatementReader reader = job.getFormat()
+				.newReader(new InputStreamReader(statement, StandardCharsets.UTF_8))) {
+			for (long skipped = 0; skipped < job.getRecordsProcessed(); skipped++) {
+				if (reader.next() == null) {
+					throw new APIException("The statement has fewer records than import job " + job.getId()
+							+ " has already processed.");
+				}
+			}
+
+			List<StatementRecord> chunk = new ArrayList<>(chunkSize);
+			StatementRecord record;
+			while ((record = reader.next()) != null) {
+				chunk.add(record);
+				if (chunk.size() == chunkSize) {
+					job = writeChunk(job, userId, chunk, categories);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				job = writeChunk(job, userId, chunk, categories);
+			}
+		} catch (IOException | RuntimeException e) {
+			LOGGER.warn("Import job {} failed after {} records", job.getId(), job.getRecordsProcessed(), e);
+			return finish(job, ImportStatus.FAILED, e.getMessage());
+		}
+
+		LOGGER.info("Import job {} completed: {} expenses, {} incomes, {} records rejected", job.getId(),
+				job.getExpensesImported(), job.getIncomesImported(), job.getRecordsRejected());
+		return finish(job, ImportStatus.COMPLETED, job.getLastError());
+	}
+
+	/**
+	 * Writes one chunk and advances the checkpoint in a single transaction. The
+	 * given job is not modified; the updated job is returned.
+	 */
+
+	private ImportJob writeChunk(ImportJob job, Long userId, List<StatementRecord> chunk,
+			Map<String, Long> categories) {
+		return new TransactionTemplate(transactionManager).execute(status -> {
+			ImportJob current = lockJob(job);
+			User user = userRepository.getReferenceById(userId);
+
+			List<Expense> expenses = new ArrayList<>();
+			List<Income> incomes = new ArrayList<>();
+			BigDecimal expenseTotal = BigDecimal.ZERO;
+			BigDecimal incomeTotal = BigDecimal.ZERO;
+			long rejected = 0;
+
+			for (StatementRecord record : chunk) {
+				String error = record.getError();
+				Long categoryId = null;
+				if (error == null && record.getDescription() == null) {
+					error = "description is missing";
+				}
+				if (error == null && record.getKind() == LedgerKind.EXPENSE) {
+					categoryId = resolveCategory(record, current, categories);
+					if (categoryId == null) {
+						error = record.getCategory() != null ? "unknown category '" + record.getCategory() + "'"
+								: "no category and no default category";
+					}
+				}
+				if (error != null) {
+					rejected++;
+					current.setLastError(truncate("Record " + record.getRecordNumber() + ": " + error, 500));
+					continue;
+				}
+
+				if (record.getKind() == LedgerKind.EXPENSE) {
+					Expense expense = new Expense();
+					expense.setTitle(truncate(record.getDescription(), MAX_TEXT_LENGTH));
+					expense.setAmount(record.getAmount());
+					expense.setDate(record.getDate());
+					expense.setCategory(categoryRepository.getReferenceById(categoryId));
+					expense.setUser(user);
+					expenses.add(expense);
+					expenseTotal = expenseTotal.add(record.getAmount());
+				} else {
+					Income income = new Income();
+					income.setSource(truncate(record.getDescription(), MAX_TEXT_LENGTH));
+					income.setDescription(truncate(
+							record.getMemo() != null ? record.getMemo() : record.getDescription(), MAX_TEXT_LENGTH));
+					income.setAmount(record.getAmount());
+					income.setDate(record.getDate());
+					income.setUser(user);
+					incomes.add(income);
+					incomeTotal = incomeTotal.add(record.getAmount());
+				}
+			}
+
+			if (!expenses.isEmpty() || !incomes.isEmpty()) {
+				// Incomes of the same chunk count towards the funds for its expenses
+				BigDecimal netBalance = userBalanceService.getNetBalance(userId);
+				if (netBalance.add(incomeTotal).compareTo(expenseTotal) < 0) {
+					throw new InsufficientFundsException("Insufficient funds for the expenses in records "
+							+ chunk.get(0).getRecordNumber() + " to " + chunk.get(chunk.size() - 1).getRecordNumber()
+							+ "! Please add income first.");
+				}
+				if (incomeTotal.signum() > 0) {
+					userBalanceService.applyIncomeDelta(userId, incomeTotal);
+				}
+				if (expenseTotal.signum() > 0) {
+					userBalanceService.applyExpenseDelta(userId, expenseTotal);
+				}
+				recordRollups(userId, expenses, incomes);
+
+				expenseRepository.saveAll(expenses);
+				incomeRepository.saveAll(incomes);
+			}
+
+			current.setRecordsProcessed(current.getRecordsProcessed() + chunk.size());
+			current.setExpensesImported(current.getExpensesImported() + expenses.size());
+			current.setIncomesImported(current.getIncomesImported() + incomes.size());
+			current.setRecordsRejected(current.getRecordsRejected() + rejected);
+			current.setUpdatedAt(LocalDateTime.now());
+			LOGGER.debug("Import job {}: {} records processed", current.getId(), current.getRecordsProcessed());
+			return current;
+		});
+	}
+
+	/**
+	 * Loads the job for update, holding its row lock until the chunk commits,
+	 * and fails if another upload has committed a chunk of it since this one
+	 * last did. A second upload of the same job waits on the lock and then
+	 * fails the version check before doing any of the chunk's work.
+	 */
+
+	private ImportJob lockJob(ImportJob job) {
+		ImportJob current = importJobRepository.findByIdForUpdate(job.getId())
+				.orElseThrow(() -> new ResourceNotFoundException("ImportJob", "id", job.getId()));
+		if (!current.getVersion().equals(job.getVersion())) {
+			throw new APIException("Import job " + job.getId() + " is being resumed by another upload.");
+		}
+		return current;
+	}
+
+	private Long resolveCategory(StatementRecord record, ImportJob job, Map<String, Long> categories) {
+		if (record.getCategory() == null) {
+			return job.getDefaultCategoryId();
+		}
+		return categories.get(record.getCategory().toLowerCase(Locale.ROOT));
+	}
+
+	private void recordRollups(Long userId, List<Expense> expenses, List<Income> incomes) {
+		Map<Long, Map<YearMonth, List<Expense>>> expenseGroups = expenses.stream()
+				.collect(Collectors.groupingBy(expense -> expense.getCategory().getId(),
+						Collectors.groupingBy(expense -> YearMonth.from(expense.getDate()))));
+		expenseGroups.forEach((categoryId, months) -> months.forEach((month, rows) -> {
+			BigDecimal amount = rows.stream().map(Expense::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+			monthlyRollupService.record(userId, LedgerKind.EXPENSE, categoryId, month.atDay(1), amount,
+					rows.size());
+		}));
+
+		Map<YearMonth, List<Income>> incomeGroups = incomes.stream()
+				.collect(Collectors.groupingBy(income -> YearMonth.from(income.getDate())));
+		incomeGroups.forEach((month, rows) -> {
+			BigDecimal amount = rows.stream().map(Income::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+			monthlyRollupService.record(userId, LedgerKind.INCOME, null, month.atDay(1), amount, rows.size());
+		});
+	}
+
+	private ImportJob finish(ImportJob job, ImportStatus status, String lastError) {
+		return new TransactionTemplate(transactionManager).execute(transaction -> {
+			ImportJob current = importJobRepository.findById(job.getId())
+					.orElseThrow(() -> new ResourceNotFoundException("ImportJob", "id", job.getId()));
+			current.setStatus(status);
+			current.setLastError(truncate(lastError, 500));
+			current.setUpdatedAt(LocalDateTime.now());
+			return current;
+		});
+	}
+
+	private static String truncate(String value, int maxLength) {
+		return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+	}
+
+	private ImportJobResponse mapToResponse(ImportJob job) {
+		ImportJobResponse response = new ImportJobResponse();
+		response.setId(job.getId());
+		response.setUserId(job.getUser().getId());
+		response.setFormat(job.getFormat());
+		response.setFileName(job.getFileName());
+		response.setStatus(job.getStatus());
+		response.setRecordsProcessed(job.getRecordsProcessed());
+		response.setExpensesImported(job.getExpensesImported());
+		response.setIncomesImported(job.getIncomesImported());
+		response.setRecordsRejected(job.getRecordsRejected());
+		response.setLastError(job.getLastError());
+		response.setCreatedAt(job.getCreatedAt());
+		response.setUpdatedAt(job.getUpdatedAt());
+		return response;
+	}
+
+}
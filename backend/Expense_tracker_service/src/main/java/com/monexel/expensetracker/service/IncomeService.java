@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.monexel.expensetracker.request.IncomeRequest;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.IncomeResponse;
 
 public interface IncomeService {
@@ -13,5 +14,6 @@ public interface IncomeService {
     void deleteIncome(Long id);
     IncomeResponse getIncomeById(Long id);
     List<IncomeResponse> getAllIncomesByUser(Long userId,LocalDate startDate, LocalDate endDate);
-
+    CursorPage<IncomeResponse> getIncomesPageByUser(Long userId, LocalDate startDate, LocalDate endDate, String cursor,
+            Integer size);
 }
@@ -2,17 +2,23 @@ package com.monexel.expensetracker.service;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
 import com.monexel.expensetracker.repository.IncomeRepository;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.IncomeRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.IncomeResponse;
 
 /**
@@ -22,7 +28,9 @@ import com.monexel.expensetracker.response.IncomeResponse;
  * <p>
  * This class provides business logic for adding, updating, deleting, and
  * retrieving income details. It interacts with {@link IncomeRepository} for
- * persistence and {@link UserRepository} for validating user existence.
+ * persistence and {@link UserRepository} for validating user existence. Every
+ * write also updates the user's balance ledger through
+ * {@link UserBalanceService} in the same transaction.
  * </p>
  *
  * <h2>Responsibilities:</h2>
@@ -31,7 +39,8 @@ import com.monexel.expensetracker.response.IncomeResponse;
  * <li>Update existing income details.</li>
  * <li>Delete income records by ID.</li>
  * <li>Retrieve income details by ID or fetch all incomes for a user within an
- * optional date range.</li>
+ * optional date range. Reads select straight into {@link IncomeResponse}, so
+ * no entity is loaded.</li>
  * </ul>
  *
  * <h2>Exception Handling:</h2>
@@ -66,6 +75,12 @@ public class IncomeServiceImpl implements IncomeService {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private UserBalanceService userBalanceService;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
 	/**
 	 * Adds a new income record for a user.
 	 *
@@ -75,10 +90,14 @@ public class IncomeServiceImpl implements IncomeService {
 	 */
 
 	@Override
+	@Transactional
 	public IncomeResponse addIncome(IncomeRequest request) {
 		User user = userRepository.findById(request.getUserId())
 				.orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getUserId()));
 
+		userBalanceService.applyIncomeDelta(user.getId(), request.getAmount());
+		monthlyRollupService.record(user.getId(), LedgerKind.INCOME, null, request.getDate(), request.getAmount(), 1);
+
 		Income income = new Income();
 		income.setSource(request.getSource());
 		income.setAmount(request.getAmount());
@@ -100,10 +119,15 @@ public class IncomeServiceImpl implements IncomeService {
 	 */
 
 	@Override
+	@Transactional
 	public IncomeResponse updateIncome(Long id, IncomeRequest request) {
-		Income income = incomeRepository.findById(id)
+		Income income = incomeRepository.findByIdForUpdate(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Income", "id", id));
 
+		userBalanceService.applyIncomeDelta(income.getUser().getId(), request.getAmount().subtract(income.getAmount()));
+		monthlyRollupService.recordUpdate(income.getUser().getId(), LedgerKind.INCOME, null, income.getDate(),
+				income.getAmount(), null, request.getDate(), request.getAmount());
+
 		income.setSource(request.getSource());
 		income.setAmount(request.getAmount());
 		income.setDate(request.getDate());
@@ -120,10 +144,13 @@ public class IncomeServiceImpl implements IncomeService {
 	 */
 
 	@Override
+	@Transactional
 	public void deleteIncome(Long id) {
-		if (!incomeRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Income", "id", id);
-		}
+		Income income = incomeRepository.findByIdForUpdate(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Income", "id", id));
+		userBalanceService.applyIncomeDelta(income.getUser().getId(), income.getAmount().negate());
+		monthlyRollupService.record(income.getUser().getId(), LedgerKind.INCOME, null, income.getDate(),
+				income.getAmount().negate(), -1);
 		incomeRepository.deleteById(id);
 	}
 
@@ -137,9 +164,8 @@ public class IncomeServiceImpl implements IncomeService {
 
 	@Override
 	public IncomeResponse getIncomeById(Long id) {
-		Income income = incomeRepository.findById(id)
+		return incomeRepository.findResponseById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Income", "id", id));
-		return mapToResponse(income);
 	}
 
 	/**
@@ -155,11 +181,39 @@ public class IncomeServiceImpl implements IncomeService {
 	public List<IncomeResponse> getAllIncomesByUser(Long userId, LocalDate startDate, LocalDate endDate) {
 
 		if (startDate != null && endDate != null) {
-			return incomeRepository.findByUserIdAndDateBetween(userId, startDate, endDate).stream()
-					.map(this::mapToResponse).collect(Collectors.toList());
+			return incomeRepository.findResponsesByUserIdAndDateBetween(userId, startDate, endDate);
 		}
 
-		return incomeRepository.findByUserId(userId).stream().map(this::mapToResponse).collect(Collectors.toList());
+		return incomeRepository.findResponsesByUserId(userId);
+	}
+
+	/**
+	 * Retrieves one page of income records for a user, newest first, optionally
+	 * filtered by a date range. Pages are addressed by keyset cursor on date and
+	 * ID, so every page costs the same index seek regardless of depth.
+	 *
+	 * @param userId    the ID of the user
+	 * @param startDate the start date of the range (optional)
+	 * @param endDate   the end date of the range (optional)
+	 * @param cursor    the {@code nextCursor} of the previous page, or
+	 *                  {@code null} for the first page
+	 * @param size      the page size (optional), capped at
+	 *                  {@value PageCursor#MAX_PAGE_SIZE}
+	 * @return a {@link CursorPage} of {@link IncomeResponse} records
+	 * @throws APIException if the cursor is malformed
+	 */
+
+	@Override
+	public CursorPage<IncomeResponse> getIncomesPageByUser(Long userId, LocalDate startDate, LocalDate endDate,
+			String cursor, Integer size) {
+		PageCursor after = PageCursor.decode(cursor);
+		int pageSize = PageCursor.pageSize(size);
+
+		List<IncomeResponse> rows = incomeRepository.findPageByUserId(userId,
+				startDate != null ? startDate : PageCursor.MIN_DATE, endDate != null ? endDate : PageCursor.MAX_DATE,
+				after.getDate(), after.getId(), PageRequest.of(0, pageSize + 1));
+		return CursorPage.of(rows, pageSize, row -> new PageCursor(row.getDate(), row.getId()),
+				Function.identity());
 	}
 
 	/**
@@ -0,0 +1,25 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.projection.MonthlyTotal;
+
+public interface MonthlyRollupService {
+
+	void record(Long userId, LedgerKind kind, Long categoryId, LocalDate date, BigDecimal amountDelta,
+			long countDelta);
+
+	void recordUpdate(Long userId, LedgerKind kind, Long oldCategoryId, LocalDate oldDate, BigDecimal oldAmount,
+			Long newCategoryId, LocalDate newDate, BigDecimal newAmount);
+
+	BigDecimal sumMonths(Long userId, LedgerKind kind, YearMonth fromMonth, YearMonth toMonth);
+
+	List<MonthlyTotal> monthlyTotals(Long userId, LedgerKind kind, YearMonth fromMonth, YearMonth toMonth);
+
+	void rebuild(Long userId);
+
+}
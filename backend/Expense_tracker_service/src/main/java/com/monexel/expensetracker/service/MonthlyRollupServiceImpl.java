@@ -0,0 +1,198 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.MonthlyRollup;
+import com.monexel.expensetracker.entity.MonthlyRollupId;
+import com.monexel.expensetracker.projection.MonthlyCategoryTotal;
+import com.monexel.expensetracker.projection.MonthlyTotal;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.MonthlyRollupRepository;
+
+/**
+ * Service implementation for maintaining monthly rollups in the Expense
+ * Tracker application.
+ *
+ * <p>
+ * Income, expense and borrowed money services record every write here inside
+ * their own transaction, so a rollup row always matches the base table rows of
+ * its month. An update that changes the month or category is recorded as the
+ * removal of the old entry followed by the addition of the new one.
+ * </p>
+ *
+ * <h2>Responsibilities:</h2>
+ * <ul>
+ * <li>Apply amount and count deltas to the rollup of a user, month, kind and
+ * category.</li>
+ * <li>Move updated records between rollups.</li>
+ * <li>Sum the rollups of one kind over a range of whole months, in total or
+ * per month.</li>
+ * <li>Rebuild all rollups of a user from the base tables.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * monthlyRollupService.record(userId, LedgerKind.EXPENSE, categoryId, date, amount, 1);
+ * BigDecimal spent = monthlyRollupService.sumMonths(userId, LedgerKind.EXPENSE, YearMonth.of(2025, 1),
+ * 		YearMonth.of(2025, 12));
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Service
+public class MonthlyRollupServiceImpl implements MonthlyRollupService {
+
+	@Autowired
+	private MonthlyRollupRepository monthlyRollupRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	/**
+	 * Applies a delta to the rollup of the month containing the given date. A
+	 * rollup whose entry count drops to zero is removed.
+	 *
+	 * @param userId      the ID of the user
+	 * @param kind        the kind of record written
+	 * @param categoryId  the expense category, or {@code null} for income and
+	 *                    borrowed money
+	 * @param date        the date of the record
+	 * @param amountDelta the amount to add (negative on removal)
+	 * @param countDelta  the number of records to add (negative on removal)
+	 */
+
+	@Override
+	@Transactional
+	public void record(Long userId, LedgerKind kind, Long categoryId, LocalDate date, BigDecimal amountDelta,
+			long countDelta) {
+		MonthlyRollupId id = new MonthlyRollupId(userId, toYearMonth(YearMonth.from(date)), kind, categoryId);
+		MonthlyRollup rollup = monthlyRollupRepository.findById(id).orElseGet(() -> new MonthlyRollup(id));
+		rollup.setTotalAmount(rollup.getTotalAmount().add(amountDelta));
+		rollup.setEntryCount(rollup.getEntryCount() + countDelta);
+
+		if (rollup.getEntryCount() <= 0) {
+			if (rollup.getVersion() != null) {
+				monthlyRollupRepository.delete(rollup);
+			}
+			return;
+		}
+		monthlyRollupRepository.save(rollup);
+	}
+
+	/**
+	 * Moves a record from its old rollup to its new one. When the month and
+	 * category are unchanged, only the amount difference is applied to the same
+	 * rollup.
+	 *
+	 * @param userId        the ID of the user
+	 * @param kind          the kind of record updated
+	 * @param oldCategoryId the category before the update, or {@code null}
+	 * @param oldDate       the date before the update
+	 * @param oldAmount     the amount before the update
+	 * @param newCategoryId the category after the update, or {@code null}
+	 * @param newDate       the date after the update
+	 * @param newAmount     the amount after the update
+	 */
+
+	@Override
+	@Transactional
+	public void recordUpdate(Long userId, LedgerKind kind, Long oldCategoryId, LocalDate oldDate,
+			BigDecimal oldAmount, Long newCategoryId, LocalDate newDate, BigDecimal newAmount) {
+		if (YearMonth.from(oldDate).equals(YearMonth.from(newDate))
+				&& Objects.equals(oldCategoryId, newCategoryId)) {
+			record(userId, kind, newCategoryId, newDate, newAmount.subtract(oldAmount), 0);
+			return;
+		}
+		record(userId, kind, oldCategoryId, oldDate, oldAmount.negate(), -1);
+		record(userId, kind, newCategoryId, newDate, newAmount, 1);
+	}
+
+	/**
+	 * Sums the rollups of one kind over a range of whole months.
+	 *
+	 * @param userId    the ID of the user
+	 * @param kind      the kind of record to sum
+	 * @param fromMonth the first month of the range (inclusive)
+	 * @param toMonth   the last month of the range (inclusive)
+	 * @return the total amount, or zero when there are no rollups
+	 */
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal sumMonths(Long userId, LedgerKind kind, YearMonth fromMonth, YearMonth toMonth) {
+		return monthlyRollupRepository.sumTotalAmount(userId, kind, toYearMonth(fromMonth), toYearMonth(toMonth));
+	}
+
+	/**
+	 * Sums the rollups of one kind per month across categories.
+	 *
+	 * @param userId    the ID of the user
+	 * @param kind      the kind of record to sum
+	 * @param fromMonth the first month of the range (inclusive)
+	 * @param toMonth   the last month of the range (inclusive)
+	 * @return one total per month that has rollups, in no particular order
+	 */
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<MonthlyTotal> monthlyTotals(Long userId, LedgerKind kind, YearMonth fromMonth, YearMonth toMonth) {
+		return monthlyRollupRepository.sumByMonth(userId, kind, toYearMonth(fromMonth), toYearMonth(toMonth));
+	}
+
+	/**
+	 * Replaces all rollups of a user with grouped aggregates of the base tables.
+	 *
+	 * @param userId the ID of the user
+	 */
+
+	@Override
+	@Transactional
+	public void rebuild(Long userId) {
+		monthlyRollupRepository.deleteByUserId(userId);
+
+		List<MonthlyRollup> rollups = new ArrayList<>();
+		for (MonthlyTotal total : incomeRepository.sumMonthlyByUserId(userId)) {
+			rollups.add(toRollup(userId, LedgerKind.INCOME, null, total));
+		}
+		for (MonthlyCategoryTotal total : expenseRepository.sumMonthlyByUserIdAndCategory(userId)) {
+			rollups.add(toRollup(userId, LedgerKind.EXPENSE, total.getCategoryId(), total));
+		}
+		for (MonthlyTotal total : borrowedMoneyRepository.sumMonthlyByUserId(userId)) {
+			rollups.add(toRollup(userId, LedgerKind.BORROWED, null, total));
+		}
+		monthlyRollupRepository.saveAll(rollups);
+	}
+
+	static int toYearMonth(YearMonth month) {
+		return month.getYear() * 100 + month.getMonthValue();
+	}
+
+	private MonthlyRollup toRollup(Long userId, LedgerKind kind, Long categoryId, MonthlyTotal total) {
+		MonthlyRollup rollup = new MonthlyRollup(new MonthlyRollupId(userId, total.getYearMonth(), kind, categoryId));
+		rollup.setTotalAmount(total.getTotal());
+		rollup.setEntryCount(total.getEntryCount());
+		return rollup;
+	}
+
+}
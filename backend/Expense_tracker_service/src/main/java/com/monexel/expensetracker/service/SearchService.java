@@ -0,0 +1,14 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.monexel.expensetracker.response.CursorPage;
+import com.monexel.expensetracker.response.SearchResultResponse;
+
+public interface SearchService {
+
+	CursorPage<SearchResultResponse> searchTransactions(Long userId, String query, LocalDate startDate,
+			LocalDate endDate, BigDecimal minAmount, BigDecimal maxAmount, String cursor, Integer size);
+
+}
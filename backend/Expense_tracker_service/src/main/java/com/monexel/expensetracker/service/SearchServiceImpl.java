@@ -0,0 +1,251 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
+import com.monexel.expensetracker.response.SearchResultResponse;
+
+/**
+ * Service implementation for searching a user's expenses, income and borrowed
+ * money by text.
+ *
+ * <p>
+ * The query is split into words and every word must match, as a prefix, a
+ * word of the expense title, of the income source or description, or of the
+ * lender's name. On PostgreSQL the texts are matched as {@code tsvector}s
+ * with the {@code simple} configuration, so words are neither stemmed nor
+ * dropped as stop words, and results are ranked with {@code ts_rank}. The
+ * three tables carry GIN indexes on exactly the expressions the query uses,
+ * see the {@code V3} migration, so changing an expression here needs a new
+ * migration for its index. Any other database, such as the in-memory one of
+ * the tests, falls back to case-insensitive substring matching without
+ * ranking.
+ * </p>
+ *
+ * <p>
+ * All three tables are searched in one statement, filtered by user, date and
+ * amount, and ordered by rank, then newest first. Pages are addressed by an
+ * opaque offset cursor: ranked results have no stable keyset, and only the
+ * first {@value #MAX_OFFSET} results can be paged through, which keeps deep
+ * pages from sorting the whole match set.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>
+ * CursorPage&lt;SearchResultResponse&gt; page = searchService.searchTransactions(1L, "coffee", null, null, null, null,
+ * 		null, 20);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+	/** Words of a query that are matched. */
+	static final int MAX_TERMS = 8;
+
+	/** Number of results that can be paged through. */
+	static final int MAX_OFFSET = 1000;
+
+	private static final String EXPENSE_TEXT = "title";
+
+	private static final String INCOME_TEXT = "source || ' ' || description";
+
+	private static final String BORROWED_TEXT = "borrowed_from";
+
+	private static final RowMapper<SearchResultResponse> ROW_MAPPER = (rs, rowNum) -> new SearchResultResponse(
+			rs.getString("kind"), rs.getLong("id"), rs.getObject("tx_date", LocalDate.class),
+			rs.getBigDecimal("amount"), rs.getString("title"), rs.getString("description"), rs.getDouble("score"));
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private volatile Boolean postgres;
+
+	/**
+	 * Searches the transactions of a user.
+	 *
+	 * @param userId    the ID of the user
+	 * @param query     the words to search for
+	 * @param startDate optional inclusive lower date bound
+	 * @param endDate   optional inclusive upper date bound
+	 * @param minAmount optional inclusive lower amount bound
+	 * @param maxAmount optional inclusive upper amount bound
+	 * @param cursor    the {@code nextCursor} of the previous page, or
+	 *                  {@code null} for the first page
+	 * @param size      the page size, see {@link PageCursor#pageSize(Integer)}
+	 * @return the matching transactions, best match first
+	 * @throws APIException              if the query has no words or the cursor
+	 *                                   is invalid
+	 * @throws ResourceNotFoundException if the user does not exist
+	 */
+
+	@Override
+	public CursorPage<SearchResultResponse> searchTransactions(Long userId, String query, LocalDate startDate,
+			LocalDate endDate, BigDecimal minAmount, BigDecimal maxAmount, String cursor, Integer size) {
+		List<String> terms = terms(query);
+		if (terms.isEmpty()) {
+			throw new APIException("Search query must contain at least one word.");
+		}
+		int offset = decodeOffset(cursor);
+		int pageSize = Math.min(PageCursor.pageSize(size), MAX_OFFSET - offset);
+
+		MapSqlParameterSource params = new MapSqlParameterSource().addValue("userId", userId)
+				.addValue("startDate", startDate != null ? startDate : PageCursor.MIN_DATE)
+				.addValue("endDate", endDate != null ? endDate : PageCursor.MAX_DATE)
+				.addValue("limit", pageSize + 1).addValue("offset", offset);
+		StringBuilder filters = new StringBuilder();
+		if (minAmount != null) {
+			filters.append(" AND amount >= :minAmount");
+			params.addValue("minAmount", minAmount);
+		}
+		if (maxAmount != null) {
+			filters.append(" AND amount <= :maxAmount");
+			params.addValue("maxAmount", maxAmount);
+		}
+
+		boolean fullText = isPostgres();
+		if (fullText) {
+			params.addValue("query", String.join(" & ", terms.stream().map(term -> term + ":*").toList()));
+		} else {
+			for (int i = 0; i < terms.size(); i++) {
+				params.addValue("term" + i, "%" + terms.get(i) + "%");
+			}
+		}
+
+		String sql = branch(LedgerKind.EXPENSE, "expenses", "date", "title", "CAST(NULL AS VARCHAR(255))",
+				EXPENSE_TEXT, filters, terms.size(), fullText)
+				+ " UNION ALL "
+				+ branch(LedgerKind.INCOME, "income", "date", "source", "description", INCOME_TEXT, filters,
+						terms.size(), fullText)
+				+ " UNION ALL "
+				+ branch(LedgerKind.BORROWED, "borrowed_money", "borrowed_date", "borrowed_from",
+						"CAST(NULL AS VARCHAR(255))", BORROWED_TEXT, filters, terms.size(), fullText)
+				+ " ORDER BY score DESC, tx_date DESC, id DESC LIMIT :limit OFFSET :offset";
+		List<SearchResultResponse> rows = jdbcTemplate.query(sql, params, ROW_MAPPER);
+
+		// Only an empty first page needs to tell an unknown user from no matches
+		if (rows.isEmpty() && offset == 0 && !userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User", "id", userId);
+		}
+		boolean hasMore = rows.size() > pageSize && offset + pageSize < MAX_OFFSET;
+		List<SearchResultResponse> items = rows.size() > pageSize ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+		return new CursorPage<>(items, hasMore ? encodeOffset(offset + pageSize) : null, hasMore);
+	}
+
+	/**
+	 * Splits a query into lower-cased words of letters and digits, the same way
+	 * the {@code simple} text search configuration splits the searched texts.
+	 */
+
+	static List<String> terms(String query) {
+		List<String> terms = new ArrayList<>();
+		if (query == null) {
+			return terms;
+		}
+		int length = query.length();
+		int i = 0;
+		while (i < length && terms.size() < MAX_TERMS) {
+			while (i < length && !Character.isLetterOrDigit(query.charAt(i))) {
+				i++;
+			}
+			int start = i;
+			while (i < length && Character.isLetterOrDigit(query.charAt(i))) {
+				i++;
+			}
+			if (i > start) {
+				String term = query.substring(start, i).toLowerCase(Locale.ROOT);
+				if (!terms.contains(term)) {
+					terms.add(term);
+				}
+			}
+		}
+		return terms;
+	}
+
+	private static String branch(LedgerKind kind, String table, String dateColumn, String titleColumn,
+			String descriptionColumn, String text, CharSequence filters, int termCount, boolean fullText) {
+		StringBuilder sql = new StringBuilder("SELECT '").append(kind.name()).append("' AS kind, id, ")
+				.append(dateColumn).append(" AS tx_date, amount, ").append(titleColumn).append(" AS title, ")
+				.append(descriptionColumn).append(" AS description, ");
+		if (fullText) {
+			String vector = "to_tsvector('simple', " + text + ")";
+			sql.append("ts_rank(").append(vector).append(", to_tsquery('simple', :query)) AS score FROM ")
+					.append(table).append(" WHERE ").append(vector).append(" @@ to_tsquery('simple', :query)");
+		} else {
+			sql.append("CAST(0 AS REAL) AS score FROM ").append(table).append(" WHERE 1 = 1");
+			for (int i = 0; i < termCount; i++) {
+				sql.append(" AND LOWER(").append(text).append(") LIKE :term").append(i);
+			}
+		}
+		return sql.append(" AND user_id = :userId AND ").append(dateColumn)
+				.append(" BETWEEN :startDate AND :endDate").append(filters).toString();
+	}
+
+	private boolean isPostgres() {
+		Boolean result = postgres;
+		if (result == null) {
+			try {
+				String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+						DatabaseMetaData::getDatabaseProductName);
+				result = "PostgreSQL".equalsIgnoreCase(product);
+			} catch (MetaDataAccessException e) {
+				throw new APIException("Could not determine the database product.");
+			}
+			postgres = result;
+		}
+		return result;
+	}
+
+	private static int decodeOffset(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0;
+		}
+		try {
+			int offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+			if (offset > 0 && offset < MAX_OFFSET) {
+				return offset;
+			}
+		} catch (IllegalArgumentException e) {
+			// Falls through to the invalid cursor error
+		}
+		throw new APIException("Invalid page cursor.");
+	}
+
+	private static String encodeOffset(int offset) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.response.BalanceDriftReport;
+
+public interface UserBalanceService {
+
+	UserBalance getBalance(Long userId);
+
+	Optional<UserBalance> findBalance(Long userId);
+
+	BigDecimal getNetBalance(Long userId);
+
+	void applyIncomeDelta(Long userId, BigDecimal delta);
+
+	void applyExpenseDelta(Long userId, BigDecimal delta);
+
+	void applyBorrowedDelta(Long userId, BigDecimal delta);
+
+	Optional<BalanceDriftReport> reconcile(Long userId);
+
+}
@@ -0,0 +1,223 @@
+package com.monexel.expensetracker.service;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.response.BalanceDriftReport;
+
+/**
+ * Service implementation for maintaining the per-user balance ledger in the
+ * Expense Tracker application.
+ *
+ * <p>
+ * The ledger keeps running totals of income, expenses and borrowed money in
+ * the {@link UserBalance} table. Income, expense and borrowed money services
+ * apply their deltas through this class inside their own transaction, so the
+ * ledger always commits or rolls back together with the base tables.
+ * </p>
+ *
+ * <p>
+ * Every write path reads the ledger row with {@code SELECT ... FOR UPDATE}
+ * before touching the base tables, so balance-affecting writes of one user are
+ * serialized until commit while writes of different users never contend. A
+ * funds check therefore always sees the effect of every committed expense.
+ * Seeding a missing row locks the user row first, so concurrent first writes
+ * cannot insert the ledger row twice.
+ * </p>
+ *
+ * <h2>Responsibilities:</h2>
+ * <ul>
+ * <li>Return the ledger row of a user, seeding it from the base tables on
+ * first access.</li>
+ * <li>Apply income, expense and borrowed money deltas.</li>
+ * <li>Rebuild a ledger row from the base tables and report any drift.</li>
+ * <li>Seed and rebuild the user's monthly rollups together with the ledger
+ * row.</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * userBalanceService.applyExpenseDelta(userId, new BigDecimal("250"));
+ * BigDecimal available = userBalanceService.getNetBalance(userId);
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Service
+public class UserBalanceServiceImpl implements UserBalanceService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UserBalanceServiceImpl.class);
+
+	@Autowired
+	private UserBalanceRepository userBalanceRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
+	/**
+	 * Retrieves the ledger row of a user without locking it. When the user has no
+	 * ledger row yet, it is seeded from the base tables. Callers must read the
+	 * ledger before writing to the base tables in the same transaction, otherwise
+	 * the seed would already include the pending write.
+	 *
+	 * @param userId the ID of the user
+	 * @return the managed {@link UserBalance} of the user
+	 */
+
+	@Override
+	@Transactional
+	public UserBalance getBalance(Long userId) {
+		return userBalanceRepository.findById(userId).orElseGet(() -> lockBalance(userId));
+	}
+
+	/**
+	 * Retrieves the ledger row of a user if it exists, without locking or
+	 * seeding it. Read-only callers use it to tell whether the monthly rollups
+	 * of the user are maintained yet.
+	 *
+	 * @param userId the ID of the user
+	 * @return the {@link UserBalance} of the user, or empty if it is not seeded
+	 */
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<UserBalance> findBalance(Long userId) {
+		return userBalanceRepository.findById(userId);
+	}
+
+	/**
+	 * Calculates the available balance of a user. The ledger row stays locked
+	 * until the calling transaction ends, so a funds check and the write that
+	 * follows it cannot interleave with another write of the same user.
+	 *
+	 * @param userId the ID of the user
+	 * @return (total income + total borrowed) - total expense
+	 */
+
+	@Override
+	@Transactional
+	public BigDecimal getNetBalance(Long userId) {
+		UserBalance balance = lockBalance(userId);
+		return balance.getTotalIncome().add(balance.getTotalBorrowed()).subtract(balance.getTotalExpense());
+	}
+
+	@Override
+	@Transactional
+	public void applyIncomeDelta(Long userId, BigDecimal delta) {
+		UserBalance balance = lockBalance(userId);
+		balance.setTotalIncome(balance.getTotalIncome().add(delta));
+	}
+
+	@Override
+	@Transactional
+	public void applyExpenseDelta(Long userId, BigDecimal delta) {
+		UserBalance balance = lockBalance(userId);
+		balance.setTotalExpense(balance.getTotalExpense().add(delta));
+	}
+
+	@Override
+	@Transactional
+	public void applyBorrowedDelta(Long userId, BigDecimal delta) {
+		UserBalance balance = lockBalance(userId);
+		balance.setTotalBorrowed(balance.getTotalBorrowed().add(delta));
+	}
+
+	/**
+	 * Rebuilds the ledger row and the monthly rollups of a user from the base
+	 * tables.
+	 *
+	 * @param userId the ID of the user
+	 * @return a {@link BalanceDriftReport} when the stored totals differed from
+	 *         the base tables, or empty when the ledger was accurate
+	 */
+
+	@Override
+	@Transactional
+	public Optional<BalanceDriftReport> reconcile(Long userId) {
+		Optional<UserBalance> existing = userBalanceRepository.findByUserIdForUpdate(userId);
+		if (existing.isEmpty()) {
+			lockBalance(userId);
+			return Optional.empty();
+		}
+
+		monthlyRollupService.rebuild(userId);
+
+		UserBalance balance = existing.get();
+		BigDecimal actualIncome = incomeRepository.sumAmountByUserId(userId);
+		BigDecimal actualExpense = expenseRepository.sumAmountByUserId(userId);
+		BigDecimal actualBorrowed = borrowedMoneyRepository.sumAmountByUserId(userId);
+
+		if (balance.getTotalIncome().compareTo(actualIncome) == 0
+				&& balance.getTotalExpense().compareTo(actualExpense) == 0
+				&& balance.getTotalBorrowed().compareTo(actualBorrowed) == 0) {
+			return Optional.empty();
+		}
+
+		BalanceDriftReport report = new BalanceDriftReport(userId, balance.getTotalIncome(), actualIncome,
+				balance.getTotalExpense(), actualExpense, balance.getTotalBorrowed(), actualBorrowed);
+		LOGGER.warn("Balance ledger drift detected and repaired: {}", report);
+
+		balance.setTotalIncome(actualIncome);
+		balance.setTotalExpense(actualExpense);
+		balance.setTotalBorrowed(actualBorrowed);
+		return Optional.of(report);
+	}
+
+	/**
+	 * Reads the ledger row of a user with a row lock, seeding it under a lock on
+	 * the user row when it does not exist yet.
+	 *
+	 * @param userId the ID of the user
+	 * @return the locked {@link UserBalance} of the user
+	 * @throws ResourceNotFoundException if the user does not exist
+	 */
+
+	private UserBalance lockBalance(Long userId) {
+		Optional<UserBalance> locked = userBalanceRepository.findByUserIdForUpdate(userId);
+		if (locked.isPresent()) {
+			return locked.get();
+		}
+
+		userRepository.findByIdForUpdate(userId)
+				.orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+		return userBalanceRepository.findByUserIdForUpdate(userId).orElseGet(() -> seedBalance(userId));
+	}
+
+	private UserBalance seedBalance(Long userId) {
+		UserBalance balance = new UserBalance(userId);
+		balance.setTotalIncome(incomeRepository.sumAmountByUserId(userId));
+		balance.setTotalExpense(expenseRepository.sumAmountByUserId(userId));
+		balance.setTotalBorrowed(borrowedMoneyRepository.sumAmountByUserId(userId));
+		monthlyRollupService.rebuild(userId);
+		return userBalanceRepository.save(balance);
+	}
+
+}
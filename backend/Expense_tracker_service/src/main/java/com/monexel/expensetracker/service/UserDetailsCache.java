@@ -0,0 +1,87 @@
+package com.monexel.expensetracker.service;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size-bounded, time-limited cache of the principals loaded by
+ * {@link CustomUserDetailsService}, keyed by email.
+ *
+ * <p>
+ * With database-backed authentication every request loads its user, so this
+ * cache takes the repeated lookup off the database. Entries expire after
+ * {@code app.auth.user-cache.ttl-seconds}, which bounds how long a change
+ * made through another instance can go unnoticed; changes made through this
+ * instance evict the user at once (see {@link UserServiceImpl}). The cache
+ * holds at most {@code app.auth.user-cache.max-size} users, evicting the
+ * least recently used.
+ * </p>
+ *
+ * <p>
+ * Hits, misses and evictions are published as the {@code cache.gets} and
+ * {@code cache.evictions} meters tagged {@code cache=userDetails}.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+@Component
+public class UserDetailsCache {
+
+	static final String CACHE_NAME = "userDetails";
+
+	private final Cache<String, AuthenticatedUser> cache;
+
+	public UserDetailsCache(@Value("${app.auth.user-cache.max-size:10000}") long maxSize,
+			@Value("${app.auth.user-cache.ttl-seconds:60}") long ttlSeconds, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * Returns the cached principal for an email, loading and caching it on a
+	 * miss. Nothing is cached when the loader throws.
+	 *
+	 * @param email  the email of the user
+	 * @param loader loads the principal from the database
+	 * @return the principal
+	 */
+
+	public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+		return cache.get(email, loader);
+	}
+
+	/**
+	 * Evicts a user by email.
+	 *
+	 * @param email the email of the user
+	 */
+
+	public void evict(String email) {
+		cache.invalidate(email);
+	}
+
+	/**
+	 * Returns the number of cached users, after pending maintenance.
+	 *
+	 * @return the number of entries
+	 */
+
+	public long size() {
+		cache.cleanUp();
+		return cache.estimatedSize();
+	}
+
+}
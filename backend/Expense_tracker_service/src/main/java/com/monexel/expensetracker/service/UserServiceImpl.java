@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import com.monexel.expensetracker.entity.User;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.jwtutils.TokenRevocationRegistry;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.UserRequest;
 import com.monexel.expensetracker.response.UserResponse;
@@ -35,6 +36,9 @@ import com.monexel.expensetracker.response.UserResponse;
  * <ul>
  * <li>Passwords are encrypted using {@link PasswordEncoder} before saving to
  * the database.</li>
+ * <li>Updating or deleting a user, or changing a password, revokes the user's
+ * existing tokens through the {@link TokenRevocationRegistry} and evicts it
+ * from the {@link UserDetailsCache}.</li>
  * </ul>
  *
  * <h2>Exception Handling:</h2>
@@ -69,6 +73,12 @@ public class UserServiceImpl implements UserService {
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
+	@Autowired
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
+	@Autowired
+	private UserDetailsCache userDetailsCache;
+
 	/**
 	 * Creates a new user with encrypted password.
 	 *
@@ -128,6 +138,7 @@ public class UserServiceImpl implements UserService {
 	public UserResponse updateUser(Long id, UserRequest request) {
 		User user = userRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+		String previousEmail = user.getEmail();
 
 		user.setName(request.getName());
 		user.setEmail(request.getEmail());
@@ -136,6 +147,8 @@ public class UserServiceImpl implements UserService {
 		user.setRole(request.getRole());
 
 		User updatedUser = userRepository.save(user);
+		tokenRevocationRegistry.revokeTokens(id);
+		userDetailsCache.evict(previousEmail);
 		return mapToResponse(updatedUser);
 	}
 
@@ -148,10 +161,11 @@ public class UserServiceImpl implements UserService {
 
 	@Override
 	public void deleteUser(Long id) {
-		if (!userRepository.existsById(id)) {
-			throw new ResourceNotFoundException("User not found with id: " + id);
-		}
+		User user = userRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 		userRepository.deleteById(id);
+		tokenRevocationRegistry.revokeTokens(id);
+		userDetailsCache.evict(user.getEmail());
 	}
 
 	/**
@@ -179,6 +193,8 @@ public class UserServiceImpl implements UserService {
 		}
 		user.setPassword(passwordEncoder.encode(newPassword));
 		userRepository.save(user);
+		tokenRevocationRegistry.revokeTokens(user.getId());
+		userDetailsCache.evict(email);
 		return "Password updated successfully!";
 	}
 
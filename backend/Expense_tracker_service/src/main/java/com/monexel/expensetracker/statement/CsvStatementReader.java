@@ -0,0 +1,142 @@
+package com.monexel.expensetracker.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.monexel.expensetracker.exception.APIException;
+
+/**
+ * Reads a CSV bank statement. The first line is a header naming the columns,
+ * in any order and case: {@code date} (ISO, {@code yyyy-MM-dd}),
+ * {@code amount} and {@code description} are required, {@code category},
+ * {@code type} and {@code memo} are optional. Fields are quoted per RFC 4180
+ * and a quoted field may span lines.
+ *
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * date,amount,description,category
+ * 2025-11-01,-120.50,"Lunch, office",Food
+ * 2025-11-02,5000,Salary,
+ * </pre>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public class CsvStatementReader extends StatementReader {
+
+	private final int dateColumn;
+	private final int amountColumn;
+	private final int descriptionColumn;
+	private final int categoryColumn;
+	private final int typeColumn;
+	private final int memoColumn;
+
+	private final StringBuilder field = new StringBuilder();
+
+	public CsvStatementReader(BufferedReader reader) throws IOException {
+		super(reader);
+		List<String> header = readFields();
+		if (header == null) {
+			throw new APIException("The CSV statement is empty.");
+		}
+		List<String> columns = new ArrayList<>(header.size());
+		for (String column : header) {
+			columns.add(column.trim().toLowerCase(Locale.ROOT));
+		}
+		dateColumn = requiredColumn(columns, "date");
+		amountColumn = requiredColumn(columns, "amount");
+		descriptionColumn = requiredColumn(columns, "description");
+		categoryColumn = columns.indexOf("category");
+		typeColumn = columns.indexOf("type");
+		memoColumn = columns.indexOf("memo");
+	}
+
+	@Override
+	public StatementRecord next() throws IOException {
+		List<String> fields = readFields();
+		if (fields == null) {
+			return null;
+		}
+		StatementRecord record = newRecord();
+		record.setDescription(blankToNull(field(fields, descriptionColumn)));
+		record.setCategory(blankToNull(field(fields, categoryColumn)));
+		record.setMemo(blankToNull(field(fields, memoColumn)));
+
+		String date = field(fields, dateColumn);
+		try {
+			record.setDate(LocalDate.parse(date.trim()));
+		} catch (DateTimeParseException e) {
+			record.setError("invalid date '" + date + "'");
+			return record;
+		}
+		setAmount(record, field(fields, amountColumn), field(fields, typeColumn));
+		return record;
+	}
+
+	private static int requiredColumn(List<String> columns, String name) {
+		int index = columns.indexOf(name);
+		if (index < 0) {
+			throw new APIException("The CSV statement has no '" + name + "' column.");
+		}
+		return index;
+	}
+
+	private static String field(List<String> fields, int column) {
+		return column >= 0 && column < fields.size() ? fields.get(column) : "";
+	}
+
+	/**
+	 * Reads the fields of the next non-blank line.
+	 *
+	 * @return the fields, or {@code null} at the end of the statement
+	 * @throws IOException if the statement cannot be read
+	 */
+
+	private List<String> readFields() throws IOException {
+		int c = reader.read();
+		while (c == '\n' || c == '\r') {
+			c = reader.read();
+		}
+		if (c == -1) {
+			return null;
+		}
+
+		List<String> fields = new ArrayList<>();
+		boolean quoted = false;
+		field.setLength(0);
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new APIException("The CSV statement ends inside a quoted field.");
+				}
+				if (c == '"') {
+					c = reader.read();
+					if (c != '"') {
+						quoted = false;
+						continue;
+					}
+				}
+				field.append((char) c);
+			} else if (c == '"' && field.length() == 0) {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n' || c == '\r' || c == -1) {
+				fields.add(field.toString());
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.monexel.expensetracker.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an OFX bank statement. Both the SGML form of OFX 1.x, where leaf
+ * elements have no closing tag, and the XML form of OFX 2.x are accepted: the
+ * reader scans for {@code <STMTTRN>} aggregates and reads their
+ * {@code DTPOSTED}, {@code TRNAMT}, {@code NAME} and {@code MEMO} elements.
+ * Everything else, including the OFX headers, is skipped.
+ *
+ * <p>
+ * OFX carries no categories, so imported expenses use the default category
+ * of the import.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public class OfxStatementReader extends StatementReader {
+
+	private static final String TRANSACTION = "STMTTRN";
+
+	private final StringBuilder token = new StringBuilder();
+
+	private int pending = -1;
+
+	public OfxStatementReader(BufferedReader reader) {
+		super(reader);
+	}
+
+	@Override
+	public StatementRecord next() throws IOException {
+		String tag;
+		do {
+			tag = nextTag();
+		} while (tag != null && !tag.equals(TRANSACTION));
+		if (tag == null) {
+			return null;
+		}
+
+		Map<String, String> values = new HashMap<>();
+		while ((tag = nextTag()) != null && !tag.equals("/" + TRANSACTION)) {
+			if (!tag.startsWith("/")) {
+				values.put(tag, text());
+			}
+		}
+
+		StatementRecord record = newRecord();
+		String name = blankToNull(values.get("NAME"));
+		String memo = blankToNull(values.get("MEMO"));
+		record.setDescription(name != null ? name : memo);
+		record.setMemo(memo);
+
+		String posted = values.getOrDefault("DTPOSTED", "");
+		try {
+			record.setDate(LocalDate.parse(posted.length() >= 8 ? posted.substring(0, 8) : posted,
+					DateTimeFormatter.BASIC_ISO_DATE));
+		} catch (DateTimeParseException e) {
+			record.setError("invalid date '" + posted + "'");
+			return record;
+		}
+		setAmount(record, values.getOrDefault("TRNAMT", "").replace(',', '.'), null);
+		return record;
+	}
+
+	/**
+	 * Skips to the next tag and returns its name, upper-cased, with a leading
+	 * {@code /} for closing tags.
+	 */
+
+	private String nextTag() throws IOException {
+		int c;
+		while ((c = read()) != -1 && c != '<') {
+			// skip text outside the elements we read
+		}
+		if (c == -1) {
+			return null;
+		}
+		token.setLength(0);
+		while ((c = read()) != -1 && c != '>') {
+			token.append((char) c);
+		}
+		return token.toString().trim().toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Reads the text up to the next tag, which is left unread, and decodes the
+	 * XML entities OFX uses.
+	 */
+
+	private String text() throws IOException {
+		token.setLength(0);
+		int c;
+		while ((c = read()) != -1 && c != '<') {
+			token.append((char) c);
+		}
+		pending = c;
+		return token.toString().trim().replace("&lt;", "<").replace("&gt;", ">").replace("&amp;", "&");
+	}
+
+	private int read() throws IOException {
+		if (pending != -1) {
+			int c = pending;
+			pending = -1;
+			return c;
+		}
+		return reader.read();
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.monexel.expensetracker.statement;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+
+/**
+ * Incremental reader of a bank statement. Records are parsed one at a time
+ * from the underlying reader, so a statement of any length is read with
+ * constant memory.
+ *
+ * <p>
+ * A record that cannot be parsed is still returned, with
+ * {@link StatementRecord#getError()} set, so that record numbers stay stable
+ * across runs and can be used as a resume checkpoint. Errors in the structure
+ * of the statement itself abort the read with an
+ * {@link com.monexel.expensetracker.exception.APIException}.
+ * </p>
+ *
+ * @author Surya Narayanan G
+ * @version 1.0
+ */
+
+public abstract class StatementReader implements Closeable {
+
+	protected final BufferedReader reader;
+
+	private long recordNumber;
+
+	protected StatementReader(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * @return the next record, or {@code null} at the end of the statement
+	 * @throws IOException if the statement cannot be read
+	 */
+
+	public abstract StatementRecord next() throws IOException;
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	protected StatementRecord newRecord() {
+		return new StatementRecord(++recordNumber);
+	}
+
+	/**
+	 * Sets the kind and the positive amount of a record. Without an explicit
+	 * type, a negative amount is an expense and a positive one an income.
+	 *
+	 * @param record the record to fill
+	 * @param amount the signed amount as written in the statement
+	 * @param type   {@code EXPENSE}, {@code INCOME}, or blank to use the sign
+	 */
+
+	protected static void setAmount(StatementRecord record, String amount, String type) {
+		BigDecimal value;
+		try {
+			value = new BigDecimal(amount.trim());
+		} catch (NumberFormatException e) {
+			record.setError("invalid amount '" + amount + "'");
+			return;
+		}
+		if (value.signum() == 0) {
+			record.setError("amount is zero");
+			return;
+		}
+		if (type == null || type.isBlank()) {
+			record.setKind(value.signum() < 0 ? LedgerKind.EXPENSE : LedgerKind.INCOME);
+		} else if (type.trim().equalsIgnoreCase(LedgerKind.EXPENSE.name())) {
+			record.setKind(LedgerKind.EXPENSE);
+		} else if (type.trim().equalsIgnoreCase(LedgerKind.INCOME.name())) {
+			record.setKind(LedgerKind.INCOME);
+		} else {
+			record.setError("unknown type '" + type + "'");
+			return;
+		}
+		record.setAmount(value.abs());
+	}
+
+	protected static String blankToNull(String value) {
+		return value == null || value.isBlank() ? null : value.trim();
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.monexel.expensetracker.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+
+public class StatementRecord {
+
+	private final long recordNumber;
+	private LedgerKind kind;
+	private LocalDate date;
+	private BigDecimal amount;
+	private String description;
+	private String memo;
+	private String category;
+	private String error;
+
+	public StatementRecord(long recordNumber) {
+		this.recordNumber = recordNumber;
+	}
+
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	public LedgerKind getKind() {
+		return kind;
+	}
+
+	public void setKind(LedgerKind kind) {
+		this.kind = kind;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public void setDescription(String description) {
+		this.description = description;
+	}
+
+	public String getMemo() {
+		return memo;
+	}
+
+	public void setMemo(String memo) {
+		this.memo = memo;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public void setCategory(String category) {
+		this.category = category;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+}
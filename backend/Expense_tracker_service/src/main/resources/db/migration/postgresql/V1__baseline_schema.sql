@@ -0,0 +1,90 @@
+-- Schema as mapped by the entities. Databases created earlier by
+-- spring.jpa.hibernate.ddl-auto=update are baselined at version 0 and run
+-- this script too, so every statement must leave existing objects alone:
+-- it only adds the tables and sequences they are missing.
+
+CREATE TABLE IF NOT EXISTS users (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         varchar(255) NOT NULL,
+    email        varchar(255) NOT NULL UNIQUE,
+    password     varchar(255) NOT NULL,
+    phone_number varchar(255) NOT NULL UNIQUE,
+    role         varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id                 bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name               varchar(255) NOT NULL UNIQUE,
+    description        varchar(255),
+    created_by_user_id bigint REFERENCES users (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS expenses_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS expenses (
+    id          bigint PRIMARY KEY,
+    title       varchar(255) NOT NULL,
+    amount      numeric(38, 2) NOT NULL,
+    date        date NOT NULL,
+    category_id bigint NOT NULL REFERENCES categories (id),
+    user_id     bigint NOT NULL REFERENCES users (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS income_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS income (
+    id          bigint PRIMARY KEY,
+    source      varchar(255) NOT NULL,
+    amount      numeric(38, 2) NOT NULL,
+    date        date NOT NULL,
+    description varchar(255) NOT NULL,
+    user_id     bigint NOT NULL REFERENCES users (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS borrowed_money_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS borrowed_money (
+    id            bigint PRIMARY KEY,
+    amount        numeric(38, 2) NOT NULL,
+    borrowed_from varchar(255) NOT NULL,
+    borrowed_date date NOT NULL,
+    due_date      date NOT NULL,
+    user_id       bigint NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_balance (
+    user_id        bigint PRIMARY KEY,
+    total_income   numeric(38, 2) NOT NULL,
+    total_expense  numeric(38, 2) NOT NULL,
+    total_borrowed numeric(38, 2) NOT NULL,
+    version        bigint
+);
+
+-- Key columns ordered for the per-user reads rather than alphabetically
+CREATE TABLE IF NOT EXISTS monthly_rollup (
+    user_id      bigint NOT NULL,
+    year_month   integer NOT NULL,
+    kind         varchar(16) NOT NULL CHECK (kind IN ('INCOME', 'EXPENSE', 'BORROWED')),
+    category_id  bigint NOT NULL,
+    total_amount numeric(38, 2) NOT NULL,
+    entry_count  bigint NOT NULL,
+    version      bigint,
+    PRIMARY KEY (user_id, year_month, kind, category_id)
+);
+
+CREATE TABLE IF NOT EXISTS import_jobs (
+    id                  bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             bigint NOT NULL REFERENCES users (id),
+    format              varchar(8) NOT NULL CHECK (format IN ('CSV', 'OFX')),
+    file_name           varchar(255),
+    default_category_id bigint,
+    status              varchar(16) NOT NULL CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    records_processed   bigint NOT NULL,
+    expenses_imported   bigint NOT NULL,
+    incomes_imported    bigint NOT NULL,
+    records_rejected    bigint NOT NULL,
+    last_error          varchar(500),
+    created_at          timestamp(6) NOT NULL,
+    updated_at          timestamp(6) NOT NULL,
+    version             bigint
+);
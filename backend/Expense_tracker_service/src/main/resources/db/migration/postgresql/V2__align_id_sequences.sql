@@ -0,0 +1,20 @@
+-- Expense, income and borrowed money IDs used to come from identity columns
+-- and now come from pooled sequences that Hibernate advances 50 IDs at a
+-- time. Drop the old identity defaults and start each sequence past the
+-- highest ID in use, so that the first block handed out cannot collide.
+
+CREATE SEQUENCE IF NOT EXISTS expenses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS income_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS borrowed_money_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE expenses_seq INCREMENT BY 50;
+ALTER SEQUENCE income_seq INCREMENT BY 50;
+ALTER SEQUENCE borrowed_money_seq INCREMENT BY 50;
+
+ALTER TABLE expenses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE income ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE borrowed_money ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('expenses_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM expenses), nextval('expenses_seq')) + 50, false);
+SELECT setval('income_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM income), nextval('income_seq')) + 50, false);
+SELECT setval('borrowed_money_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM borrowed_money), nextval('borrowed_money_seq')) + 50, false);
@@ -0,0 +1,45 @@
+-- Indexes matched to the repository queries. Every per-user read filters on
+-- user_id and a date range and pages newest first by (date, id), so each
+-- ledger table gets one composite index in that order; the amount (and, for
+-- expenses, the category) is included so that the sums, the daily series and
+-- the category breakdown are answered from the index alone.
+--
+-- Built concurrently so that writes go on meanwhile, which requires running
+-- outside a transaction (see the .conf file next to this script). A failed
+-- build leaves an invalid index behind, which SchemaIndexVerifier reports.
+
+-- ExpenseRepository: findByUserIdAndDateBetween, findResponsesByUserIdAndDateBetween,
+-- findPageByUserId, sumAmountByUserIdAndDateBetween, sumDailyByUserIdAndDateBetween,
+-- sumByCategoryAndDateBetween, sumMonthlyByUserIdAndCategory, streamExportByUserId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_expenses_user_date
+    ON expenses (user_id, date DESC, id DESC) INCLUDE (amount, category_id);
+
+-- Foreign key lookups when a category is deleted
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_expenses_category
+    ON expenses (category_id);
+
+-- IncomeRepository: the same query shapes as the expenses
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_income_user_date
+    ON income (user_id, date DESC, id DESC) INCLUDE (amount);
+
+-- BorrowedMoneyRepository: the same query shapes on borrowed_date
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_borrowed_money_user_date
+    ON borrowed_money (user_id, borrowed_date DESC, id DESC) INCLUDE (amount);
+
+-- CategoryRepository: findByCreatedByUserId, findByCreatedByUserIsNullOrCreatedByUserId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_categories_created_by
+    ON categories (created_by_user_id);
+
+-- MonthlyRollupRepository: sumTotalAmount, sumByMonth
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_monthly_rollup_user_kind_month
+    ON monthly_rollup (user_id, kind, year_month) INCLUDE (total_amount, entry_count);
+
+-- SearchServiceImpl: full-text search; the expressions must match the query
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_expenses_title_fts
+    ON expenses USING gin (to_tsvector('simple', title));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_income_text_fts
+    ON income USING gin (to_tsvector('simple', source || ' ' || description));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_borrowed_money_from_fts
+    ON borrowed_money USING gin (to_tsvector('simple', borrowed_from));
@@ -0,0 +1,4 @@
+-- Version of each user's tokens, raised to revoke all tokens issued so far.
+-- Existing tokens carry no version and count as version 0.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,54 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monexel.expensetracker.jwtutils.AuthEntryPointJwt;
+
+/**
+ * Tests the 401 body written by {@link AuthEntryPointJwt}.
+ */
+public class AuthEntryPointJwtTest {
+
+	private final AuthEntryPointJwt entryPoint = new AuthEntryPointJwt();
+
+	private final InsufficientAuthenticationException authException = new InsufficientAuthenticationException(
+			"Full authentication is required");
+
+	@Test
+	void testCommence_WritesUnauthorizedBody() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses/getExpenseById/5");
+		request.setServletPath("/api/expenses/getExpenseById/5");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		entryPoint.commence(request, response, authException);
+
+		assertEquals(401, response.getStatus());
+		assertEquals("application/json", response.getContentType());
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+		JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+		assertEquals(401, body.get("status").asInt());
+		assertEquals("Unauthorized", body.get("error").asText());
+		assertEquals("/api/expenses/getExpenseById/5", body.get("path").asText());
+	}
+
+	@Test
+	void testCommence_EscapesPath() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServletPath("/api/\"quoted\"\\é");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		entryPoint.commence(request, response, authException);
+
+		JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+		assertEquals("/api/\"quoted\"\\é", body.get("path").asText());
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+	}
+
+}
@@ -1,7 +1,9 @@
 package com.monexel.expensetracker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -16,15 +18,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 
 import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
 import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.BorrowedMoneyRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.BorrowedMoneyResponse;
 import com.monexel.expensetracker.service.BorrowedMoneyServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupService;
+import com.monexel.expensetracker.service.UserBalanceService;
 
 public class BorrowedMoneyServiceImplTest {
 
@@ -34,11 +42,18 @@ public class BorrowedMoneyServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserBalanceService userBalanceService;
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
     @InjectMocks
     private BorrowedMoneyServiceImpl borrowedMoneyService;
 
     private User user;
     private BorrowedMoney borrowedMoney;
+    private BorrowedMoneyResponse borrowedMoneyResponse;
 
     @BeforeEach
     void setUp() {
@@ -53,6 +68,9 @@ public class BorrowedMoneyServiceImplTest {
         borrowedMoney.setBorrowedDate(LocalDate.now());
         borrowedMoney.setDueDate(LocalDate.now().plusDays(30));
         borrowedMoney.setUser(user);
+
+        borrowedMoneyResponse = new BorrowedMoneyResponse(10L, BigDecimal.valueOf(1000), "Hari", LocalDate.now(),
+                LocalDate.now().plusDays(30), 1L);
     }
 
     @Test
@@ -72,6 +90,8 @@ public class BorrowedMoneyServiceImplTest {
         assertNotNull(response);
         assertEquals("Hari", response.getBorrowedFrom());
         verify(borrowedMoneyRepository, times(1)).save(any(BorrowedMoney.class));
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.BORROWED, null, request.getBorrowedDate(),
+                BigDecimal.valueOf(1000), 1);
     }
 
     @Test
@@ -92,7 +112,7 @@ public class BorrowedMoneyServiceImplTest {
         request.setBorrowedDate(LocalDate.now());
         request.setDueDate(LocalDate.now().plusDays(40));
 
-        when(borrowedMoneyRepository.findById(10L)).thenReturn(Optional.of(borrowedMoney));
+        when(borrowedMoneyRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(borrowedMoney));
         when(borrowedMoneyRepository.save(any(BorrowedMoney.class))).thenReturn(borrowedMoney);
 
         BorrowedMoneyResponse response = borrowedMoneyService.updateBorrowedMoney(10L, request);
@@ -104,34 +124,35 @@ public class BorrowedMoneyServiceImplTest {
     @Test
     void testUpdateBorrowedMoney_NotFound() {
         BorrowedMoneyRequest request = new BorrowedMoneyRequest();
-        when(borrowedMoneyRepository.findById(99L)).thenReturn(Optional.empty());
+        when(borrowedMoneyRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> borrowedMoneyService.updateBorrowedMoney(99L, request));
     }
 
     @Test
     void testDeleteBorrowedMoney_Success() {
-        when(borrowedMoneyRepository.existsById(10L)).thenReturn(true);
+        when(borrowedMoneyRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(borrowedMoney));
         borrowedMoneyService.deleteBorrowedMoney(10L);
         verify(borrowedMoneyRepository, times(1)).deleteById(10L);
+        verify(userBalanceService, times(1)).applyBorrowedDelta(1L, BigDecimal.valueOf(-1000));
     }
 
     @Test
     void testDeleteBorrowedMoney_NotFound() {
-        when(borrowedMoneyRepository.existsById(99L)).thenReturn(false);
+        when(borrowedMoneyRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> borrowedMoneyService.deleteBorrowedMoney(99L));
     }
 
     @Test
     void testGetBorrowedMoneyById_Success() {
-        when(borrowedMoneyRepository.findById(10L)).thenReturn(Optional.of(borrowedMoney));
+        when(borrowedMoneyRepository.findResponseById(10L)).thenReturn(Optional.of(borrowedMoneyResponse));
         BorrowedMoneyResponse response = borrowedMoneyService.getBorrowedMoneyById(10L);
         assertEquals("Hari", response.getBorrowedFrom());
     }
 
     @Test
     void testGetAllBorrowedMoneyByUser_WithDateRange() {
-        when(borrowedMoneyRepository.findByUserIdAndBorrowedDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
-                .thenReturn(List.of(borrowedMoney));
+        when(borrowedMoneyRepository.findResponsesByUserIdAndBorrowedDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
+                .thenReturn(List.of(borrowedMoneyResponse));
 
         List<BorrowedMoneyResponse> responses = borrowedMoneyService.getAllBorrowedMoneyByUser(1L, LocalDate.now().minusDays(1), LocalDate.now());
         assertEquals(1, responses.size());
@@ -139,11 +160,22 @@ public class BorrowedMoneyServiceImplTest {
 
     @Test
     void testGetAllBorrowedMoneyByUser_WithoutDateRange() {
-        when(borrowedMoneyRepository.findByUserId(1L)).thenReturn(List.of(borrowedMoney));
+        when(borrowedMoneyRepository.findResponsesByUserId(1L)).thenReturn(List.of(borrowedMoneyResponse));
 
         List<BorrowedMoneyResponse> responses = borrowedMoneyService.getAllBorrowedMoneyByUser(1L, null, null);
         assertEquals(1, responses.size());
     }
 
+    @Test
+    void testGetBorrowedMoneyPageByUser_LastPage() {
+        when(borrowedMoneyRepository.findPageByUserId(1L, LocalDate.now().minusDays(1), LocalDate.now(), PageCursor.MAX_DATE,
+                Long.MAX_VALUE, PageRequest.of(0, 11))).thenReturn(List.of(borrowedMoneyResponse));
+
+        CursorPage<BorrowedMoneyResponse> page = borrowedMoneyService.getBorrowedMoneyPageByUser(1L, LocalDate.now().minusDays(1), LocalDate.now(), null, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
 
 }
@@ -0,0 +1,102 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.monexel.expensetracker.exception.PasswordHashingRejectedException;
+import com.monexel.expensetracker.jwtutils.BoundedPasswordEncoder;
+
+public class BoundedPasswordEncoderTest {
+
+	private final ThreadPoolTaskExecutor executor = executor(1, 1);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void testEncodeAndMatches_RunOnHashingPool() {
+		String[] threadName = new String[1];
+		PasswordEncoder bcrypt = new BCryptPasswordEncoder(4) {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				threadName[0] = Thread.currentThread().getName();
+				return super.encode(rawPassword);
+			}
+		};
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(bcrypt, executor);
+
+		String hash = encoder.encode("secret123");
+
+		assertTrue(threadName[0].startsWith("password-hashing-"));
+		assertTrue(encoder.matches("secret123", hash));
+		assertFalse(encoder.matches("wrong", hash));
+	}
+
+	@Test
+	void testEncode_RejectedWhenPoolAndQueueAreFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.encode(rawPassword);
+			}
+		};
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, executor);
+
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+		while (executor.getQueueSize() == 0) {
+			Thread.sleep(1);
+		}
+
+		assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("third"));
+
+		release.countDown();
+		String firstHash = running.get(10, TimeUnit.SECONDS);
+		String secondHash = queued.get(10, TimeUnit.SECONDS);
+		PasswordEncoder plain = new BCryptPasswordEncoder(4);
+		assertTrue(plain.matches("first", firstHash));
+		assertTrue(plain.matches("second", secondHash));
+	}
+
+	@Test
+	void testUpgradeEncoding_WhenStrengthIsRaised() {
+		String hash = new BCryptPasswordEncoder(4).encode("secret123");
+
+		assertFalse(new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor).upgradeEncoding(hash));
+		assertTrue(new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor).upgradeEncoding(hash));
+	}
+
+	private static ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hashing-");
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -0,0 +1,154 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.service.CategoryCatalog;
+
+/**
+ * Tests the {@link CategoryCatalog} snapshot and its prefix index.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CategoryCatalogTest {
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@InjectMocks
+	private CategoryCatalog categoryCatalog;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = new User();
+		user.setId(1L);
+	}
+
+	@Test
+	void testLoadsOnceAndIndexesByOwner() {
+		when(categoryRepository.findAll()).thenReturn(List.of(category(2L, "Rent", user), category(1L, "Food", null)));
+
+		assertEquals("Food", categoryCatalog.find(1L).getName());
+		assertEquals(List.of(1L, 2L), categoryCatalog.all().stream().map(CategoryCatalog.Entry::getId).toList());
+		assertEquals(1, categoryCatalog.ownedBy(1L).size());
+		assertTrue(categoryCatalog.ownedBy(7L).isEmpty());
+		assertTrue(categoryCatalog.find(1L).isUsableBy(7L));
+		assertFalse(categoryCatalog.find(2L).isUsableBy(7L));
+
+		verify(categoryRepository, times(1)).findAll();
+	}
+
+	@Test
+	void testFind_LoadsMissingCategoryOnce() {
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		when(categoryRepository.findById(3L)).thenReturn(Optional.of(category(3L, "Travel", user)));
+		when(categoryRepository.findById(4L)).thenReturn(Optional.empty());
+
+		assertEquals("Travel", categoryCatalog.find(3L).getName());
+		assertEquals("Travel", categoryCatalog.find(3L).getName());
+		assertNull(categoryCatalog.find(4L));
+
+		verify(categoryRepository, times(1)).findById(3L);
+		assertEquals(1, categoryCatalog.ownedBy(1L).size());
+	}
+
+	@Test
+	void testFind_DoesNotRestoreCategoryRemovedDuringLookup() {
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		when(categoryRepository.findById(3L)).thenAnswer(invocation -> {
+			categoryCatalog.remove(3L);
+			return Optional.of(category(3L, "Travel", user));
+		});
+
+		assertEquals("Travel", categoryCatalog.find(3L).getName());
+
+		assertNull(categoryCatalog.peek(3L));
+		assertTrue(categoryCatalog.ownedBy(1L).isEmpty());
+	}
+
+	@Test
+	void testFirstLoad_KeepsWriteAppliedWhileLoading() throws Exception {
+		Thread[] writer = new Thread[1];
+		when(categoryRepository.findAll()).thenAnswer(invocation -> {
+			writer[0] = new Thread(() -> categoryCatalog.put(category(5L, "Gym", user)));
+			writer[0].start();
+			return List.of(category(1L, "Food", null));
+		});
+
+		assertEquals(1L, categoryCatalog.peek(1L).getId());
+		writer[0].join();
+
+		assertEquals(List.of(1L, 5L), categoryCatalog.all().stream().map(CategoryCatalog.Entry::getId).toList());
+		verify(categoryRepository, times(1)).findAll();
+	}
+
+	@Test
+	void testWrites_PublishNewSnapshot() {
+		when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Food", null)));
+		List<CategoryCatalog.Entry> before = categoryCatalog.all();
+
+		categoryCatalog.put(category(1L, "Groceries", null));
+		categoryCatalog.put(category(5L, "Gym", user));
+
+		assertEquals(1, before.size());
+		assertEquals("Food", before.get(0).getName());
+		assertEquals("Groceries", categoryCatalog.find(1L).getName());
+		assertEquals(2, categoryCatalog.all().size());
+
+		categoryCatalog.remove(5L);
+		List<CategoryCatalog.Entry> afterRemove = categoryCatalog.all();
+		categoryCatalog.remove(5L);
+
+		assertEquals(1, afterRemove.size());
+		assertSame(afterRemove, categoryCatalog.all());
+		assertTrue(categoryCatalog.ownedBy(1L).isEmpty());
+	}
+
+	@Test
+	void testSearch_MergesSharedAndOwnCategoriesByName() {
+		User other = new User();
+		other.setId(2L);
+		when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "Food", null), category(2L, "Fuel", user),
+				category(3L, "fitness", null), category(4L, "Fees", other), category(5L, "Rent", null),
+				category(6L, "Furniture", user)));
+
+		assertEquals(List.of("fitness", "Food", "Fuel", "Furniture"), names(categoryCatalog.search(1L, "f", 10)));
+		assertEquals(List.of("Fuel", "Furniture"), names(categoryCatalog.search(1L, "FU", 10)));
+		assertEquals(List.of("Fees", "fitness"), names(categoryCatalog.search(2L, "f", 2)));
+		assertEquals(List.of("fitness", "Food", "Rent"), names(categoryCatalog.search(7L, "", 10)));
+		assertTrue(categoryCatalog.search(1L, "x", 10).isEmpty());
+	}
+
+	private static List<String> names(List<CategoryCatalog.Entry> entries) {
+		return entries.stream().map(CategoryCatalog.Entry::getName).toList();
+	}
+
+	private Category category(Long id, String name, User owner) {
+		Category category = new Category();
+		category.setId(id);
+		category.setName(name);
+		category.setCreatedByUser(owner);
+		return category;
+	}
+
+}
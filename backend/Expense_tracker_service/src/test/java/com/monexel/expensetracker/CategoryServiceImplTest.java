@@ -7,6 +7,7 @@ import com.monexel.expensetracker.repository.CategoryRepository;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.CategoryRequest;
 import com.monexel.expensetracker.response.CategoryResponse;
+import com.monexel.expensetracker.service.CategoryCatalog;
 import com.monexel.expensetracker.service.CategoryServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,11 +32,15 @@ class CategoryServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
     private User user;
     private Category category;
+    private CategoryCatalog.Entry entry;
 
 	
 	@BeforeEach
@@ -48,6 +53,8 @@ class CategoryServiceImplTest {
 		category.setName("Food");
 		category.setDescription("Food related expenses");
 		category.setCreatedByUser(user);
+
+		entry = new CategoryCatalog.Entry(10L, "Food", "Food related expenses", 1L);
 	}
 
 	@Test
@@ -65,6 +72,7 @@ class CategoryServiceImplTest {
 		assertNotNull(response);
 		assertEquals("Food", response.getName());
 		verify(categoryRepository, times(1)).save(any(Category.class));
+		verify(categoryCatalog, times(1)).put(category);
 	}
 
 	@Test
@@ -104,6 +112,7 @@ class CategoryServiceImplTest {
 
 		assertEquals("Food", response.getName()); // Mock returns same object
 		verify(categoryRepository, times(1)).save(category);
+		verify(categoryCatalog, times(1)).put(category);
 	}
 
 	@Test
@@ -118,31 +127,51 @@ class CategoryServiceImplTest {
 		when(categoryRepository.existsById(10L)).thenReturn(true);
 		categoryService.deleteCategory(10L);
 		verify(categoryRepository, times(1)).deleteById(10L);
+		verify(categoryCatalog, times(1)).remove(10L);
 	}
 
 	@Test
 	void testDeleteCategory_NotFound() {
 		when(categoryRepository.existsById(99L)).thenReturn(false);
 		assertThrows(ResourceNotFoundException.class, () -> categoryService.deleteCategory(99L));
+		verify(categoryCatalog, never()).remove(99L);
 	}
 
 	@Test
 	void testGetCategoryById_Success() {
-		when(categoryRepository.findById(10L)).thenReturn(Optional.of(category));
+		when(categoryCatalog.find(10L)).thenReturn(entry);
 		CategoryResponse response = categoryService.getCategoryById(10L);
 		assertEquals("Food", response.getName());
+		assertEquals(1L, response.getCreatedByUserId());
+		verify(categoryRepository, never()).findById(10L);
+	}
+
+	@Test
+	void testGetCategoryById_NotFound() {
+		when(categoryCatalog.find(99L)).thenReturn(null);
+		assertThrows(ResourceNotFoundException.class, () -> categoryService.getCategoryById(99L));
 	}
 
 	@Test
 	void testGetAllCategories() {
-		when(categoryRepository.findAll()).thenReturn(List.of(category));
+		when(categoryCatalog.all()).thenReturn(List.of(entry));
 		List<CategoryResponse> responses = categoryService.getAllCategories();
 		assertEquals(1, responses.size());
+		verify(categoryRepository, never()).findAll();
+	}
+
+	@Test
+	void testSearchCategories_ClampsLimit() {
+		when(categoryCatalog.search(1L, "fo", 50)).thenReturn(List.of(entry));
+		when(categoryCatalog.search(1L, "", 10)).thenReturn(List.of());
+
+		assertEquals("Food", categoryService.searchCategories(1L, " fo ", 500).get(0).getName());
+		assertTrue(categoryService.searchCategories(1L, null, null).isEmpty());
 	}
 
 	@Test
 	void testGetCustomCategoriesByUser() {
-		when(categoryRepository.findByCreatedByUserId(1L)).thenReturn(List.of(category));
+		when(categoryCatalog.ownedBy(1L)).thenReturn(List.of(entry));
 		List<CategoryResponse> responses = categoryService.getCustomCategoriesByUser(1L);
 		assertEquals(1, responses.size());
 	}
@@ -0,0 +1,186 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.monexel.expensetracker.projection.ExpenseTitleRow;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.response.CategorySuggestionResponse;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.CategorySuggestionIndex;
+
+/**
+ * Tests the {@link CategorySuggestionIndex}.
+ */
+@ExtendWith(MockitoExtension.class)
+public class CategorySuggestionIndexTest {
+
+	private static final Long TRAVEL = 1L;
+	private static final Long FOOD = 2L;
+	private static final Long RENT = 3L;
+	private static final Long OTHERS_CUSTOM = 4L;
+	private static final Long MY_CUSTOM = 5L;
+
+	@Mock
+	private ExpenseRepository expenseRepository;
+
+	@Mock
+	private CategoryCatalog categoryCatalog;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private CategorySuggestionIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new CategorySuggestionIndex(10_000, false);
+		ReflectionTestUtils.setField(index, "expenseRepository", expenseRepository);
+		ReflectionTestUtils.setField(index, "categoryCatalog", categoryCatalog);
+		ReflectionTestUtils.setField(index, "transactionManager", transactionManager);
+
+		lenient().when(categoryCatalog.peek(TRAVEL)).thenReturn(new CategoryCatalog.Entry(TRAVEL, "Travel", null, null));
+		lenient().when(categoryCatalog.peek(FOOD)).thenReturn(new CategoryCatalog.Entry(FOOD, "Food", null, null));
+		lenient().when(categoryCatalog.peek(RENT)).thenReturn(new CategoryCatalog.Entry(RENT, "Rent", null, null));
+		lenient().when(categoryCatalog.peek(OTHERS_CUSTOM))
+				.thenReturn(new CategoryCatalog.Entry(OTHERS_CUSTOM, "Cabs", null, 9L));
+		lenient().when(categoryCatalog.peek(MY_CUSTOM))
+				.thenReturn(new CategoryCatalog.Entry(MY_CUSTOM, "Commute", null, 1L));
+	}
+
+	@Test
+	void testSuggest_FromSharedHistory() {
+		index.record(7L, TRAVEL, true, "Uber to airport");
+		index.record(8L, TRAVEL, true, "uber");
+		index.record(8L, FOOD, true, "Uber Eats dinner");
+
+		List<CategorySuggestionResponse> suggestions = index.suggest(1L, "UBER", 3);
+
+		assertEquals(List.of(TRAVEL, FOOD), ids(suggestions));
+		assertEquals("Travel", suggestions.get(0).getCategoryName());
+		assertTrue(suggestions.get(0).getScore() > suggestions.get(1).getScore());
+		assertTrue(index.suggest(1L, "Zomato", 3).isEmpty());
+	}
+
+	@Test
+	void testSuggest_OwnHistoryOutweighsOthers() {
+		index.record(7L, TRAVEL, true, "Uber");
+		index.record(8L, TRAVEL, true, "Uber");
+		index.record(1L, MY_CUSTOM, false, "Uber office");
+
+		assertEquals(List.of(MY_CUSTOM, TRAVEL), ids(index.suggest(1L, "Uber", 3)));
+		assertEquals(List.of(TRAVEL), ids(index.suggest(7L, "Uber", 3)));
+	}
+
+	@Test
+	void testSuggest_SkipsCategoriesOfOtherUsers() {
+		index.record(9L, OTHERS_CUSTOM, false, "Ola ride");
+
+		assertTrue(index.suggest(1L, "Ola ride", 3).isEmpty());
+		assertEquals(List.of(OTHERS_CUSTOM), ids(index.suggest(9L, "Ola ride", 3)));
+	}
+
+	@Test
+	void testWordCounts_KeepFrequentCategoryWhenSlotsOverflow() {
+		for (int i = 0; i < 5; i++) {
+			index.record(1L, RENT, true, "Rent");
+		}
+		for (long category = 100; category < 120; category++) {
+			index.record(1L, category, true, "Rent");
+		}
+
+		assertEquals(RENT, index.suggest(1L, "rent", 1).get(0).getCategoryId());
+	}
+
+	@Test
+	void testRebuild_StreamsTableOnce() {
+		when(expenseRepository.streamTitles()).thenReturn(
+				Stream.of(row(7L, TRAVEL, "Uber airport"), row(7L, TRAVEL, "Uber"), row(1L, RENT, "House rent")));
+		index.record(1L, FOOD, true, "Uber");
+
+		assertEquals(3, index.rebuild());
+
+		assertEquals(List.of(TRAVEL), ids(index.suggest(1L, "uber", 3)));
+		assertEquals(List.of(RENT), ids(index.suggest(1L, "rent", 3)));
+	}
+
+	@Test
+	void testRemove_TakesExpenseOutOfIndex() {
+		index.record(1L, TRAVEL, true, "Uber");
+		index.record(1L, FOOD, true, "Uber");
+		index.record(1L, FOOD, true, "Uber");
+
+		index.remove(1L, FOOD, true, "Uber");
+		index.remove(1L, FOOD, true, "Uber");
+		index.remove(1L, RENT, true, "Uber rent");
+
+		List<CategorySuggestionResponse> suggestions = index.suggest(1L, "uber", 3);
+		assertEquals(List.of(TRAVEL), ids(suggestions));
+		assertEquals(1.0, suggestions.get(0).getScore(), 1e-9);
+		assertTrue(index.suggest(1L, "rent", 3).isEmpty());
+	}
+
+	@Test
+	void testRebuild_ReplaysChangesMadeWhileStreaming() {
+		when(expenseRepository.streamTitles()).thenReturn(Stream.of(row(7L, TRAVEL, "Uber")).peek(row -> {
+			// Committed while the table is read, so not part of the stream
+			index.record(1L, FOOD, true, "Swiggy");
+			assertEquals(List.of(FOOD), ids(index.suggest(1L, "swiggy", 3)));
+		}));
+		index.record(1L, RENT, true, "Uber");
+
+		assertEquals(1, index.rebuild());
+
+		assertEquals(List.of(TRAVEL), ids(index.suggest(1L, "uber", 3)));
+		List<CategorySuggestionResponse> swiggy = index.suggest(1L, "swiggy", 3);
+		assertEquals(List.of(FOOD), ids(swiggy));
+		assertEquals(1.0, swiggy.get(0).getScore(), 1e-9);
+	}
+
+	@Test
+	void testWords_SkipsShortWordsAndNumbers() {
+		index.record(1L, FOOD, true, "A 2024 -- Swiggy/ZOMATO swiggy 12 x");
+
+		assertEquals(List.of(FOOD), ids(index.suggest(1L, "zomato", 3)));
+		assertTrue(index.suggest(1L, "2024", 3).isEmpty());
+	}
+
+	private static List<Long> ids(List<CategorySuggestionResponse> suggestions) {
+		return suggestions.stream().map(CategorySuggestionResponse::getCategoryId).toList();
+	}
+
+	private static ExpenseTitleRow row(Long userId, Long categoryId, String title) {
+		return new ExpenseTitleRow() {
+
+			@Override
+			public Long getUserId() {
+				return userId;
+			}
+
+			@Override
+			public Long getCategoryId() {
+				return categoryId;
+			}
+
+			@Override
+			public String getTitle() {
+				return title;
+			}
+
+		};
+	}
+
+}
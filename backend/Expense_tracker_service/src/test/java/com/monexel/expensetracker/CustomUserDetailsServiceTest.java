@@ -15,18 +15,28 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.service.CustomUserDetailsService;
+import com.monexel.expensetracker.service.UserDetailsCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class CustomUserDetailsServiceTest {
 
 	@Mock
 	private UserRepository userRepository;
 
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Spy
+	private UserDetailsCache userDetailsCache = new UserDetailsCache(100, 60, meterRegistry);
+
 	@InjectMocks
 	private CustomUserDetailsService customUserDetailsService;
 
@@ -55,6 +65,7 @@ public class CustomUserDetailsServiceTest {
 		assertNotNull(userDetails);
 		assertEquals("john@example.com", userDetails.getUsername());
 		assertEquals("encodedPass", userDetails.getPassword());
+		assertEquals(1L, ((AuthenticatedUser) userDetails).getId());
 		assertTrue(userDetails.getAuthorities().containsAll(Collections
 				.singleton(new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_USER"))));
 		verify(userRepository, times(1)).findByEmail("john@example.com");
@@ -69,4 +80,49 @@ public class CustomUserDetailsServiceTest {
 		verify(userRepository, times(1)).findByEmail("john@example.com");
 	}
 
+	@Test
+	void testLoadUserByUsername_CachesUntilEvicted() {
+		User user = getSampleUser();
+		when(userRepository.findByEmail("john@example.com")).thenReturn(user);
+
+		customUserDetailsService.loadUserByUsername("john@example.com");
+		customUserDetailsService.loadUserByUsername("john@example.com");
+		verify(userRepository, times(1)).findByEmail("john@example.com");
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit")
+				.functionCounter().count());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "miss")
+				.functionCounter().count());
+
+		userDetailsCache.evict("john@example.com");
+		assertEquals(0, userDetailsCache.size());
+		customUserDetailsService.loadUserByUsername("john@example.com");
+		verify(userRepository, times(2)).findByEmail("john@example.com");
+	}
+
+	@Test
+	void testUpdatePassword_StoresRehashAndEvicts() {
+		User user = getSampleUser();
+		when(userRepository.findByEmail("john@example.com")).thenReturn(user);
+		UserDetails loaded = customUserDetailsService.loadUserByUsername("john@example.com");
+
+		UserDetails updated = customUserDetailsService.updatePassword(loaded, "rehashedPass");
+
+		assertEquals("rehashedPass", updated.getPassword());
+		assertEquals(1L, ((AuthenticatedUser) updated).getId());
+		verify(userRepository, times(1)).updatePasswordByEmail("john@example.com", "rehashedPass");
+		assertEquals(0, userDetailsCache.size());
+	}
+
+	@Test
+	void testLoadUserByUsername_NotFoundIsNotCached() {
+		when(userRepository.findByEmail("john@example.com")).thenReturn(null);
+
+		assertThrows(UsernameNotFoundException.class,
+				() -> customUserDetailsService.loadUserByUsername("john@example.com"));
+		assertThrows(UsernameNotFoundException.class,
+				() -> customUserDetailsService.loadUserByUsername("john@example.com"));
+		verify(userRepository, times(2)).findByEmail("john@example.com");
+		assertEquals(0, userDetailsCache.size());
+	}
+
 }
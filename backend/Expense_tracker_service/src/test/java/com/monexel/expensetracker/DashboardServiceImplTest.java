@@ -2,11 +2,20 @@ package com.monexel.expensetracker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,15 +23,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import com.monexel.expensetracker.entity.BorrowedMoney;
-import com.monexel.expensetracker.entity.Expense;
-import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.DashboardTimeoutException;
+import com.monexel.expensetracker.projection.CategoryTotal;
+import com.monexel.expensetracker.projection.DailyTotal;
+import com.monexel.expensetracker.projection.MonthlyTotal;
 import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.ExpenseRepository;
 import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.request.SeriesGranularity;
+import com.monexel.expensetracker.response.CategoryBreakdownResponse;
 import com.monexel.expensetracker.response.DashboardResponse;
+import com.monexel.expensetracker.response.SeriesResponse;
 import com.monexel.expensetracker.service.DashboardServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupService;
+import com.monexel.expensetracker.service.UserBalanceService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class DashboardServiceImplTest {
@@ -37,38 +59,41 @@ public class DashboardServiceImplTest {
     @Mock
     private BorrowedMoneyRepository borrowedMoneyRepository;
 
+    @Mock
+    private UserBalanceService userBalanceService;
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private DashboardServiceImpl dashboardService;
 
-    private Income income;
-    private Expense expense;
-    private BorrowedMoney borrowedMoney;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        income = new Income();
-        income.setAmount(BigDecimal.valueOf(5000));
-
-        expense = new Expense();
-        expense.setAmount(BigDecimal.valueOf(2000));
-
-        borrowedMoney = new BorrowedMoney();
-        borrowedMoney.setAmount(BigDecimal.valueOf(1000));
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(dashboardService, "dashboardExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(dashboardService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(dashboardService, "queryTimeoutMs", 1000L);
     }
 
 
 @Test
     void testGetDashboardSummary_Success() {
         Long userId = 1L;
-        LocalDate startDate = LocalDate.now().minusDays(30);
-        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = LocalDate.of(2025, 11, 5);
+        LocalDate endDate = LocalDate.of(2025, 11, 20);
 
-        when(incomeRepository.findByUserIdAndDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of(income));
-        when(expenseRepository.findByUserIdAndDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of(expense));
-        when(borrowedMoneyRepository.findByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of(borrowedMoney));
+        when(incomeRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.valueOf(5000));
+        when(expenseRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.valueOf(2000));
+        when(borrowedMoneyRepository.sumAmountByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.valueOf(1000));
 
         DashboardResponse response = dashboardService.getDashboardSummary(userId, startDate, endDate);
 
@@ -77,20 +102,36 @@ public class DashboardServiceImplTest {
         assertEquals(BigDecimal.valueOf(2000), response.getTotalExpense());
         assertEquals(BigDecimal.valueOf(1000), response.getTotalBorrowed());
         assertEquals(BigDecimal.valueOf(4000), response.getNetBalance()); // 5000 + 1000 - 2000
+        verify(monthlyRollupService, never()).sumMonths(any(), any(), any(), any());
+        assertEquals(1, meterRegistry.get("dashboard.summary.query").tag("query", "expense").timer().count());
+        // Each sub-query runs with the query timeout applied to its statements
+        verify(transactionManager, times(3))
+                .getTransaction(argThat(definition -> definition.isReadOnly() && definition.getTimeout() == 1));
+    }
+
+    @Test
+    void testGetDashboardSummary_SubQueryTimeout() {
+        // An executor that never runs its tasks forces every sub-query to time out
+        ReflectionTestUtils.setField(dashboardService, "dashboardExecutor", (Executor) task -> { });
+        ReflectionTestUtils.setField(dashboardService, "queryTimeoutMs", 50L);
+
+        assertThrows(DashboardTimeoutException.class, () -> dashboardService
+                .getDashboardSummary(1L, LocalDate.of(2025, 11, 5), LocalDate.of(2025, 11, 20)));
+        assertEquals(1.0, meterRegistry.get("dashboard.summary.timeouts").tag("query", "income").counter().count());
     }
 
     @Test
     void testGetDashboardSummary_EmptyLists() {
         Long userId = 1L;
-        LocalDate startDate = LocalDate.now().minusDays(30);
-        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = LocalDate.of(2025, 11, 5);
+        LocalDate endDate = LocalDate.of(2025, 11, 20);
 
-        when(incomeRepository.findByUserIdAndDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of());
-        when(expenseRepository.findByUserIdAndDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of());
-        when(borrowedMoneyRepository.findByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
-                .thenReturn(List.of());
+        when(incomeRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.ZERO);
+        when(expenseRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.ZERO);
+        when(borrowedMoneyRepository.sumAmountByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.ZERO);
 
         DashboardResponse response = dashboardService.getDashboardSummary(userId, startDate, endDate);
 
@@ -100,6 +141,189 @@ public class DashboardServiceImplTest {
         assertEquals(BigDecimal.ZERO, response.getNetBalance());
     }
 
+    @Test
+    void testGetDashboardSummary_WholeMonthsFromRollups() {
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+        YearMonth january = YearMonth.of(2025, 1);
+        YearMonth december = YearMonth.of(2025, 12);
+
+        when(userBalanceService.findBalance(userId)).thenReturn(Optional.of(new UserBalance(userId)));
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.INCOME, january, december))
+                .thenReturn(BigDecimal.valueOf(60000));
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.EXPENSE, january, december))
+                .thenReturn(BigDecimal.valueOf(45000));
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.BORROWED, january, december))
+                .thenReturn(BigDecimal.valueOf(5000));
+
+        DashboardResponse response = dashboardService.getDashboardSummary(userId, startDate, endDate);
+
+        assertEquals(BigDecimal.valueOf(60000), response.getTotalIncome());
+        assertEquals(BigDecimal.valueOf(45000), response.getTotalExpense());
+        assertEquals(BigDecimal.valueOf(5000), response.getTotalBorrowed());
+        assertEquals(BigDecimal.valueOf(20000), response.getNetBalance());
+        verify(userBalanceService).findBalance(userId);
+        verify(incomeRepository, never()).sumAmountByUserIdAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void testGetDashboardSummary_WithoutLedger_SumsBaseTablesOnly() {
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+        when(incomeRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.valueOf(60000));
+        when(expenseRepository.sumAmountByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.valueOf(45000));
+        when(borrowedMoneyRepository.sumAmountByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
+                .thenReturn(BigDecimal.ZERO);
+
+        DashboardResponse response = dashboardService.getDashboardSummary(userId, startDate, endDate);
 
+        assertEquals(BigDecimal.valueOf(15000), response.getNetBalance());
+        verify(monthlyRollupService, never()).sumMonths(any(), any(), any(), any());
+        verify(userBalanceService, never()).getBalance(any());
+    }
+
+    @Test
+    void testGetAllTimeSummary_WithoutLedger_DoesNotSeed() {
+        Long userId = 1L;
+        when(incomeRepository.sumAmountByUserId(userId)).thenReturn(BigDecimal.valueOf(1000));
+        when(expenseRepository.sumAmountByUserId(userId)).thenReturn(BigDecimal.valueOf(300));
+        when(borrowedMoneyRepository.sumAmountByUserId(userId)).thenReturn(BigDecimal.ZERO);
+
+        DashboardResponse response = dashboardService.getAllTimeSummary(userId);
+
+        assertEquals(BigDecimal.valueOf(700), response.getNetBalance());
+        verify(userBalanceService, never()).getBalance(any());
+    }
+
+    @Test
+    void testGetDashboardSummary_StitchesPartialEdgeMonths() {
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 10, 15);
+        LocalDate endDate = LocalDate.of(2026, 2, 10);
+
+        when(userBalanceService.findBalance(userId)).thenReturn(Optional.of(new UserBalance(userId)));
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.INCOME, YearMonth.of(2025, 11), YearMonth.of(2026, 1)))
+                .thenReturn(BigDecimal.valueOf(3000));
+        when(incomeRepository.sumAmountByUserIdAndDateBetween(userId, startDate, LocalDate.of(2025, 10, 31)))
+                .thenReturn(BigDecimal.valueOf(500));
+        when(incomeRepository.sumAmountByUserIdAndDateBetween(userId, LocalDate.of(2026, 2, 1), endDate))
+                .thenReturn(BigDecimal.valueOf(250));
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.EXPENSE, YearMonth.of(2025, 11), YearMonth.of(2026, 1)))
+                .thenReturn(BigDecimal.valueOf(1000));
+        when(expenseRepository.sumAmountByUserIdAndDateBetween(any(), any(), any())).thenReturn(BigDecimal.ZERO);
+        when(monthlyRollupService.sumMonths(userId, LedgerKind.BORROWED, YearMonth.of(2025, 11), YearMonth.of(2026, 1)))
+                .thenReturn(BigDecimal.ZERO);
+        when(borrowedMoneyRepository.sumAmountByUserIdAndBorrowedDateBetween(any(), any(), any()))
+                .thenReturn(BigDecimal.ZERO);
+
+        DashboardResponse response = dashboardService.getDashboardSummary(userId, startDate, endDate);
+
+        assertEquals(BigDecimal.valueOf(3750), response.getTotalIncome());
+        assertEquals(BigDecimal.valueOf(1000), response.getTotalExpense());
+        assertEquals(BigDecimal.ZERO, response.getTotalBorrowed());
+        assertEquals(BigDecimal.valueOf(2750), response.getNetBalance());
+    }
+
+    @Test
+    void testGetSeries_WeeklyBucketsFromDailyTotals() {
+        Long userId = 1L;
+        // Monday 3 Nov 2025 to Sunday 16 Nov 2025: two weekly buckets
+        LocalDate startDate = LocalDate.of(2025, 11, 3);
+        LocalDate endDate = LocalDate.of(2025, 11, 16);
+
+        when(incomeRepository.sumDailyByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(List.of(day(LocalDate.of(2025, 11, 3), 5000)));
+        when(expenseRepository.sumDailyByUserIdAndDateBetween(userId, startDate, endDate))
+                .thenReturn(List.of(day(LocalDate.of(2025, 11, 4), 100), day(LocalDate.of(2025, 11, 9), 50),
+                        day(LocalDate.of(2025, 11, 12), 70)));
+        when(borrowedMoneyRepository.sumDailyByUserIdAndBorrowedDateBetween(userId, startDate, endDate))
+                .thenReturn(List.of());
+
+        SeriesResponse response = dashboardService.getSeries(userId, startDate, endDate, SeriesGranularity.WEEKLY);
+
+        assertEquals(2, response.getPoints().size());
+        assertEquals(LocalDate.of(2025, 11, 3), response.getPoints().get(0).getPeriodStart());
+        assertEquals(BigDecimal.valueOf(5000), response.getPoints().get(0).getTotalIncome());
+        assertEquals(BigDecimal.valueOf(150), response.getPoints().get(0).getTotalExpense());
+        assertEquals(BigDecimal.valueOf(70), response.getPoints().get(1).getTotalExpense());
+        assertEquals(BigDecimal.ZERO, response.getPoints().get(1).getTotalBorrowed());
+    }
+
+    @Test
+    void testGetSeries_MonthlyBucketsFromRollups() {
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 3, 31);
+        YearMonth january = YearMonth.of(2025, 1);
+        YearMonth march = YearMonth.of(2025, 3);
+
+        when(userBalanceService.findBalance(userId)).thenReturn(Optional.of(new UserBalance(userId)));
+        when(monthlyRollupService.monthlyTotals(userId, LedgerKind.INCOME, january, march))
+                .thenReturn(List.of(month(202501, 5000), month(202503, 5500)));
+        when(monthlyRollupService.monthlyTotals(userId, LedgerKind.EXPENSE, january, march))
+                .thenReturn(List.of(month(202502, 1200)));
+        when(monthlyRollupService.monthlyTotals(userId, LedgerKind.BORROWED, january, march))
+                .thenReturn(List.of());
+
+        SeriesResponse response = dashboardService.getSeries(userId, startDate, endDate, SeriesGranularity.MONTHLY);
+
+        assertEquals(3, response.getPoints().size());
+        assertEquals(BigDecimal.valueOf(5000), response.getPoints().get(0).getTotalIncome());
+        assertEquals(BigDecimal.ZERO, response.getPoints().get(1).getTotalIncome());
+        assertEquals(BigDecimal.valueOf(1200), response.getPoints().get(1).getTotalExpense());
+        assertEquals(LocalDate.of(2025, 3, 1), response.getPoints().get(2).getPeriodStart());
+        verify(expenseRepository, never()).sumDailyByUserIdAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void testGetSeries_RangeTooLarge() {
+        assertThrows(APIException.class, () -> dashboardService.getSeries(1L, LocalDate.of(2020, 1, 1),
+                LocalDate.of(2025, 12, 31), SeriesGranularity.DAILY));
+        verify(userBalanceService, never()).findBalance(any());
+    }
+
+    @Test
+    void testGetCategoryBreakdown() {
+        Long userId = 1L;
+        LocalDate startDate = LocalDate.of(2025, 11, 1);
+        LocalDate endDate = LocalDate.of(2025, 11, 30);
+        CategoryTotal food = new CategoryTotal() {
+            public Long getCategoryId() { return 3L; }
+            public String getCategoryName() { return "Food"; }
+            public BigDecimal getTotal() { return BigDecimal.valueOf(900); }
+            public Long getEntryCount() { return 4L; }
+        };
+
+        when(expenseRepository.sumByCategoryAndDateBetween(userId, startDate, endDate)).thenReturn(List.of(food));
+
+        List<CategoryBreakdownResponse> breakdown = dashboardService.getCategoryBreakdown(userId, startDate, endDate);
+
+        assertEquals(1, breakdown.size());
+        assertEquals(3L, breakdown.get(0).getCategoryId());
+        assertEquals("Food", breakdown.get(0).getCategoryName());
+        assertEquals(BigDecimal.valueOf(900), breakdown.get(0).getTotalAmount());
+        assertEquals(4L, breakdown.get(0).getExpenseCount());
+        verify(expenseRepository, never()).findByUserIdAndDateBetween(any(), any(), any());
+    }
+
+    private DailyTotal day(LocalDate date, long total) {
+        return new DailyTotal() {
+            public LocalDate getDay() { return date; }
+            public BigDecimal getTotal() { return BigDecimal.valueOf(total); }
+        };
+    }
+
+    private MonthlyTotal month(int yearMonth, long total) {
+        return new MonthlyTotal() {
+            public Integer getYearMonth() { return yearMonth; }
+            public BigDecimal getTotal() { return BigDecimal.valueOf(total); }
+            public Long getEntryCount() { return 1L; }
+        };
+    }
 
 }
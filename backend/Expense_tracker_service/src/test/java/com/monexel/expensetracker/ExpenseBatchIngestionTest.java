@@ -0,0 +1,151 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.MonthlyRollupRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExpenseBatchItem;
+import com.monexel.expensetracker.request.ExpenseBatchRequest;
+import com.monexel.expensetracker.response.ExpenseResponse;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.CategorySuggestionIndex;
+import com.monexel.expensetracker.service.ExpenseServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupServiceImpl;
+import com.monexel.expensetracker.service.UserBalanceServiceImpl;
+
+/**
+ * Runs batch expense ingestion against an in-memory database with JDBC
+ * batching enabled.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:batch;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=50",
+		"spring.jpa.properties.hibernate.order_inserts=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ExpenseServiceImpl.class, CategoryCatalog.class, CategorySuggestionIndex.class, UserBalanceServiceImpl.class,
+		MonthlyRollupServiceImpl.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExpenseBatchIngestionTest {
+
+	@Autowired
+	private ExpenseServiceImpl expenseService;
+
+	@Autowired
+	private UserBalanceServiceImpl userBalanceService;
+
+	@Autowired
+	private MonthlyRollupServiceImpl monthlyRollupService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private UserBalanceRepository userBalanceRepository;
+
+	@Autowired
+	private MonthlyRollupRepository monthlyRollupRepository;
+
+	private User user;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		monthlyRollupRepository.deleteAll();
+		userBalanceRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword("secret123");
+		user.setPhoneNumber("9876543210");
+		user = userRepository.save(user);
+
+		category = new Category();
+		category.setName("Food");
+		category.setCreatedByUser(user);
+		category = categoryRepository.save(category);
+
+		Income income = new Income();
+		income.setSource("Salary");
+		income.setDescription("Monthly salary");
+		income.setAmount(BigDecimal.valueOf(1_000_000));
+		income.setDate(LocalDate.of(2025, 1, 1));
+		income.setUser(user);
+		incomeRepository.save(income);
+	}
+
+	@Test
+	void testAddExpenses_PersistsRowsLedgerAndRollups() {
+		List<ExpenseResponse> responses = expenseService.addExpenses(batchRequest(500));
+
+		assertEquals(500, responses.size());
+		assertEquals(500, expenseRepository.count());
+		assertTrue(responses.stream().allMatch(response -> response.getId() != null));
+		assertEquals(0, BigDecimal.valueOf(5000).compareTo(
+				userBalanceRepository.findById(user.getId()).orElseThrow().getTotalExpense()));
+		assertEquals(0, BigDecimal.valueOf(5000).compareTo(
+				monthlyRollupService.sumMonths(user.getId(), LedgerKind.EXPENSE, YearMonth.of(2025, 1),
+						YearMonth.of(2025, 12))));
+		assertEquals(0, BigDecimal.valueOf(1_000_000 - 5000).compareTo(userBalanceService.getNetBalance(user.getId())));
+	}
+
+	private ExpenseBatchRequest batchRequest(int rows) {
+		List<ExpenseBatchItem> items = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			ExpenseBatchItem item = new ExpenseBatchItem();
+			item.setTitle("Expense " + i);
+			item.setAmount(BigDecimal.TEN);
+			item.setDate(LocalDate.of(2025, 1 + i % 12, 1 + i % 28));
+			item.setCategoryId(category.getId());
+			items.add(item);
+		}
+		ExpenseBatchRequest request = new ExpenseBatchRequest();
+		request.setUserId(user.getId());
+		request.setExpenses(items);
+		return request;
+	}
+
+}
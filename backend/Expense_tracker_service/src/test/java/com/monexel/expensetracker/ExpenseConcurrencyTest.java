@@ -0,0 +1,159 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.exception.InsufficientFundsException;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.CategorySuggestionIndex;
+import com.monexel.expensetracker.service.ExpenseServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupServiceImpl;
+import com.monexel.expensetracker.service.UserBalanceServiceImpl;
+
+/**
+ * Hammers a single user with parallel {@code addExpense} calls against an
+ * in-memory database and checks that the balance never goes negative.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:concurrency;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ExpenseServiceImpl.class, CategoryCatalog.class, CategorySuggestionIndex.class, UserBalanceServiceImpl.class,
+		MonthlyRollupServiceImpl.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExpenseConcurrencyTest {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private ExpenseServiceImpl expenseService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private UserBalanceRepository userBalanceRepository;
+
+	private User user;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		userBalanceRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword("secret123");
+		user.setPhoneNumber("9876543210");
+		user = userRepository.save(user);
+
+		category = new Category();
+		category.setName("Food");
+		category.setCreatedByUser(user);
+		category = categoryRepository.save(category);
+
+		Income income = new Income();
+		income.setSource("Salary");
+		income.setDescription("Monthly salary");
+		income.setAmount(BigDecimal.valueOf(1000));
+		income.setDate(LocalDate.now());
+		income.setUser(user);
+		incomeRepository.save(income);
+	}
+
+	@Test
+	void testAddExpense_ParallelRequestsNeverOverdraw() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger accepted = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					expenseService.addExpense(expenseRequest(BigDecimal.valueOf(100)));
+					accepted.incrementAndGet();
+				} catch (InsufficientFundsException e) {
+					rejected.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		BigDecimal spent = expenseRepository.sumAmountByUserId(user.getId());
+		UserBalance balance = userBalanceRepository.findById(user.getId()).orElseThrow();
+
+		assertEquals(10, accepted.get());
+		assertEquals(THREADS - 10, rejected.get());
+		assertEquals(0, BigDecimal.valueOf(1000).compareTo(spent));
+		assertEquals(0, spent.compareTo(balance.getTotalExpense()));
+		assertTrue(balance.getTotalIncome().subtract(balance.getTotalExpense()).signum() >= 0);
+	}
+
+	private ExpenseRequest expenseRequest(BigDecimal amount) {
+		ExpenseRequest request = new ExpenseRequest();
+		request.setUserId(user.getId());
+		request.setCategoryId(category.getId());
+		request.setTitle("Lunch");
+		request.setAmount(amount);
+		request.setDate(LocalDate.now());
+		return request;
+	}
+
+}
@@ -1,9 +1,15 @@
 package com.monexel.expensetracker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,21 +26,29 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.monexel.expensetracker.entity.Category;
 import com.monexel.expensetracker.entity.Expense;
-import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
 import com.monexel.expensetracker.exception.InsufficientFundsException;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
-import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
 import com.monexel.expensetracker.repository.CategoryRepository;
 import com.monexel.expensetracker.repository.ExpenseRepository;
-import com.monexel.expensetracker.repository.IncomeRepository;
 import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExpenseBatchItem;
+import com.monexel.expensetracker.request.ExpenseBatchRequest;
 import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.ExpenseResponse;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.CategorySuggestionIndex;
 import com.monexel.expensetracker.service.ExpenseServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupService;
+import com.monexel.expensetracker.service.UserBalanceService;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -47,16 +61,22 @@ public class ExpenseServiceImplTest {
 	@Mock
     private CategoryRepository categoryRepository;
     @Mock
-    private IncomeRepository incomeRepository;
+    private UserBalanceService userBalanceService;
     @Mock
-    private BorrowedMoneyRepository borrowedMoneyRepository;
+    private MonthlyRollupService monthlyRollupService;
+    @Mock
+    private CategoryCatalog categoryCatalog;
+    @Mock
+    private CategorySuggestionIndex categorySuggestionIndex;
 
     @InjectMocks
     private ExpenseServiceImpl expenseService;
 
     private User user;
     private Category category;
+    private CategoryCatalog.Entry categoryEntry;
     private Expense expense;
+    private ExpenseResponse expenseResponse;
 
     @BeforeEach
     void setUp() {
@@ -67,6 +87,7 @@ public class ExpenseServiceImplTest {
         category = new Category();
         category.setId(1L);
         category.setName("Food");
+        categoryEntry = new CategoryCatalog.Entry(1L, "Food", null, null);
 
         expense = new Expense();
         expense.setId(10L);
@@ -75,6 +96,8 @@ public class ExpenseServiceImplTest {
         expense.setDate(LocalDate.now());
         expense.setUser(user);
         expense.setCategory(category);
+
+        expenseResponse = new ExpenseResponse(10L, "Lunch", BigDecimal.valueOf(100), LocalDate.now(), "Food", 1L);
     }
 
     @Test
@@ -87,10 +110,8 @@ public class ExpenseServiceImplTest {
         request.setDate(LocalDate.now());
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
-        when(incomeRepository.findByUserId(1L)).thenReturn(List.of(new Income(BigDecimal.valueOf(500))));
-        when(expenseRepository.findByUserId(1L)).thenReturn(List.of());
-        when(borrowedMoneyRepository.findByUserId(1L)).thenReturn(List.of());
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
+        when(userBalanceService.getNetBalance(1L)).thenReturn(BigDecimal.valueOf(500));
         when(expenseRepository.save(any(Expense.class))).thenReturn(expense);
 
         ExpenseResponse response = expenseService.addExpense(request);
@@ -98,6 +119,11 @@ public class ExpenseServiceImplTest {
         assertNotNull(response);
         assertEquals("Lunch", response.getTitle());
         verify(expenseRepository, times(1)).save(any(Expense.class));
+        verify(expenseRepository, never()).findByUserId(1L);
+        verify(userBalanceService, times(1)).applyExpenseDelta(1L, BigDecimal.valueOf(200));
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.EXPENSE, 1L, request.getDate(),
+                BigDecimal.valueOf(200), 1);
+        verify(categorySuggestionIndex, times(1)).recordAfterCommit(1L, 1L, true, "Dinner");
     }
 
     @Test
@@ -108,12 +134,74 @@ public class ExpenseServiceImplTest {
         request.setAmount(BigDecimal.valueOf(1000));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
-        when(incomeRepository.findByUserId(1L)).thenReturn(List.of());
-        when(expenseRepository.findByUserId(1L)).thenReturn(List.of());
-        when(borrowedMoneyRepository.findByUserId(1L)).thenReturn(List.of());
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
+        when(userBalanceService.getNetBalance(1L)).thenReturn(BigDecimal.ZERO);
 
         assertThrows(InsufficientFundsException.class, () -> expenseService.addExpense(request));
+        verify(userBalanceService, never()).applyExpenseDelta(any(), any());
+        verify(expenseRepository, never()).save(any(Expense.class));
+    }
+
+    @Test
+    void testAddExpense_CategoryOfAnotherUser() {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setUserId(1L);
+        request.setCategoryId(2L);
+        request.setAmount(BigDecimal.valueOf(100));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(categoryCatalog.find(2L)).thenReturn(new CategoryCatalog.Entry(2L, "Rent", null, 5L));
+
+        assertThrows(APIException.class, () -> expenseService.addExpense(request));
+        verify(categoryRepository, never()).findById(any());
+        verify(expenseRepository, never()).save(any(Expense.class));
+    }
+
+    @Test
+    void testAddExpenses_Success() {
+        ExpenseBatchRequest request = batchRequest(batchItem(80, LocalDate.of(2025, 11, 3)),
+                batchItem(20, LocalDate.of(2025, 11, 20)), batchItem(50, LocalDate.of(2025, 12, 1)));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
+        when(categoryRepository.getReferenceById(1L)).thenReturn(category);
+        when(userBalanceService.getNetBalance(1L)).thenReturn(BigDecimal.valueOf(500));
+        when(expenseRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ExpenseResponse> responses = expenseService.addExpenses(request);
+
+        assertEquals(3, responses.size());
+        assertEquals("Food", responses.get(0).getCategoryName());
+        verify(userBalanceService, times(1)).getNetBalance(1L);
+        verify(userBalanceService, times(1)).applyExpenseDelta(1L, BigDecimal.valueOf(150));
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.EXPENSE, 1L, LocalDate.of(2025, 11, 1),
+                BigDecimal.valueOf(100), 2);
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.EXPENSE, 1L, LocalDate.of(2025, 12, 1),
+                BigDecimal.valueOf(50), 1);
+        verify(expenseRepository, never()).save(any(Expense.class));
+    }
+
+    @Test
+    void testAddExpenses_InsufficientFunds() {
+        ExpenseBatchRequest request = batchRequest(batchItem(300, LocalDate.now()), batchItem(300, LocalDate.now()));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
+        when(userBalanceService.getNetBalance(1L)).thenReturn(BigDecimal.valueOf(500));
+
+        assertThrows(InsufficientFundsException.class, () -> expenseService.addExpenses(request));
+        verify(userBalanceService, never()).applyExpenseDelta(any(), any());
+        verify(expenseRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testAddExpenses_CategoryNotFound() {
+        ExpenseBatchRequest request = batchRequest(batchItem(10, LocalDate.now()));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertThrows(ResourceNotFoundException.class, () -> expenseService.addExpenses(request));
+        verify(userBalanceService, never()).getNetBalance(any());
     }
 
     @Test
@@ -124,40 +212,82 @@ public class ExpenseServiceImplTest {
         request.setDate(LocalDate.now());
         request.setCategoryId(1L);
 
-        when(expenseRepository.findById(10L)).thenReturn(Optional.of(expense));
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(expenseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(expense));
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
         when(expenseRepository.save(any(Expense.class))).thenReturn(expense);
 
         ExpenseResponse response = expenseService.updateExpense(10L, request);
 
         assertEquals("Lunch", response.getTitle()); // original title since mock returns same object
         verify(expenseRepository, times(1)).save(expense);
+        verify(userBalanceService, times(1)).applyExpenseDelta(1L, BigDecimal.valueOf(50));
+        verify(monthlyRollupService, times(1)).recordUpdate(1L, LedgerKind.EXPENSE, 1L, expense.getDate(),
+                BigDecimal.valueOf(100), 1L, request.getDate(), BigDecimal.valueOf(150));
+        verify(categorySuggestionIndex, never()).recordAfterCommit(any(), any(), eq(true), any());
+        verify(categorySuggestionIndex, never()).removeAfterCommit(any(), any(), eq(true), any());
+    }
+
+    @Test
+    void testUpdateExpense_RefiledMovesSuggestionCount() {
+        ExpenseRequest request = new ExpenseRequest();
+        request.setTitle("Team lunch");
+        request.setAmount(BigDecimal.valueOf(100));
+        request.setDate(expense.getDate());
+        request.setCategoryId(1L);
+
+        when(expenseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(expense));
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
+        when(expenseRepository.save(any(Expense.class))).thenReturn(expense);
+
+        expenseService.updateExpense(10L, request);
+
+        verify(categorySuggestionIndex, times(1)).removeAfterCommit(1L, 1L, true, "Lunch");
+        verify(categorySuggestionIndex, times(1)).recordAfterCommit(1L, 1L, true, "Team lunch");
+    }
+
+    @Test
+    void testSuggestCategories_ClampsLimit() {
+        expenseService.suggestCategories(1L, "Uber", null);
+        expenseService.suggestCategories(1L, "Uber", 100);
+
+        verify(categorySuggestionIndex, times(1)).suggest(1L, "Uber", 3);
+        verify(categorySuggestionIndex, times(1)).suggest(1L, "Uber", 10);
     }
 
     @Test
     void testDeleteExpense_Success() {
-        when(expenseRepository.existsById(10L)).thenReturn(true);
+        when(expenseRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(expense));
+        when(categoryCatalog.find(1L)).thenReturn(categoryEntry);
         expenseService.deleteExpense(10L);
         verify(expenseRepository, times(1)).deleteById(10L);
+        verify(categorySuggestionIndex, times(1)).removeAfterCommit(1L, 1L, true, "Lunch");
     }
 
     @Test
     void testDeleteExpense_NotFound() {
-        when(expenseRepository.existsById(10L)).thenReturn(false);
+        when(expenseRepository.findByIdForUpdate(10L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> expenseService.deleteExpense(10L));
     }
 
     @Test
     void testGetExpenseById_Success() {
-        when(expenseRepository.findById(10L)).thenReturn(Optional.of(expense));
+        when(expenseRepository.findResponseById(10L)).thenReturn(Optional.of(expenseResponse));
         ExpenseResponse response = expenseService.getExpenseById(10L);
         assertEquals("Lunch", response.getTitle());
+        assertEquals("Food", response.getCategoryName());
+        verify(expenseRepository, never()).findById(10L);
+    }
+
+    @Test
+    void testGetExpenseById_NotFound() {
+        when(expenseRepository.findResponseById(99L)).thenReturn(Optional.empty());
+        assertThrows(ResourceNotFoundException.class, () -> expenseService.getExpenseById(99L));
     }
 
     @Test
     void testGetAllExpensesByUser_WithDateRange() {
-        when(expenseRepository.findByUserIdAndDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
-                .thenReturn(List.of(expense));
+        when(expenseRepository.findResponsesByUserIdAndDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
+                .thenReturn(List.of(expenseResponse));
 
         List<ExpenseResponse> responses = expenseService.getAllExpensesByUser(1L, LocalDate.now().minusDays(1), LocalDate.now());
         assertEquals(1, responses.size());
@@ -165,11 +295,61 @@ public class ExpenseServiceImplTest {
 
     @Test
     void testGetAllExpensesByUser_WithoutDateRange() {
-        when(expenseRepository.findByUserId(1L)).thenReturn(List.of(expense));
+        when(expenseRepository.findResponsesByUserId(1L)).thenReturn(List.of(expenseResponse));
 
         List<ExpenseResponse> responses = expenseService.getAllExpensesByUser(1L, null, null);
         assertEquals(1, responses.size());
     }
 
+    @Test
+    void testGetExpensesPageByUser_HasMore() {
+        ExpenseResponse older = new ExpenseResponse(9L, "Dinner", BigDecimal.valueOf(50), LocalDate.now().minusDays(1),
+                "Food", 1L);
+
+        when(expenseRepository.findPageByUserId(1L, PageCursor.MIN_DATE, PageCursor.MAX_DATE, PageCursor.MAX_DATE,
+                Long.MAX_VALUE, PageRequest.of(0, 2))).thenReturn(List.of(expenseResponse, older));
+
+        CursorPage<ExpenseResponse> page = expenseService.getExpensesPageByUser(1L, null, null, null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasMore());
+        PageCursor next = PageCursor.decode(page.getNextCursor());
+        assertEquals(expense.getDate(), next.getDate());
+        assertEquals(10L, next.getId());
+    }
+
+    @Test
+    void testGetExpensesPageByUser_LastPage() {
+        String cursor = new PageCursor(LocalDate.now().plusDays(1), 11L).encode();
+        when(expenseRepository.findPageByUserId(eq(1L), any(), any(), eq(LocalDate.now().plusDays(1)), eq(11L),
+                eq(PageRequest.of(0, PageCursor.DEFAULT_PAGE_SIZE + 1)))).thenReturn(List.of(expenseResponse));
+
+        CursorPage<ExpenseResponse> page = expenseService.getExpensesPageByUser(1L, null, null, cursor, null);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetExpensesPageByUser_InvalidCursor() {
+        assertThrows(APIException.class, () -> expenseService.getExpensesPageByUser(1L, null, null, "not-a-cursor", 10));
+    }
+
+    private ExpenseBatchRequest batchRequest(ExpenseBatchItem... items) {
+        ExpenseBatchRequest request = new ExpenseBatchRequest();
+        request.setUserId(1L);
+        request.setExpenses(List.of(items));
+        return request;
+    }
+
+    private ExpenseBatchItem batchItem(long amount, LocalDate date) {
+        ExpenseBatchItem item = new ExpenseBatchItem();
+        item.setTitle("Coffee");
+        item.setAmount(BigDecimal.valueOf(amount));
+        item.setDate(date);
+        item.setCategoryId(1L);
+        return item;
+    }
 
 }
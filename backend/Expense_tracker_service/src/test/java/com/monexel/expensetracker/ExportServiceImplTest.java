@@ -0,0 +1,170 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExportFormat;
+import com.monexel.expensetracker.service.ExportServiceImpl;
+
+/**
+ * Runs the transaction export against an in-memory database.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:export;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExportServiceImpl.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ExportServiceImplTest {
+
+	@Autowired
+	private ExportServiceImpl exportService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	private User user;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		borrowedMoneyRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword("secret123");
+		user.setPhoneNumber("9876543210");
+		user = userRepository.save(user);
+
+		category = new Category();
+		category.setName("Food");
+		category.setCreatedByUser(user);
+		category = categoryRepository.save(category);
+	}
+
+	@Test
+	void testExportTransactions_Csv() throws Exception {
+		saveTransactions();
+
+		String[] lines = export(ExportFormat.CSV).split("\n");
+
+		assertEquals(4, lines.length);
+		assertEquals("type,id,date,amount,title,category,description,dueDate", lines[0]);
+		assertTrue(lines[1].startsWith("EXPENSE,"));
+		assertTrue(lines[1].contains(",\"Lunch, \"\"office\"\"\",Food,,"));
+		assertTrue(lines[2].startsWith("INCOME,"));
+		assertTrue(lines[2].endsWith(",Salary,,Monthly salary,"));
+		assertTrue(lines[3].startsWith("BORROWED,"));
+		assertTrue(lines[3].endsWith("," + LocalDate.of(2025, 12, 31)));
+	}
+
+	@Test
+	void testExportTransactions_Ndjson() throws Exception {
+		saveTransactions();
+
+		String[] lines = export(ExportFormat.NDJSON).split("\n");
+		ObjectMapper mapper = new ObjectMapper();
+
+		assertEquals(3, lines.length);
+		JsonNode expense = mapper.readTree(lines[0]);
+		assertEquals("EXPENSE", expense.get("type").asText());
+		assertEquals("Lunch, \"office\"", expense.get("title").asText());
+		assertEquals("Food", expense.get("category").asText());
+		assertEquals(0, new BigDecimal("120.50").compareTo(expense.get("amount").decimalValue()));
+		assertTrue(expense.get("dueDate").isNull());
+		assertEquals("2025-11-02", mapper.readTree(lines[1]).get("date").asText());
+		assertEquals("Hari", mapper.readTree(lines[2]).get("title").asText());
+	}
+
+	@Test
+	void testExportTransactions_UserNotFound() {
+		assertThrows(ResourceNotFoundException.class,
+				() -> exportService.exportTransactions(user.getId() + 1, ExportFormat.CSV));
+	}
+
+	private void saveTransactions() {
+		Expense expense = new Expense();
+		expense.setTitle("Lunch, \"office\"");
+		expense.setAmount(new BigDecimal("120.50"));
+		expense.setDate(LocalDate.of(2025, 11, 1));
+		expense.setCategory(category);
+		expense.setUser(user);
+		expenseRepository.save(expense);
+
+		Income income = new Income();
+		income.setSource("Salary");
+		income.setDescription("Monthly salary");
+		income.setAmount(BigDecimal.valueOf(1000));
+		income.setDate(LocalDate.of(2025, 11, 2));
+		income.setUser(user);
+		incomeRepository.save(income);
+
+		BorrowedMoney borrowed = new BorrowedMoney();
+		borrowed.setBorrowedFrom("Hari");
+		borrowed.setAmount(BigDecimal.valueOf(500));
+		borrowed.setBorrowedDate(LocalDate.of(2025, 11, 3));
+		borrowed.setDueDate(LocalDate.of(2025, 12, 31));
+		borrowed.setUser(user);
+		borrowedMoneyRepository.save(borrowed);
+	}
+
+	private String export(ExportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportTransactions(user.getId(), format).writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+}
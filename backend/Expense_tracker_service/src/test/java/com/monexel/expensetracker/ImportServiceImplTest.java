@@ -0,0 +1,278 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.ImportStatus;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.ImportRejectedException;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.ImportJobRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.MonthlyRollupRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.StatementFormat;
+import com.monexel.expensetracker.response.ImportJobResponse;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.ImportServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupServiceImpl;
+import com.monexel.expensetracker.service.UserBalanceServiceImpl;
+
+/**
+ * Runs statement imports against an in-memory database with a chunk size of
+ * two, so that every statement spans several chunk transactions.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:import;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"app.import.chunk-size=2" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ImportServiceImpl.class, CategoryCatalog.class, UserBalanceServiceImpl.class,
+		MonthlyRollupServiceImpl.class, ImportServiceImplTest.InlineImportExecutor.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ImportServiceImplTest {
+
+	/**
+	 * Runs imports on the calling thread, so they have ended when the upload
+	 * returns.
+	 */
+	@TestConfiguration
+	static class InlineImportExecutor {
+
+		@Bean(name = "importExecutor")
+		TaskExecutor importExecutor() {
+			return new SyncTaskExecutor();
+		}
+
+	}
+
+	@Autowired
+	private ImportServiceImpl importService;
+
+	@Autowired
+	private UserBalanceServiceImpl userBalanceService;
+
+	@Autowired
+	private ImportJobRepository importJobRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private UserBalanceRepository userBalanceRepository;
+
+	@Autowired
+	private MonthlyRollupRepository monthlyRollupRepository;
+
+	private User user;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		importJobRepository.deleteAll();
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		monthlyRollupRepository.deleteAll();
+		userBalanceRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword("secret123");
+		user.setPhoneNumber("9876543210");
+		user = userRepository.save(user);
+
+		category = new Category();
+		category.setName("Food");
+		category.setCreatedByUser(user);
+		category = categoryRepository.save(category);
+	}
+
+	@Test
+	void testImportStatement_Csv() {
+		ImportJobResponse started = importService.importStatement(user.getId(), StatementFormat.CSV, null,
+				"nov.csv", statement("Date,Amount,Description,Category\n"
+						+ "2025-11-01,1000,Salary,\n"
+						+ "2025-11-02,-120.50,\"Lunch, office\",food\r\n"
+						+ "2025-12-03,-30,Snacks,Food\n"
+						+ "2025-11-04,-10,Taxi,Travel\n"
+						+ "11/05/2025,-5,Tea,Food\n"));
+
+		assertEquals(ImportStatus.RUNNING, started.getStatus());
+		assertEquals(0, started.getRecordsProcessed());
+		ImportJobResponse job = importService.getImportJob(started.getId());
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(5, job.getRecordsProcessed());
+		assertEquals(2, job.getExpensesImported());
+		assertEquals(1, job.getIncomesImported());
+		assertEquals(2, job.getRecordsRejected());
+		assertTrue(job.getLastError().startsWith("Record 5: invalid date"));
+
+		List<Expense> expenses = expenseRepository.findByUserId(user.getId());
+		assertEquals(2, expenses.size());
+		assertTrue(expenses.stream().anyMatch(expense -> expense.getTitle().equals("Lunch, office")));
+		assertEquals(1, incomeRepository.count());
+		assertEquals(0, new BigDecimal("849.50").compareTo(userBalanceService.getNetBalance(user.getId())));
+		assertEquals(3, monthlyRollupRepository.count());
+	}
+
+	@Test
+	void testImportStatement_Ofx() {
+		ImportJobResponse started = importService.importStatement(user.getId(), StatementFormat.OFX,
+				category.getId(), "nov.ofx",
+				statement("OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n"
+						+ "<STMTTRN>\n<TRNTYPE>CREDIT\n<DTPOSTED>20251101120000[+5.5:IST]\n<TRNAMT>500.00\n"
+						+ "<NAME>Salary\n<MEMO>November\n</STMTTRN>\n"
+						+ "<STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20251102</DTPOSTED><TRNAMT>-42.10</TRNAMT>"
+						+ "<NAME>Grocer &amp; Sons</NAME></STMTTRN>\n"
+						+ "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n"));
+
+		ImportJobResponse job = importService.getImportJob(started.getId());
+		assertEquals(ImportStatus.COMPLETED, job.getStatus());
+		assertEquals(2, job.getRecordsProcessed());
+		assertEquals(1, job.getExpensesImported());
+		assertEquals(1, job.getIncomesImported());
+
+		Expense expense = expenseRepository.findByUserId(user.getId()).get(0);
+		assertEquals("Grocer & Sons", expense.getTitle());
+		assertEquals(LocalDate.of(2025, 11, 2), expense.getDate());
+		assertEquals(category.getId(), expense.getCategory().getId());
+		assertEquals("November", incomeRepository.findAll().get(0).getDescription());
+	}
+
+	@Test
+	void testImportStatement_FailsAndResumesFromCheckpoint() {
+		String csv = "date,amount,description,category\n"
+				+ "2025-11-01,100,Salary,\n"
+				+ "2025-11-02,-80,Rent,Food\n"
+				+ "2025-11-03,-500,Laptop,Food\n"
+				+ "2025-11-04,-10,Tea,Food\n";
+
+		ImportJobResponse failed = importService.getImportJob(importService
+				.importStatement(user.getId(), StatementFormat.CSV, null, "nov.csv", statement(csv)).getId());
+
+		assertEquals(ImportStatus.FAILED, failed.getStatus());
+		assertEquals(2, failed.getRecordsProcessed());
+		assertNotNull(failed.getLastError());
+		assertEquals(1, expenseRepository.count());
+
+		userBalanceService.applyIncomeDelta(user.getId(), BigDecimal.valueOf(1000));
+		assertEquals(ImportStatus.RUNNING, importService.resumeImport(failed.getId(), statement(csv)).getStatus());
+		ImportJobResponse resumed = importService.getImportJob(failed.getId());
+
+		assertEquals(ImportStatus.COMPLETED, resumed.getStatus());
+		assertEquals(4, resumed.getRecordsProcessed());
+		assertEquals(3, resumed.getExpensesImported());
+		assertEquals(1, resumed.getIncomesImported());
+		assertEquals(3, expenseRepository.count());
+		assertEquals(1, incomeRepository.count());
+
+		assertThrows(APIException.class, () -> importService.resumeImport(failed.getId(), statement(csv)));
+	}
+
+	@Test
+	void testImportStatement_MissingColumn() {
+		ImportJobResponse job = importService.getImportJob(importService
+				.importStatement(user.getId(), StatementFormat.CSV, null, "nov.csv",
+						statement("date,description\n2025-11-01,Salary\n"))
+				.getId());
+
+		assertEquals(ImportStatus.FAILED, job.getStatus());
+		assertEquals(0, job.getRecordsProcessed());
+		assertEquals("The CSV statement has no 'amount' column.", job.getLastError());
+	}
+
+	@Test
+	void testImportStatement_DefaultCategoryOfAnotherUser() {
+		User other = new User();
+		other.setName("Ravi");
+		other.setEmail("ravi@example.com");
+		other.setPassword("secret123");
+		other.setPhoneNumber("9876543211");
+		other = userRepository.save(other);
+		Category foreign = new Category();
+		foreign.setName("Travel");
+		foreign.setCreatedByUser(other);
+		Long foreignId = categoryRepository.save(foreign).getId();
+
+		assertThrows(APIException.class, () -> importService.importStatement(user.getId(), StatementFormat.CSV,
+				foreignId, "nov.csv", statement("date,description,amount\n")));
+		assertEquals(0, importJobRepository.count());
+	}
+
+	@Test
+	void testImportStatement_RejectedWhenPoolIsFull() {
+		Object executor = ReflectionTestUtils.getField(importService, "importExecutor");
+		ReflectionTestUtils.setField(importService, "importExecutor", (TaskExecutor) task -> {
+			throw new TaskRejectedException("full");
+		});
+		try {
+			assertThrows(ImportRejectedException.class, () -> importService.importStatement(user.getId(),
+					StatementFormat.CSV, null, "nov.csv", statement("date,amount,description\n")));
+		} finally {
+			ReflectionTestUtils.setField(importService, "importExecutor", executor);
+		}
+
+		ImportJobResponse job = importService.getImportJob(importJobRepository.findAll().get(0).getId());
+		assertEquals(ImportStatus.FAILED, job.getStatus());
+		assertEquals(0, job.getRecordsProcessed());
+	}
+
+	@Test
+	void testValidateChunkSize_RejectsBelowOne() {
+		ImportServiceImpl service = new ImportServiceImpl();
+		ReflectionTestUtils.setField(service, "chunkSize", 0);
+
+		assertThrows(IllegalStateException.class, () -> ReflectionTestUtils.invokeMethod(service, "validateChunkSize"));
+	}
+
+	private static InputStream statement(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
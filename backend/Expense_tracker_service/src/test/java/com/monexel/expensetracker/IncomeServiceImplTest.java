@@ -1,7 +1,9 @@
 package com.monexel.expensetracker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -18,15 +20,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 
 import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.LedgerKind;
 import com.monexel.expensetracker.entity.User;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
 import com.monexel.expensetracker.repository.IncomeRepository;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.IncomeRequest;
+import com.monexel.expensetracker.request.PageCursor;
+import com.monexel.expensetracker.response.CursorPage;
 import com.monexel.expensetracker.response.IncomeResponse;
 import com.monexel.expensetracker.service.IncomeServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupService;
+import com.monexel.expensetracker.service.UserBalanceService;
 
 public class IncomeServiceImplTest {
 
@@ -36,11 +44,18 @@ public class IncomeServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserBalanceService userBalanceService;
+
+    @Mock
+    private MonthlyRollupService monthlyRollupService;
+
     @InjectMocks
     private IncomeServiceImpl incomeService;
 
     private User user;
     private Income income;
+    private IncomeResponse incomeResponse;
 
     @BeforeEach
     void setUp() {
@@ -55,6 +70,8 @@ public class IncomeServiceImplTest {
         income.setDate(LocalDate.now());
         income.setDescription("Monthly salary");
         income.setUser(user);
+
+        incomeResponse = new IncomeResponse(10L, "Salary", BigDecimal.valueOf(5000), LocalDate.now(), "Monthly salary", 1L);
     }
 
     @Test
@@ -74,6 +91,9 @@ public class IncomeServiceImplTest {
         assertNotNull(response);
         assertEquals("Salary", response.getSource());
         verify(incomeRepository, times(1)).save(any(Income.class));
+        verify(userBalanceService, times(1)).applyIncomeDelta(1L, BigDecimal.valueOf(5000));
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.INCOME, null, request.getDate(),
+                BigDecimal.valueOf(5000), 1);
     }
 
     @Test
@@ -94,46 +114,49 @@ public class IncomeServiceImplTest {
         request.setDate(LocalDate.now());
         request.setDescription("Updated monthly salary");
 
-        when(incomeRepository.findById(10L)).thenReturn(Optional.of(income));
+        when(incomeRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(income));
         when(incomeRepository.save(any(Income.class))).thenReturn(income);
 
         IncomeResponse response = incomeService.updateIncome(10L, request);
 
         assertEquals("Salary", response.getSource()); // original mock returns same object
         verify(incomeRepository, times(1)).save(income);
+        verify(userBalanceService, times(1)).applyIncomeDelta(1L, BigDecimal.valueOf(1000));
     }
 
     @Test
     void testUpdateIncome_NotFound() {
         IncomeRequest request = new IncomeRequest();
-        when(incomeRepository.findById(99L)).thenReturn(Optional.empty());
+        when(incomeRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> incomeService.updateIncome(99L, request));
     }
 
     @Test
     void testDeleteIncome_Success() {
-        when(incomeRepository.existsById(10L)).thenReturn(true);
+        when(incomeRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(income));
         incomeService.deleteIncome(10L);
         verify(incomeRepository, times(1)).deleteById(10L);
+        verify(monthlyRollupService, times(1)).record(1L, LedgerKind.INCOME, null, income.getDate(),
+                BigDecimal.valueOf(-5000), -1);
     }
 
     @Test
     void testDeleteIncome_NotFound() {
-        when(incomeRepository.existsById(99L)).thenReturn(false);
+        when(incomeRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> incomeService.deleteIncome(99L));
     }
 
     @Test
     void testGetIncomeById_Success() {
-        when(incomeRepository.findById(10L)).thenReturn(Optional.of(income));
+        when(incomeRepository.findResponseById(10L)).thenReturn(Optional.of(incomeResponse));
         IncomeResponse response = incomeService.getIncomeById(10L);
         assertEquals("Salary", response.getSource());
     }
 
     @Test
     void testGetAllIncomesByUser_WithDateRange() {
-        when(incomeRepository.findByUserIdAndDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
-                .thenReturn(List.of(income));
+        when(incomeRepository.findResponsesByUserIdAndDateBetween(1L, LocalDate.now().minusDays(1), LocalDate.now()))
+                .thenReturn(List.of(incomeResponse));
 
         List<IncomeResponse> responses = incomeService.getAllIncomesByUser(1L, LocalDate.now().minusDays(1), LocalDate.now());
         assertEquals(1, responses.size());
@@ -141,11 +164,22 @@ public class IncomeServiceImplTest {
 
     @Test
     void testGetAllIncomesByUser_WithoutDateRange() {
-        when(incomeRepository.findByUserId(1L)).thenReturn(List.of(income));
+        when(incomeRepository.findResponsesByUserId(1L)).thenReturn(List.of(incomeResponse));
 
         List<IncomeResponse> responses = incomeService.getAllIncomesByUser(1L, null, null);
         assertEquals(1, responses.size());
     }
 
+    @Test
+    void testGetIncomesPageByUser_LastPage() {
+        when(incomeRepository.findPageByUserId(1L, LocalDate.now().minusDays(1), LocalDate.now(), PageCursor.MAX_DATE,
+                Long.MAX_VALUE, PageRequest.of(0, 11))).thenReturn(List.of(incomeResponse));
+
+        CursorPage<IncomeResponse> page = incomeService.getIncomesPageByUser(1L, LocalDate.now().minusDays(1), LocalDate.now(), null, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
 
 }
@@ -0,0 +1,161 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
+import com.monexel.expensetracker.jwtutils.JwtAuthEntryPointJwt;
+import com.monexel.expensetracker.jwtutils.JwtUtils;
+import com.monexel.expensetracker.jwtutils.TokenRevocationRegistry;
+import com.monexel.expensetracker.repository.UserRepository;
+
+import io.jsonwebtoken.Jwts;
+
+public class JwtAuthEntryPointJwtTest {
+
+	@Spy
+	private JwtUtils jwtUtils = new JwtUtils();
+
+	@Spy
+	private TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry();
+
+	@Mock
+	private UserDetailsService userDetailsService;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@InjectMocks
+	private JwtAuthEntryPointJwt filter;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(filter, "statelessAuth", true);
+		ReflectionTestUtils.setField(tokenRevocationRegistry, "userDetailsService", userDetailsService);
+		ReflectionTestUtils.setField(tokenRevocationRegistry, "userRepository", userRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void testStatelessAuth_BuildsPrincipalFromClaims() throws Exception {
+		storedUser("ADMIN", 0);
+
+		filter(jwtUtils.generateTokenFromUsername("john@example.com", 1L, "ADMIN", 0));
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+		assertEquals(1L, principal.getId());
+		assertEquals("john@example.com", principal.getUsername());
+		assertNull(principal.getPassword());
+		assertTrue(authentication.getAuthorities().stream()
+				.anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")));
+		verify(userDetailsService, times(1)).loadUserByUsername("john@example.com");
+	}
+
+	@Test
+	void testStatelessAuth_IgnoresRevokedToken() throws Exception {
+		String token = jwtUtils.generateTokenFromUsername("john@example.com", 1L, "USER", 0);
+		tokenRevocationRegistry.revokeTokens(1L);
+		verify(userRepository, times(1)).incrementTokenVersion(1L);
+		storedUser("USER", 1);
+
+		filter(token);
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	@Test
+	void testStatelessAuth_AcceptsTokenIssuedRightAfterRevocation() throws Exception {
+		storedUser("USER", 1);
+
+		filter(jwtUtils.generateTokenFromUsername("john@example.com", 1L, "USER", 1));
+
+		assertEquals("john@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+	}
+
+	@Test
+	void testStatelessAuth_IgnoresTokenOfDeletedUser() throws Exception {
+		when(userDetailsService.loadUserByUsername("john@example.com"))
+				.thenThrow(new UsernameNotFoundException("User not found"));
+
+		filter(jwtUtils.generateTokenFromUsername("john@example.com", 1L, "USER", 0));
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	@Test
+	void testStatelessAuth_IgnoresTokenOfReplacedUser() throws Exception {
+		when(userDetailsService.loadUserByUsername("john@example.com"))
+				.thenReturn(new AuthenticatedUser(2L, "john@example.com", "encodedPass", "USER", 0));
+
+		filter(jwtUtils.generateTokenFromUsername("john@example.com", 1L, "USER", 0));
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	@Test
+	void testTokenWithoutClaims_FallsBackToUserDetailsService() throws Exception {
+		SecretKey key = (SecretKey) ReflectionTestUtils.getField(jwtUtils, "key");
+		String token = Jwts.builder().subject("john@example.com").issuedAt(new Date())
+				.expiration(new Date(System.currentTimeMillis() + 60000)).signWith(key).compact();
+		storedUser("USER", 0);
+
+		filter(token);
+
+		assertEquals("john@example.com", SecurityContextHolder.getContext().getAuthentication().getName());
+		verify(userDetailsService, times(2)).loadUserByUsername("john@example.com");
+	}
+
+	@Test
+	void testStatelessAuthDisabled_LoadsUser() throws Exception {
+		ReflectionTestUtils.setField(filter, "statelessAuth", false);
+		storedUser("USER", 0);
+
+		filter(jwtUtils.generateTokenFromUsername("john@example.com", 1L, "USER", 0));
+
+		assertEquals("encodedPass",
+				((AuthenticatedUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+						.getPassword());
+	}
+
+	private void storedUser(String role, long tokenVersion) {
+		when(userDetailsService.loadUserByUsername("john@example.com"))
+				.thenReturn(new AuthenticatedUser(1L, "john@example.com", "encodedPass", role, tokenVersion));
+	}
+
+	private void filter(String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + token);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.monexel.expensetracker.jwtutils.JwtUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Tests token verification in {@link JwtUtils}.
+ */
+public class JwtUtilsTest {
+
+	private final JwtUtils jwtUtils = new JwtUtils();
+
+	@Test
+	void testParseClaims_ValidToken() {
+		String token = jwtUtils.generateTokenFromUsername("hari@example.com", 7L, "USER", 3);
+
+		Optional<Claims> claims = jwtUtils.parseClaims(token);
+
+		assertTrue(claims.isPresent());
+		assertEquals("hari@example.com", claims.get().getSubject());
+		assertEquals(7L, claims.get().get(JwtUtils.CLAIM_USER_ID, Long.class));
+		assertEquals("USER", claims.get().get(JwtUtils.CLAIM_ROLE, String.class));
+		assertEquals(3L, claims.get().get(JwtUtils.CLAIM_TOKEN_VERSION, Long.class));
+	}
+
+	@Test
+	void testParseClaims_InvalidTokens() {
+		String token = jwtUtils.generateTokenFromUsername("hari@example.com", 7L, "USER", 0);
+		SecretKey otherKey = Keys.hmacShaKeyFor("anotherSecretKey0123456789abcdefghijklmnopqrstuvwxyz".getBytes());
+		String expired = Jwts.builder().subject("hari@example.com")
+				.expiration(new Date(System.currentTimeMillis() - 1000)).signWith(key()).compact();
+
+		assertTrue(jwtUtils.parseClaims(null).isEmpty());
+		assertTrue(jwtUtils.parseClaims("").isEmpty());
+		assertTrue(jwtUtils.parseClaims("not-a-token").isEmpty());
+		assertTrue(jwtUtils.parseClaims(token.substring(0, token.length() - 2)).isEmpty());
+		assertTrue(jwtUtils.parseClaims(expired).isEmpty());
+		assertTrue(jwtUtils
+				.parseClaims(Jwts.builder().subject("hari@example.com").signWith(otherKey).compact()).isEmpty());
+	}
+
+	private SecretKey key() {
+		return (SecretKey) ReflectionTestUtils.getField(jwtUtils, "key");
+	}
+
+}
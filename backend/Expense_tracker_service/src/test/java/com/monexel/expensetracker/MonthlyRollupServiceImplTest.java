@@ -0,0 +1,127 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.monexel.expensetracker.entity.LedgerKind;
+import com.monexel.expensetracker.entity.MonthlyRollup;
+import com.monexel.expensetracker.entity.MonthlyRollupId;
+import com.monexel.expensetracker.projection.MonthlyCategoryTotal;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.MonthlyRollupRepository;
+import com.monexel.expensetracker.service.MonthlyRollupServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class MonthlyRollupServiceImplTest {
+
+	@Mock
+	private MonthlyRollupRepository monthlyRollupRepository;
+
+	@Mock
+	private IncomeRepository incomeRepository;
+
+	@Mock
+	private ExpenseRepository expenseRepository;
+
+	@Mock
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	@InjectMocks
+	private MonthlyRollupServiceImpl monthlyRollupService;
+
+	private final MonthlyRollupId novemberFood = new MonthlyRollupId(1L, 202511, LedgerKind.EXPENSE, 3L);
+
+	@Test
+	void testRecord_CreatesMissingRollup() {
+		when(monthlyRollupRepository.findById(novemberFood)).thenReturn(Optional.empty());
+
+		monthlyRollupService.record(1L, LedgerKind.EXPENSE, 3L, LocalDate.of(2025, 11, 14), BigDecimal.valueOf(250), 1);
+
+		ArgumentCaptor<MonthlyRollup> saved = ArgumentCaptor.forClass(MonthlyRollup.class);
+		verify(monthlyRollupRepository).save(saved.capture());
+		assertEquals(novemberFood, saved.getValue().getId());
+		assertEquals(BigDecimal.valueOf(250), saved.getValue().getTotalAmount());
+		assertEquals(1, saved.getValue().getEntryCount());
+	}
+
+	@Test
+	void testRecord_RemovesEmptiedRollup() {
+		MonthlyRollup rollup = new MonthlyRollup(novemberFood);
+		rollup.setTotalAmount(BigDecimal.valueOf(250));
+		rollup.setEntryCount(1);
+		rollup.setVersion(0L);
+		when(monthlyRollupRepository.findById(novemberFood)).thenReturn(Optional.of(rollup));
+
+		monthlyRollupService.record(1L, LedgerKind.EXPENSE, 3L, LocalDate.of(2025, 11, 14), BigDecimal.valueOf(-250), -1);
+
+		verify(monthlyRollupRepository).delete(rollup);
+		verify(monthlyRollupRepository, never()).save(any(MonthlyRollup.class));
+	}
+
+	@Test
+	void testRecordUpdate_SameMonthAppliesDifference() {
+		MonthlyRollup rollup = new MonthlyRollup(novemberFood);
+		rollup.setTotalAmount(BigDecimal.valueOf(250));
+		rollup.setEntryCount(1);
+		when(monthlyRollupRepository.findById(novemberFood)).thenReturn(Optional.of(rollup));
+
+		monthlyRollupService.recordUpdate(1L, LedgerKind.EXPENSE, 3L, LocalDate.of(2025, 11, 14),
+				BigDecimal.valueOf(250), 3L, LocalDate.of(2025, 11, 20), BigDecimal.valueOf(300));
+
+		assertEquals(BigDecimal.valueOf(300), rollup.getTotalAmount());
+		assertEquals(1, rollup.getEntryCount());
+		verify(monthlyRollupRepository, times(1)).findById(any());
+	}
+
+	@Test
+	void testSumMonths_EncodesMonthRange() {
+		when(monthlyRollupRepository.sumTotalAmount(1L, LedgerKind.INCOME, 202501, 202512))
+				.thenReturn(BigDecimal.valueOf(60000));
+
+		assertEquals(BigDecimal.valueOf(60000), monthlyRollupService.sumMonths(1L, LedgerKind.INCOME,
+				YearMonth.of(2025, 1), YearMonth.of(2025, 12)));
+	}
+
+	@Test
+	void testRebuild_ReplacesRollupsFromGroupedSums() {
+		MonthlyCategoryTotal total = new MonthlyCategoryTotal() {
+			public Integer getYearMonth() { return 202511; }
+			public BigDecimal getTotal() { return BigDecimal.valueOf(900); }
+			public Long getEntryCount() { return 4L; }
+			public Long getCategoryId() { return 3L; }
+		};
+		when(incomeRepository.sumMonthlyByUserId(1L)).thenReturn(List.of());
+		when(expenseRepository.sumMonthlyByUserIdAndCategory(1L)).thenReturn(List.of(total));
+		when(borrowedMoneyRepository.sumMonthlyByUserId(1L)).thenReturn(List.of());
+
+		monthlyRollupService.rebuild(1L);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<MonthlyRollup>> saved = ArgumentCaptor.forClass(List.class);
+		verify(monthlyRollupRepository).deleteByUserId(1L);
+		verify(monthlyRollupRepository).saveAll(saved.capture());
+		assertEquals(1, saved.getValue().size());
+		assertEquals(novemberFood, saved.getValue().get(0).getId());
+		assertEquals(4L, saved.getValue().get(0).getEntryCount());
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.monexel.expensetracker.jwtutils.AuthenticatedUser;
+import com.monexel.expensetracker.jwtutils.RateLimitFilter;
+import com.monexel.expensetracker.jwtutils.RateLimitGroup;
+import com.monexel.expensetracker.jwtutils.TokenBucket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RateLimitFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// auth: 2 per IP, bulk: 1, default: 3, all refilling once a minute
+	private final RateLimitFilter filter = new RateLimitFilter(true, 2, 1, 1, 1, 3, 1, 1000, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void testDefaultGroup_RejectsBeyondCapacityPerUser() throws Exception {
+		authenticate(1L);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(200, send("/api/expenses/getAllExpensesByUser/1", "10.0.0.1").getStatus());
+		}
+
+		MockHttpServletResponse rejected = send("/api/expenses/getAllExpensesByUser/1", "10.0.0.1");
+
+		assertEquals(429, rejected.getStatus());
+		assertEquals("60", rejected.getHeader("Retry-After"));
+		assertTrue(rejected.getContentAsString().contains("\"status\":false"));
+		assertEquals(1.0, meterRegistry.counter("rate.limit.rejections", "group", "default", "scope", "user").count());
+
+		// Another user from the same address has a budget of their own
+		authenticate(2L);
+		assertEquals(200, send("/api/expenses/getAllExpensesByUser/2", "10.0.0.1").getStatus());
+	}
+
+	@Test
+	void testAuthGroup_LimitedPerIp() throws Exception {
+		assertEquals(200, send("/api/users/signin", "10.0.0.1").getStatus());
+		assertEquals(200, send("/api/users/signin", "10.0.0.1").getStatus());
+		assertEquals(429, send("/api/users/signin", "10.0.0.1").getStatus());
+		assertEquals(200, send("/api/users/signin", "10.0.0.2").getStatus());
+
+		assertEquals(1.0, meterRegistry.counter("rate.limit.rejections", "group", "auth", "scope", "ip").count());
+	}
+
+	@Test
+	void testGroups_HaveSeparateBudgets() throws Exception {
+		authenticate(1L);
+		assertEquals(200, send("/api/export/getTransactions/1", "10.0.0.1").getStatus());
+		assertEquals(429, send("/api/export/getTransactions/1", "10.0.0.1").getStatus());
+		assertEquals(200, send("/api/expenses/getExpenseById/5", "10.0.0.1").getStatus());
+	}
+
+	@Test
+	void testNonApiPaths_NotLimited() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			assertEquals(200, send("/swagger-ui/index.html", "10.0.0.1").getStatus());
+		}
+	}
+
+	@Test
+	void testRateLimitGroup_Of() {
+		assertEquals(RateLimitGroup.AUTH, RateLimitGroup.of("/api/users/forgot-password"));
+		assertEquals(RateLimitGroup.BULK, RateLimitGroup.of("/api/import/importStatement/1"));
+		assertEquals(RateLimitGroup.DEFAULT, RateLimitGroup.of("/api/import/getImportJob/1"));
+		assertEquals(RateLimitGroup.BULK, RateLimitGroup.of("/api/expenses/addExpenses"));
+		assertEquals(RateLimitGroup.DEFAULT, RateLimitGroup.of("/api/expenses/addExpense"));
+	}
+
+	@Test
+	void testTokenBucket_RefillsOverTime() {
+		long start = 1_000L;
+		long second = TimeUnit.SECONDS.toNanos(1);
+		// 2 tokens, one every 30 seconds
+		TokenBucket bucket = new TokenBucket(2, 2, start);
+
+		assertEquals(0, bucket.tryConsume(start));
+		assertEquals(0, bucket.tryConsume(start));
+		assertEquals(30 * second, bucket.tryConsume(start));
+		assertEquals(20 * second, bucket.tryConsume(start + 10 * second));
+		assertEquals(0, bucket.tryConsume(start + 30 * second));
+		assertTrue(bucket.tryConsume(start + 30 * second) > 0);
+
+		// Idle time beyond a full refill does not add tokens past the capacity
+		long later = start + 10 * 60 * second;
+		assertEquals(0, bucket.tryConsume(later));
+		assertEquals(0, bucket.tryConsume(later));
+		assertTrue(bucket.tryConsume(later) > 0);
+	}
+
+	private void authenticate(Long userId) {
+		AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", null, "USER", 0);
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+
+	private MockHttpServletResponse send(String path, String remoteAddr) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setServletPath(path);
+		request.setRemoteAddr(remoteAddr);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+		if (response.getStatus() == 200) {
+			assertNotNull(chain.getRequest());
+		} else {
+			assertNull(chain.getRequest());
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.monexel.expensetracker.config.SchemaIndexVerifier;
+
+public class SchemaIndexVerifierTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	@Test
+	void testAfterSingletonsInstantiated_AllIndexesPresent() {
+		onDatabase("PostgreSQL", SchemaIndexVerifier.EXPECTED_INDEXES);
+
+		assertDoesNotThrow(() -> new SchemaIndexVerifier(jdbcTemplate, true).afterSingletonsInstantiated());
+	}
+
+	@Test
+	void testAfterSingletonsInstantiated_FailsOnMissingIndex() {
+		List<String> present = new ArrayList<>(SchemaIndexVerifier.EXPECTED_INDEXES);
+		present.remove("idx_income_user_date");
+		present.add("income_pkey");
+		onDatabase("PostgreSQL", present);
+
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+				() -> new SchemaIndexVerifier(jdbcTemplate, true).afterSingletonsInstantiated());
+		assertTrue(e.getMessage().contains("idx_income_user_date"));
+	}
+
+	@Test
+	void testAfterSingletonsInstantiated_SkipsOtherDatabases() {
+		onDatabase("H2", List.of());
+
+		new SchemaIndexVerifier(jdbcTemplate, true).afterSingletonsInstantiated();
+
+		verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+	}
+
+	@Test
+	void testMigrations_CreateEveryExpectedIndex() throws Exception {
+		StringBuilder scripts = new StringBuilder();
+		for (Resource script : new PathMatchingResourcePatternResolver()
+				.getResources("classpath:db/migration/postgresql/*.sql")) {
+			scripts.append(script.getContentAsString(StandardCharsets.UTF_8).toLowerCase(Locale.ROOT));
+		}
+
+		for (String index : SchemaIndexVerifier.EXPECTED_INDEXES) {
+			assertTrue(scripts.indexOf("if not exists " + index + "\n") >= 0, index + " is not created");
+		}
+		assertEquals(SchemaIndexVerifier.EXPECTED_INDEXES.size(),
+				scripts.toString().split("create index ", -1).length - 1);
+	}
+
+	@Test
+	void testBaselineMigration_KeepsExistingObjects() throws Exception {
+		String script = new PathMatchingResourcePatternResolver()
+				.getResource("classpath:db/migration/postgresql/V1__baseline_schema.sql")
+				.getContentAsString(StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+
+		for (String object : List.of("table", "sequence")) {
+			assertEquals(script.split("create " + object + " ", -1).length,
+					script.split("create " + object + " if not exists ", -1).length, object);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void onDatabase(String product, List<String> indexes) {
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+		when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(indexes);
+	}
+
+}
@@ -0,0 +1,227 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.exception.APIException;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.response.CursorPage;
+import com.monexel.expensetracker.response.SearchResultResponse;
+import com.monexel.expensetracker.service.SearchServiceImpl;
+
+/**
+ * Runs the transaction search against an in-memory database, which uses the
+ * substring fallback instead of PostgreSQL full-text search.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:search;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SearchServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SearchServiceImplTest {
+
+	@Autowired
+	private SearchServiceImpl searchService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	private User user;
+	private User other;
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		borrowedMoneyRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = saveUser("Hari", "hari@example.com", "9876543210");
+		other = saveUser("Ravi", "ravi@example.com", "9876543211");
+
+		category = new Category();
+		category.setName("Food");
+		category = categoryRepository.save(category);
+	}
+
+	@Test
+	void testSearchTransactions_MatchesAllKinds() {
+		saveExpense(user, "Coffee with Kumar", "150", LocalDate.of(2025, 11, 1));
+		saveIncome(user, "Freelance", "Logo for Kumar", "3000", LocalDate.of(2025, 11, 2));
+		saveBorrowed(user, "Kumar", "500", LocalDate.of(2025, 11, 3));
+		saveExpense(user, "Groceries", "900", LocalDate.of(2025, 11, 4));
+
+		List<SearchResultResponse> items = search("kumar", null, null, null, null).getItems();
+
+		assertEquals(3, items.size());
+		assertEquals("BORROWED", items.get(0).getType());
+		assertEquals("Kumar", items.get(0).getTitle());
+		assertEquals("INCOME", items.get(1).getType());
+		assertEquals("Freelance", items.get(1).getTitle());
+		assertEquals("Logo for Kumar", items.get(1).getDescription());
+		assertEquals("EXPENSE", items.get(2).getType());
+		assertNull(items.get(2).getDescription());
+	}
+
+	@Test
+	void testSearchTransactions_RequiresEveryWord() {
+		saveExpense(user, "Coffee with Kumar", "150", LocalDate.of(2025, 11, 1));
+		saveExpense(user, "Coffee beans", "400", LocalDate.of(2025, 11, 2));
+
+		List<SearchResultResponse> items = search("KUM coffee", null, null, null, null).getItems();
+
+		assertEquals(1, items.size());
+		assertEquals("Coffee with Kumar", items.get(0).getTitle());
+	}
+
+	@Test
+	void testSearchTransactions_ScopedToUser() {
+		saveExpense(other, "Coffee", "150", LocalDate.of(2025, 11, 1));
+
+		CursorPage<SearchResultResponse> page = search("coffee", null, null, null, null);
+
+		assertTrue(page.getItems().isEmpty());
+		assertFalse(page.isHasMore());
+	}
+
+	@Test
+	void testSearchTransactions_DateAndAmountFilters() {
+		saveExpense(user, "Coffee", "50", LocalDate.of(2025, 10, 31));
+		saveExpense(user, "Coffee", "150", LocalDate.of(2025, 11, 1));
+		saveExpense(user, "Coffee", "450", LocalDate.of(2025, 11, 2));
+		saveExpense(user, "Coffee", "250", LocalDate.of(2025, 12, 1));
+
+		List<SearchResultResponse> items = search("coffee", LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30),
+				new BigDecimal("100"), new BigDecimal("450")).getItems();
+
+		assertEquals(2, items.size());
+		assertEquals(LocalDate.of(2025, 11, 2), items.get(0).getDate());
+		assertEquals(LocalDate.of(2025, 11, 1), items.get(1).getDate());
+	}
+
+	@Test
+	void testSearchTransactions_PagesThroughResults() {
+		for (int day = 1; day <= 5; day++) {
+			saveExpense(user, "Coffee", "100", LocalDate.of(2025, 11, day));
+		}
+
+		CursorPage<SearchResultResponse> first = searchService.searchTransactions(user.getId(), "coffee", null, null,
+				null, null, null, 2);
+		CursorPage<SearchResultResponse> second = searchService.searchTransactions(user.getId(), "coffee", null,
+				null, null, null, first.getNextCursor(), 2);
+		CursorPage<SearchResultResponse> last = searchService.searchTransactions(user.getId(), "coffee", null, null,
+				null, null, second.getNextCursor(), 2);
+
+		assertTrue(first.isHasMore());
+		assertEquals(LocalDate.of(2025, 11, 5), first.getItems().get(0).getDate());
+		assertEquals(LocalDate.of(2025, 11, 3), second.getItems().get(0).getDate());
+		assertEquals(1, last.getItems().size());
+		assertFalse(last.isHasMore());
+		assertNull(last.getNextCursor());
+	}
+
+	@Test
+	void testSearchTransactions_InvalidInput() {
+		assertThrows(APIException.class, () -> search(" -- ", null, null, null, null));
+		assertThrows(APIException.class,
+				() -> searchService.searchTransactions(user.getId(), "coffee", null, null, null, null, "@@", 10));
+	}
+
+	@Test
+	void testSearchTransactions_UserNotFound() {
+		assertThrows(ResourceNotFoundException.class, () -> searchService
+				.searchTransactions(other.getId() + 1, "coffee", null, null, null, null, null, null));
+	}
+
+	private CursorPage<SearchResultResponse> search(String query, LocalDate startDate, LocalDate endDate,
+			BigDecimal minAmount, BigDecimal maxAmount) {
+		return searchService.searchTransactions(user.getId(), query, startDate, endDate, minAmount, maxAmount, null,
+				null);
+	}
+
+	private User saveUser(String name, String email, String phoneNumber) {
+		User saved = new User();
+		saved.setName(name);
+		saved.setEmail(email);
+		saved.setPassword("secret123");
+		saved.setPhoneNumber(phoneNumber);
+		return userRepository.save(saved);
+	}
+
+	private void saveExpense(User owner, String title, String amount, LocalDate date) {
+		Expense expense = new Expense();
+		expense.setTitle(title);
+		expense.setAmount(new BigDecimal(amount));
+		expense.setDate(date);
+		expense.setCategory(category);
+		expense.setUser(owner);
+		expenseRepository.save(expense);
+	}
+
+	private void saveIncome(User owner, String source, String description, String amount, LocalDate date) {
+		Income income = new Income();
+		income.setSource(source);
+		income.setDescription(description);
+		income.setAmount(new BigDecimal(amount));
+		income.setDate(date);
+		income.setUser(owner);
+		incomeRepository.save(income);
+	}
+
+	private void saveBorrowed(User owner, String lender, String amount, LocalDate date) {
+		BorrowedMoney borrowed = new BorrowedMoney();
+		borrowed.setBorrowedFrom(lender);
+		borrowed.setAmount(new BigDecimal(amount));
+		borrowed.setBorrowedDate(date);
+		borrowed.setDueDate(date.plusDays(30));
+		borrowed.setUser(owner);
+		borrowedMoneyRepository.save(borrowed);
+	}
+
+}
@@ -0,0 +1,162 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.controller.UserController;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.jwtutils.JwtUtils;
+import com.monexel.expensetracker.jwtutils.TokenRevocationRegistry;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.LoginRequest;
+import com.monexel.expensetracker.response.LoginResponse;
+import com.monexel.expensetracker.service.CustomUserDetailsService;
+import com.monexel.expensetracker.service.UserDetailsCache;
+import com.monexel.expensetracker.service.UserServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of JDBC statements of a sign-in, which must read the user
+ * exactly once.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:signin;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ UserController.class, UserServiceImpl.class, CustomUserDetailsService.class, UserDetailsCache.class,
+		TokenRevocationRegistry.class, JwtUtils.class, SignInStatementCountTest.SecurityBeans.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SignInStatementCountTest {
+
+	@Autowired
+	private UserController userController;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserDetailsCache userDetailsCache;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword(passwordEncoder.encode("secret123"));
+		user.setPhoneNumber("9876543210");
+		user.setRole("USER");
+		user = userRepository.save(user);
+		userDetailsCache.evict(user.getEmail());
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void testLogin_ReadsUserOnce() {
+		ResponseEntity<?> response = userController.login(loginRequest("secret123"));
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		LoginResponse body = (LoginResponse) response.getBody();
+		assertEquals(user.getId(), body.getId());
+		assertEquals(user.getId(),
+				jwtUtils.parseClaims(body.getJwt()).orElseThrow().get(JwtUtils.CLAIM_USER_ID, Long.class));
+		assertNotNull(response.getHeaders().getFirst("Set-Cookie"));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void testLogin_RepeatedLoginServedFromCache() {
+		userController.login(loginRequest("secret123"));
+		statistics.clear();
+
+		ResponseEntity<?> response = userController.login(loginRequest("secret123"));
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertEquals(0, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void testLogin_WrongPassword() {
+		ResponseEntity<?> response = userController.login(loginRequest("wrong-password"));
+
+		assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	private LoginRequest loginRequest(String password) {
+		LoginRequest request = new LoginRequest();
+		request.setEmail("hari@example.com");
+		request.setPassword(password);
+		return request;
+	}
+
+	@TestConfiguration
+	static class SecurityBeans {
+
+		@Bean
+		PasswordEncoder passwordEncoder() {
+			return new BCryptPasswordEncoder(4);
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
+				PasswordEncoder passwordEncoder) {
+			DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+			provider.setPasswordEncoder(passwordEncoder);
+			return new ProviderManager(provider);
+		}
+
+	}
+
+}
@@ -0,0 +1,261 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.monexel.expensetracker.entity.BorrowedMoney;
+import com.monexel.expensetracker.entity.Category;
+import com.monexel.expensetracker.entity.Expense;
+import com.monexel.expensetracker.entity.Income;
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.CategoryRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.MonthlyRollupRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.request.ExpenseRequest;
+import com.monexel.expensetracker.service.BorrowedMoneyServiceImpl;
+import com.monexel.expensetracker.service.CategoryCatalog;
+import com.monexel.expensetracker.service.CategorySuggestionIndex;
+import com.monexel.expensetracker.service.CategoryServiceImpl;
+import com.monexel.expensetracker.service.ExpenseServiceImpl;
+import com.monexel.expensetracker.service.IncomeServiceImpl;
+import com.monexel.expensetracker.service.MonthlyRollupServiceImpl;
+import com.monexel.expensetracker.service.UserBalanceServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Pins the number of JDBC statements each service method issues, using
+ * Hibernate statistics, so that an eager association or N+1 select creeping
+ * back in fails the build.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:statements;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ ExpenseServiceImpl.class, IncomeServiceImpl.class, BorrowedMoneyServiceImpl.class,
+		CategoryServiceImpl.class, CategoryCatalog.class, CategorySuggestionIndex.class, UserBalanceServiceImpl.class,
+		MonthlyRollupServiceImpl.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class StatementCountTest {
+
+	@Autowired
+	private ExpenseServiceImpl expenseService;
+
+	@Autowired
+	private IncomeServiceImpl incomeService;
+
+	@Autowired
+	private BorrowedMoneyServiceImpl borrowedMoneyService;
+
+	@Autowired
+	private CategoryServiceImpl categoryService;
+
+	@Autowired
+	private UserBalanceServiceImpl userBalanceService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ExpenseRepository expenseRepository;
+
+	@Autowired
+	private IncomeRepository incomeRepository;
+
+	@Autowired
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	@Autowired
+	private UserBalanceRepository userBalanceRepository;
+
+	@Autowired
+	private MonthlyRollupRepository monthlyRollupRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private User user;
+	private Category category;
+	private Long incomeId;
+	private Long borrowedMoneyId;
+	private Long expenseId;
+
+	@BeforeEach
+	void setUp() {
+		expenseRepository.deleteAll();
+		incomeRepository.deleteAll();
+		borrowedMoneyRepository.deleteAll();
+		monthlyRollupRepository.deleteAll();
+		userBalanceRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+
+		user = new User();
+		user.setName("Hari");
+		user.setEmail("hari@example.com");
+		user.setPassword("secret123");
+		user.setPhoneNumber("9876543210");
+		user = userRepository.save(user);
+
+		category = new Category();
+		category.setName("Food");
+		category.setCreatedByUser(user);
+		category = categoryRepository.save(category);
+
+		Income income = new Income();
+		income.setSource("Salary");
+		income.setDescription("Monthly salary");
+		income.setAmount(BigDecimal.valueOf(1000));
+		income.setDate(LocalDate.now());
+		income.setUser(user);
+		incomeId = incomeRepository.save(income).getId();
+
+		BorrowedMoney borrowed = new BorrowedMoney();
+		borrowed.setBorrowedFrom("Hari");
+		borrowed.setAmount(BigDecimal.valueOf(500));
+		borrowed.setBorrowedDate(LocalDate.now());
+		borrowed.setDueDate(LocalDate.now().plusDays(30));
+		borrowed.setUser(user);
+		borrowedMoneyId = borrowedMoneyRepository.save(borrowed).getId();
+
+		// Seeds the ledger row and the monthly rollups
+		userBalanceService.getNetBalance(user.getId());
+		expenseId = expenseService.addExpense(expenseRequest(BigDecimal.valueOf(100))).getId();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void testReadsIssueOneStatement() {
+		expenseService.getExpenseById(expenseId);
+		assertStatements(1);
+
+		expenseService.getAllExpensesByUser(user.getId(), LocalDate.now().minusDays(1), LocalDate.now());
+		assertStatements(1);
+
+		expenseService.getExpensesPageByUser(user.getId(), null, null, null, 10);
+		assertStatements(1);
+
+		incomeService.getIncomeById(incomeId);
+		assertStatements(1);
+
+		incomeService.getAllIncomesByUser(user.getId(), null, null);
+		assertStatements(1);
+
+		borrowedMoneyService.getBorrowedMoneyById(borrowedMoneyId);
+		assertStatements(1);
+
+		borrowedMoneyService.getAllBorrowedMoneyByUser(user.getId(), null, null);
+		assertStatements(1);
+	}
+
+	@Test
+	void testCategoryReads_ServedFromCatalog() {
+		categoryService.getCategoryById(category.getId());
+		categoryService.getAllCategories();
+		categoryService.getCustomCategoriesByUser(user.getId());
+		assertStatements(0);
+	}
+
+	@Test
+	void testFindById_LeavesAssociationsUnloaded() {
+		Expense expense = expenseRepository.findById(expenseId).orElseThrow();
+
+		assertStatements(1);
+		assertFalse(Hibernate.isInitialized(expense.getUser()));
+		assertFalse(Hibernate.isInitialized(expense.getCategory()));
+		assertEquals(user.getId(), expense.getUser().getId());
+	}
+
+	@Test
+	void testFindByUserId_FetchesCategoryInSameStatement() {
+		expenseService.addExpense(expenseRequest(BigDecimal.valueOf(50)));
+		statistics.clear();
+
+		List<Expense> expenses = expenseRepository.findByUserId(user.getId());
+
+		assertStatements(1);
+		assertEquals(2, expenses.size());
+		for (Expense expense : expenses) {
+			assertTrue(Hibernate.isInitialized(expense.getCategory()));
+			assertFalse(Hibernate.isInitialized(expense.getUser()));
+		}
+	}
+
+	@Test
+	void testAddExpense_Statements() {
+		expenseService.addExpense(expenseRequest(BigDecimal.valueOf(50)));
+
+		// user, ledger lock for the funds check, ledger lock for the delta,
+		// rollup read, expense insert, ledger update, rollup update; the
+		// category comes from the catalog
+		assertStatements(7);
+	}
+
+	@Test
+	void testUpdateExpense_Statements() {
+		expenseService.updateExpense(expenseId, expenseRequest(BigDecimal.valueOf(80)));
+
+		// expense lock, ledger lock, rollup read, then updates of the ledger, the
+		// rollup and the expense
+		assertStatements(6);
+	}
+
+	@Test
+	void testDeleteExpense_Statements() {
+		expenseService.deleteExpense(expenseId);
+
+		// expense lock, ledger lock, rollup read, ledger update, rollup delete,
+		// expense delete
+		assertStatements(6);
+	}
+
+	private void assertStatements(long expected) {
+		assertEquals(expected, statistics.getPrepareStatementCount());
+		statistics.clear();
+	}
+
+	private ExpenseRequest expenseRequest(BigDecimal amount) {
+		ExpenseRequest request = new ExpenseRequest();
+		request.setUserId(user.getId());
+		request.setCategoryId(category.getId());
+		request.setTitle("Lunch");
+		request.setAmount(amount);
+		request.setDate(LocalDate.now());
+		return request;
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.monexel.expensetracker;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.monexel.expensetracker.entity.User;
+import com.monexel.expensetracker.entity.UserBalance;
+import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.repository.BorrowedMoneyRepository;
+import com.monexel.expensetracker.repository.ExpenseRepository;
+import com.monexel.expensetracker.repository.IncomeRepository;
+import com.monexel.expensetracker.repository.UserBalanceRepository;
+import com.monexel.expensetracker.repository.UserRepository;
+import com.monexel.expensetracker.response.BalanceDriftReport;
+import com.monexel.expensetracker.service.MonthlyRollupService;
+import com.monexel.expensetracker.service.UserBalanceServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class UserBalanceServiceImplTest {
+
+	@Mock
+	private UserBalanceRepository userBalanceRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private IncomeRepository incomeRepository;
+
+	@Mock
+	private ExpenseRepository expenseRepository;
+
+	@Mock
+	private BorrowedMoneyRepository borrowedMoneyRepository;
+
+	@Mock
+	private MonthlyRollupService monthlyRollupService;
+
+	@InjectMocks
+	private UserBalanceServiceImpl userBalanceService;
+
+	private UserBalance balance;
+
+	@BeforeEach
+	void setUp() {
+		balance = new UserBalance(1L);
+		balance.setTotalIncome(BigDecimal.valueOf(5000));
+		balance.setTotalExpense(BigDecimal.valueOf(2000));
+		balance.setTotalBorrowed(BigDecimal.valueOf(1000));
+	}
+
+	@Test
+	void testGetNetBalance_ExistingLedger() {
+		when(userBalanceRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(balance));
+
+		assertEquals(BigDecimal.valueOf(4000), userBalanceService.getNetBalance(1L));
+		verify(incomeRepository, never()).sumAmountByUserId(any());
+	}
+
+	@Test
+	void testGetBalance_SeedsMissingLedger() {
+		when(userBalanceRepository.findById(1L)).thenReturn(Optional.empty());
+		when(userBalanceRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.empty());
+		when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(new User()));
+		when(incomeRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(300));
+		when(expenseRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(100));
+		when(borrowedMoneyRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.ZERO);
+		when(userBalanceRepository.save(any(UserBalance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		UserBalance seeded = userBalanceService.getBalance(1L);
+
+		assertEquals(BigDecimal.valueOf(300), seeded.getTotalIncome());
+		assertEquals(BigDecimal.valueOf(100), seeded.getTotalExpense());
+		verify(userBalanceRepository, times(1)).save(any(UserBalance.class));
+		verify(monthlyRollupService, times(1)).rebuild(1L);
+	}
+
+	@Test
+	void testApplyDeltas() {
+		when(userBalanceRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(balance));
+
+		userBalanceService.applyIncomeDelta(1L, BigDecimal.valueOf(500));
+		userBalanceService.applyExpenseDelta(1L, BigDecimal.valueOf(-200));
+		userBalanceService.applyBorrowedDelta(1L, BigDecimal.valueOf(100));
+
+		assertEquals(BigDecimal.valueOf(5500), balance.getTotalIncome());
+		assertEquals(BigDecimal.valueOf(1800), balance.getTotalExpense());
+		assertEquals(BigDecimal.valueOf(1100), balance.getTotalBorrowed());
+	}
+
+	@Test
+	void testReconcile_NoDrift() {
+		when(userBalanceRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(balance));
+		when(incomeRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(5000));
+		when(expenseRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(2000));
+		when(borrowedMoneyRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(1000));
+
+		assertTrue(userBalanceService.reconcile(1L).isEmpty());
+		verify(monthlyRollupService, times(1)).rebuild(1L);
+	}
+
+	@Test
+	void testReconcile_RepairsDrift() {
+		when(userBalanceRepository.findByUserIdForUpdate(1L)).thenReturn(Optional.of(balance));
+		when(incomeRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(5000));
+		when(expenseRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(2500));
+		when(borrowedMoneyRepository.sumAmountByUserId(1L)).thenReturn(BigDecimal.valueOf(1000));
+
+		Optional<BalanceDriftReport> drift = userBalanceService.reconcile(1L);
+
+		assertTrue(drift.isPresent());
+		assertEquals(BigDecimal.valueOf(2000), drift.get().getLedgerExpense());
+		assertEquals(BigDecimal.valueOf(2500), drift.get().getActualExpense());
+		assertEquals(BigDecimal.valueOf(2500), balance.getTotalExpense());
+	}
+
+	@Test
+	void testApplyDelta_UnknownUser() {
+		when(userBalanceRepository.findByUserIdForUpdate(99L)).thenReturn(Optional.empty());
+		when(userRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
+
+		assertThrows(ResourceNotFoundException.class,
+				() -> userBalanceService.applyExpenseDelta(99L, BigDecimal.TEN));
+		verify(userBalanceRepository, never()).save(any(UserBalance.class));
+	}
+
+}
@@ -23,9 +23,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.monexel.expensetracker.entity.User;
 import com.monexel.expensetracker.exception.ResourceNotFoundException;
+import com.monexel.expensetracker.jwtutils.TokenRevocationRegistry;
 import com.monexel.expensetracker.repository.UserRepository;
 import com.monexel.expensetracker.request.UserRequest;
 import com.monexel.expensetracker.response.UserResponse;
+import com.monexel.expensetracker.service.UserDetailsCache;
 import com.monexel.expensetracker.service.UserServiceImpl;
 
 
@@ -36,6 +38,12 @@ public class UserServiceImplTest {
 	@Mock
 	private PasswordEncoder  passwordEncoder;
 
+	@Mock
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -135,6 +143,8 @@ public class UserServiceImplTest {
         assertEquals("Updated", response.getName());
         assertEquals("updated@example.com", response.getEmail());
         verify(userRepository, times(1)).save(existingUser);
+        verify(tokenRevocationRegistry, times(1)).revokeTokens(1L);
+        verify(userDetailsCache, times(1)).evict("john@example.com");
     }
 
     @Test
@@ -146,17 +156,19 @@ public class UserServiceImplTest {
     }
     @Test
     void testDeleteUser_Success() {
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(getSampleUser()));
         doNothing().when(userRepository).deleteById(1L);
 
         userService.deleteUser(1L);
 
         verify(userRepository, times(1)).deleteById(1L);
+        verify(tokenRevocationRegistry, times(1)).revokeTokens(1L);
+        verify(userDetailsCache, times(1)).evict("john@example.com");
     }
 
     @Test
     void testDeleteUser_NotFound() {
-        when(userRepository.existsById(1L)).thenReturn(false);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser(1L));
     }
@@ -188,6 +200,8 @@ public class UserServiceImplTest {
 
         assertEquals("Password updated successfully!", result);
         verify(userRepository, times(1)).save(user);
+        verify(tokenRevocationRegistry, times(1)).revokeTokens(1L);
+        verify(userDetailsCache, times(1)).evict("john@example.com");
     }
 
     @Test